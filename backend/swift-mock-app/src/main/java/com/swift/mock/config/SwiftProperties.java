@@ -3,6 +3,8 @@ package com.swift.mock.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
 /**
  * Configuration properties for SWIFT mock system
  */
@@ -15,6 +17,9 @@ public class SwiftProperties {
     private String ourBic;
     private String defaultReceiverBic;
     private String trmsBaseUrl;
+    private int trmsLookupBatchSize = 500;
+    private final Reconciliation reconciliation = new Reconciliation();
+    private final Matching matching = new Matching();
 
     public String getRedemptionReportsDir() {
         return redemptionReportsDir;
@@ -55,4 +60,103 @@ public class SwiftProperties {
     public void setTrmsBaseUrl(String trmsBaseUrl) {
         this.trmsBaseUrl = trmsBaseUrl;
     }
+
+    public int getTrmsLookupBatchSize() {
+        return trmsLookupBatchSize;
+    }
+
+    public void setTrmsLookupBatchSize(int trmsLookupBatchSize) {
+        this.trmsLookupBatchSize = trmsLookupBatchSize;
+    }
+
+    public Reconciliation getReconciliation() {
+        return reconciliation;
+    }
+
+    public Matching getMatching() {
+        return matching;
+    }
+
+    public static class Reconciliation {
+
+        /** Shards messages are split into; each shard runs on its own virtual thread */
+        private int shards = 16;
+
+        /** Lookup calls to TRMS in flight at once across all shards */
+        private int trmsMaxConcurrentRequests = 4;
+
+        /** How often messages changed since their last reconciliation are reconciled; 0 disables */
+        private Duration incrementalInterval = Duration.ofSeconds(2);
+
+        public int getShards() {
+            return shards;
+        }
+
+        public void setShards(int shards) {
+            this.shards = shards;
+        }
+
+        public int getTrmsMaxConcurrentRequests() {
+            return trmsMaxConcurrentRequests;
+        }
+
+        public void setTrmsMaxConcurrentRequests(int trmsMaxConcurrentRequests) {
+            this.trmsMaxConcurrentRequests = trmsMaxConcurrentRequests;
+        }
+
+        public Duration getIncrementalInterval() {
+            return incrementalInterval;
+        }
+
+        public void setIncrementalInterval(Duration incrementalInterval) {
+            this.incrementalInterval = incrementalInterval;
+        }
+    }
+
+    public static class Matching {
+
+        /** Largest relative amount difference for a candidate, e.g. 0.01 for 1% */
+        private double amountTolerance = 0.01;
+
+        /** Value dates this many days either side of the message's are also searched */
+        private int valueDateWindowDays = 1;
+
+        /** Candidates returned per message, best first */
+        private int maxCandidates = 5;
+
+        /** Candidates scoring below this (0 to 1) are dropped */
+        private double minScore = 0.5;
+
+        public double getAmountTolerance() {
+            return amountTolerance;
+        }
+
+        public void setAmountTolerance(double amountTolerance) {
+            this.amountTolerance = amountTolerance;
+        }
+
+        public int getValueDateWindowDays() {
+            return valueDateWindowDays;
+        }
+
+        public void setValueDateWindowDays(int valueDateWindowDays) {
+            this.valueDateWindowDays = valueDateWindowDays;
+        }
+
+        public int getMaxCandidates() {
+            return maxCandidates;
+        }
+
+        public void setMaxCandidates(int maxCandidates) {
+            this.maxCandidates = maxCandidates;
+        }
+
+        public double getMinScore() {
+            return minScore;
+        }
+
+        public void setMinScore(double minScore) {
+            this.minScore = minScore;
+        }
+    }
 }
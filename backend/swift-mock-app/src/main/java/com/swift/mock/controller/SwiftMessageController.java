@@ -98,6 +98,40 @@ public class SwiftMessageController {
         return ResponseEntity.ok(messages);
     }
 
+    @GetMapping("/unmatched/candidates")
+    @Operation(summary = "Get ranked TRMS transaction candidates for messages without a transaction ID")
+    public ResponseEntity<MatchCandidatesResult> getMatchCandidates(
+            @RequestParam(required = false) String accountId) {
+        logger.info("GET /api/v1/swift/messages/unmatched/candidates - account: {}", accountId);
+        try {
+            return ResponseEntity.ok(swiftMessageService.findMatchCandidates(accountId));
+        } catch (Exception e) {
+            logger.error("Error finding match candidates: {}", e.getMessage());
+            throw new RuntimeException("Failed to find match candidates: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/{messageId}/candidates")
+    @Operation(summary = "Get ranked TRMS transaction candidates for a SWIFT message")
+    public ResponseEntity<MatchCandidatesResult> getMessageMatchCandidates(@PathVariable String messageId) {
+        logger.info("GET /api/v1/swift/messages/{}/candidates", messageId);
+        try {
+            return swiftMessageService.findMatchCandidatesForMessage(messageId)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+        } catch (Exception e) {
+            logger.error("Error finding match candidates for message {}: {}", messageId, e.getMessage());
+            throw new RuntimeException("Failed to find match candidates: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/reconciliation-status")
+    @Operation(summary = "Get live reconciliation counts without running a reconciliation")
+    public ResponseEntity<ReconciliationStatus> getReconciliationStatus() {
+        logger.debug("GET /api/v1/swift/messages/reconciliation-status");
+        return ResponseEntity.ok(swiftMessageService.getReconciliationStatus());
+    }
+
     @PostMapping("/reconcile")
     @Operation(summary = "Reconcile SWIFT messages with transactions")
     public ResponseEntity<ReconciliationResult> reconcileMessages(@RequestBody ReconciliationRequest request) {
@@ -0,0 +1,67 @@
+package com.swift.mock.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranked TRMS transaction candidates for SWIFT messages without a transaction ID
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchCandidatesResult {
+
+    private int messageCount;
+    private int matchedCount;
+    private long indexedTransactions;
+    private long elapsedMillis;
+
+    @Builder.Default
+    private List<MessageCandidates> messages = new ArrayList<>();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MessageCandidates {
+        private String messageId;
+        private String accountId;
+        private BigDecimal amount;
+        private String currency;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate valueDate;
+        private String reference;
+
+        @Builder.Default
+        private List<Candidate> candidates = new ArrayList<>();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Candidate {
+        private String transactionId;
+        private double score;        // 0 to 1, weighted from the parts below
+        private double amountScore;
+        private double referenceScore;
+        private double dateScore;
+        private BigDecimal amount;
+        private String currency;
+        private String fromAccount;
+        private String toAccount;
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        private LocalDate valueDate;
+        private String reference;
+        private String status;
+    }
+}
@@ -18,4 +18,20 @@ public class ReconciliationRequest {
     private String startDate;
     private String endDate;
     private boolean autoReconcile;
+
+    /**
+     * Only check messages sent or changed since they were last reconciled. The message
+     * lists cover those messages; the counts are the live totals of all messages.
+     */
+    private boolean incremental;
+
+    /** How TRMS transactions are obtained; defaults to LOOKUP */
+    private Mode mode;
+
+    public enum Mode {
+        /** Batched lookups of the referenced transaction IDs */
+        LOOKUP,
+        /** One streamed TRMS snapshot for the value-date range, joined in memory */
+        HASH_JOIN
+    }
 }
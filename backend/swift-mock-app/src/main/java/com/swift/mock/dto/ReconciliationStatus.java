@@ -0,0 +1,32 @@
+package com.swift.mock.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Live reconciliation counters, as a full reconciliation run would report them.
+ * Unchecked messages changed since they were last reconciled and are not yet
+ * counted as reconciled or unreconciled.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationStatus {
+
+    private int totalMessages;
+    private int reconciledCount;
+    private int unreconciledCount;
+    private int pendingCount;
+    private int uncheckedCount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime lastReconciledAt;
+
+    private String summary;
+}
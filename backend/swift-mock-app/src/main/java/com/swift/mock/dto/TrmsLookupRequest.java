@@ -0,0 +1,20 @@
+package com.swift.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request body of the TRMS batch transaction lookup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrmsLookupRequest {
+
+    private List<String> transactionIds;
+}
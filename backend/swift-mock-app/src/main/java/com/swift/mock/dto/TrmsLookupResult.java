@@ -0,0 +1,22 @@
+package com.swift.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response of the TRMS batch transaction lookup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrmsLookupResult {
+
+    private Integer requested;
+    private List<TrmsTransaction> transactions;
+    private List<String> notFound;
+}
@@ -0,0 +1,116 @@
+package com.swift.mock.reconciliation;
+
+import com.swift.mock.dto.TrmsTransaction;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * TRMS transactions grouped by (account, currency, value date). A transaction sits in
+ * the blocks of both its accounts, so a message only has to be scored against the few
+ * transactions sharing its block instead of the whole book. Reference text is reduced
+ * to sorted character bigrams once, when a transaction is added.
+ */
+final class BlockingIndex {
+
+    record Entry(TrmsTransaction transaction, LocalDate valueDate, int[] referenceBigrams) {
+    }
+
+    private record BlockKey(String accountId, String currency, LocalDate valueDate) {
+    }
+
+    private final Map<BlockKey, List<Entry>> blocks = new HashMap<>();
+    private long size;
+
+    /**
+     * Add a transaction; ones without value date, currency or amount cannot be matched and are skipped
+     */
+    void add(TrmsTransaction transaction) {
+        if (transaction.getValueDate() == null || transaction.getCurrency() == null
+                || transaction.getAmount() == null) {
+            return;
+        }
+        LocalDate valueDate = transaction.getValueDate().toLocalDate();
+        Entry entry = new Entry(transaction, valueDate,
+                bigrams(transaction.getReference(), transaction.getDescription()));
+        addTo(transaction.getFromAccount(), transaction.getCurrency(), valueDate, entry);
+        if (!Objects.equals(transaction.getFromAccount(), transaction.getToAccount())) {
+            addTo(transaction.getToAccount(), transaction.getCurrency(), valueDate, entry);
+        }
+        size++;
+    }
+
+    List<Entry> block(String accountId, String currency, LocalDate valueDate) {
+        return blocks.getOrDefault(new BlockKey(accountId, currency, valueDate), List.of());
+    }
+
+    long size() {
+        return size;
+    }
+
+    private void addTo(String accountId, String currency, LocalDate valueDate, Entry entry) {
+        if (accountId != null) {
+            blocks.computeIfAbsent(new BlockKey(accountId, currency, valueDate), key -> new ArrayList<>(2)).add(entry);
+        }
+    }
+
+    /**
+     * Distinct bigrams of the letters and digits of {@code texts}, upper-cased and
+     * encoded as {@code first << 16 | second}, in ascending order
+     */
+    static int[] bigrams(String... texts) {
+        int[] result = new int[16];
+        int count = 0;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            char previous = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = Character.toUpperCase(text.charAt(i));
+                if (!Character.isLetterOrDigit(c)) {
+                    continue;
+                }
+                if (previous != 0) {
+                    if (count == result.length) {
+                        result = Arrays.copyOf(result, count * 2);
+                    }
+                    result[count++] = previous << 16 | c;
+                }
+                previous = c;
+            }
+        }
+        Arrays.sort(result, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+
+    /**
+     * Dice coefficient of two sorted bigram sets: 1 for the same text, 0 for nothing in common
+     */
+    static double similarity(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return 2.0 * common / (a.length + b.length);
+    }
+}
@@ -0,0 +1,71 @@
+package com.swift.mock.reconciliation;
+
+import com.swift.mock.config.SwiftProperties;
+import com.swift.mock.dto.ReconciliationRequest;
+import com.swift.mock.dto.ReconciliationResult;
+import com.swift.mock.service.MockSwiftDataService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconciles messages sent or changed since their last reconciliation in the
+ * background, without auto-reconciling, so the live counters stay current and the
+ * status endpoint never has to trigger a run. Idle intervals cost one counter read.
+ */
+@Component
+public class IncrementalReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalReconciler.class);
+
+    private final MockSwiftDataService dataService;
+    private final ReconciliationEngine reconciliationEngine;
+    private final ScheduledExecutorService scheduler;
+
+    public IncrementalReconciler(MockSwiftDataService dataService, ReconciliationEngine reconciliationEngine,
+                                 SwiftProperties swiftProperties) {
+        this.dataService = dataService;
+        this.reconciliationEngine = reconciliationEngine;
+
+        Duration interval = swiftProperties.getReconciliation().getIncrementalInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            this.scheduler = null;
+            logger.info("Background incremental reconciliation disabled");
+            return;
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "swift-incremental-reconciliation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reconcileChanged, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reconcileChanged() {
+        if (dataService.getChangedMessageCount() == 0) {
+            return;
+        }
+        try {
+            ReconciliationResult result = reconciliationEngine.reconcileChanged(
+                    ReconciliationRequest.builder().incremental(true).build());
+            logger.debug("Incremental reconciliation: {}", result.getSummary());
+        } catch (RuntimeException e) {
+            // Keep the scheduled task alive; the messages are retried on the next run
+            logger.warn("Incremental reconciliation failed: {}", e.getMessage());
+        }
+    }
+}
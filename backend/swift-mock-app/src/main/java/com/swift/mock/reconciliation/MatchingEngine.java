@@ -0,0 +1,179 @@
+package com.swift.mock.reconciliation;
+
+import com.swift.mock.config.SwiftProperties;
+import com.swift.mock.dto.MatchCandidatesResult;
+import com.swift.mock.dto.TrmsTransaction;
+import com.swift.mock.model.SwiftMessage;
+import com.swift.mock.service.MockSwiftDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Proposes TRMS transactions for SWIFT messages that carry no transaction ID. The TRMS
+ * snapshot for the messages' value dates is streamed once into a {@link BlockingIndex};
+ * each message is then scored only against its own blocks, on amount within tolerance,
+ * reference similarity and value-date distance. Transactions already linked to a
+ * message are not proposed.
+ */
+@Service
+public class MatchingEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchingEngine.class);
+
+    private static final double AMOUNT_WEIGHT = 0.5;
+    private static final double REFERENCE_WEIGHT = 0.35;
+    private static final double DATE_WEIGHT = 0.15;
+
+    private final MockSwiftDataService dataService;
+    private final TrmsSnapshotClient trmsSnapshotClient;
+    private final SwiftProperties.Matching properties;
+
+    public MatchingEngine(MockSwiftDataService dataService, TrmsSnapshotClient trmsSnapshotClient,
+                          SwiftProperties swiftProperties) {
+        this.dataService = dataService;
+        this.trmsSnapshotClient = trmsSnapshotClient;
+        this.properties = swiftProperties.getMatching();
+    }
+
+    public MatchCandidatesResult findCandidates(List<SwiftMessage> messages) {
+        long started = System.nanoTime();
+        int window = Math.max(0, properties.getValueDateWindowDays());
+
+        List<SwiftMessage> matchable = messages.stream().filter(MatchingEngine::isMatchable).toList();
+        BlockingIndex index = matchable.isEmpty() ? new BlockingIndex() : buildIndex(matchable, window);
+
+        // The index is read-only from here on
+        List<MatchCandidatesResult.MessageCandidates> results = messages.parallelStream()
+                .map(message -> candidatesFor(message, index, window))
+                .toList();
+        int matched = (int) results.stream().filter(result -> !result.getCandidates().isEmpty()).count();
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Matched {} of {} messages against {} indexed TRMS transactions in {} ms",
+                matched, messages.size(), index.size(), elapsedMillis);
+
+        return MatchCandidatesResult.builder()
+                .messageCount(messages.size())
+                .matchedCount(matched)
+                .indexedTransactions(index.size())
+                .elapsedMillis(elapsedMillis)
+                .messages(results)
+                .build();
+    }
+
+    private BlockingIndex buildIndex(List<SwiftMessage> messages, int window) {
+        LocalDate from = null;
+        LocalDate to = null;
+        for (SwiftMessage message : messages) {
+            LocalDate valueDate = message.getValueDate();
+            from = from == null || valueDate.isBefore(from) ? valueDate : from;
+            to = to == null || valueDate.isAfter(to) ? valueDate : to;
+        }
+
+        Set<String> linked = new HashSet<>();
+        for (SwiftMessage message : dataService.getAllMessages()) {
+            if (message.getTransactionId() != null) {
+                linked.add(message.getTransactionId());
+            }
+        }
+
+        BlockingIndex index = new BlockingIndex();
+        trmsSnapshotClient.scan(from.minusDays(window), to.plusDays(window), transaction -> {
+            if (!linked.contains(transaction.getTransactionId())) {
+                index.add(transaction);
+            }
+            return true;
+        });
+        return index;
+    }
+
+    private MatchCandidatesResult.MessageCandidates candidatesFor(SwiftMessage message, BlockingIndex index,
+                                                                  int window) {
+        List<MatchCandidatesResult.Candidate> candidates = new ArrayList<>();
+        if (isMatchable(message)) {
+            int[] referenceBigrams = BlockingIndex.bigrams(message.getReference(), message.getRemittanceInfo());
+            for (int offset = -window; offset <= window; offset++) {
+                double dateScore = 1.0 - (double) Math.abs(offset) / (window + 1);
+                for (BlockingIndex.Entry entry : index.block(message.getAccountId(), message.getCurrency(),
+                        message.getValueDate().plusDays(offset))) {
+                    MatchCandidatesResult.Candidate candidate = score(message, referenceBigrams, entry, dateScore);
+                    if (candidate != null) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(MatchCandidatesResult.Candidate::getScore).reversed());
+            int limit = Math.max(1, properties.getMaxCandidates());
+            if (candidates.size() > limit) {
+                candidates = new ArrayList<>(candidates.subList(0, limit));
+            }
+        }
+
+        return MatchCandidatesResult.MessageCandidates.builder()
+                .messageId(message.getId())
+                .accountId(message.getAccountId())
+                .amount(message.getAmount())
+                .currency(message.getCurrency())
+                .valueDate(message.getValueDate())
+                .reference(message.getReference())
+                .candidates(candidates)
+                .build();
+    }
+
+    /**
+     * Score one candidate, or null if its amount is outside the tolerance or the score is too low
+     */
+    private MatchCandidatesResult.Candidate score(SwiftMessage message, int[] referenceBigrams,
+                                                  BlockingIndex.Entry entry, double dateScore) {
+        TrmsTransaction transaction = entry.transaction();
+        double difference = relativeDifference(message.getAmount(), transaction.getAmount());
+        double tolerance = properties.getAmountTolerance();
+        if (difference > tolerance) {
+            return null;
+        }
+        double amountScore = tolerance > 0 ? 1.0 - difference / tolerance : 1.0;
+        double referenceScore = BlockingIndex.similarity(referenceBigrams, entry.referenceBigrams());
+        double score = AMOUNT_WEIGHT * amountScore + REFERENCE_WEIGHT * referenceScore + DATE_WEIGHT * dateScore;
+        if (score < properties.getMinScore()) {
+            return null;
+        }
+
+        return MatchCandidatesResult.Candidate.builder()
+                .transactionId(transaction.getTransactionId())
+                .score(round(score))
+                .amountScore(round(amountScore))
+                .referenceScore(round(referenceScore))
+                .dateScore(round(dateScore))
+                .amount(transaction.getAmount())
+                .currency(transaction.getCurrency())
+                .fromAccount(transaction.getFromAccount())
+                .toAccount(transaction.getToAccount())
+                .valueDate(entry.valueDate())
+                .reference(transaction.getReference())
+                .status(transaction.getStatus())
+                .build();
+    }
+
+    private static double relativeDifference(BigDecimal a, BigDecimal b) {
+        BigDecimal scale = a.abs().max(b.abs());
+        if (scale.signum() == 0) {
+            return 0;
+        }
+        return a.subtract(b).abs().divide(scale, MathContext.DECIMAL64).doubleValue();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+
+    private static boolean isMatchable(SwiftMessage message) {
+        return message.getAccountId() != null && message.getCurrency() != null
+                && message.getAmount() != null && message.getValueDate() != null;
+    }
+}
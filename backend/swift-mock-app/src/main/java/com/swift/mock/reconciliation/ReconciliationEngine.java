@@ -0,0 +1,347 @@
+package com.swift.mock.reconciliation;
+
+import com.swift.mock.config.SwiftProperties;
+import com.swift.mock.dto.ReconciliationRequest;
+import com.swift.mock.dto.ReconciliationResult;
+import com.swift.mock.dto.ReconciliationStatus;
+import com.swift.mock.dto.TrmsTransaction;
+import com.swift.mock.model.MessageStatus;
+import com.swift.mock.model.SwiftMessage;
+import com.swift.mock.service.MockSwiftDataService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reconciles SWIFT messages against TRMS transactions in parallel. Messages are sharded
+ * by transaction ID, so every message of a transaction lands in the same shard and each
+ * transaction is fetched once. Each shard runs on its own virtual thread with its own
+ * {@link ShardResult}; results are merged once all shards are done. Transactions come
+ * from batched TRMS lookups or, in hash-join mode, from one streamed TRMS snapshot.
+ * Every run records its outcomes in {@link MockSwiftDataService}, which keeps live
+ * counters and the set of messages changed since, for incremental runs. Runs are
+ * serialized, and an outcome is dropped if its message changed after the run read it.
+ */
+@Service
+public class ReconciliationEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReconciliationEngine.class);
+
+    private final MockSwiftDataService dataService;
+    private final TrmsLookupClient trmsLookupClient;
+    private final TrmsSnapshotClient trmsSnapshotClient;
+    private final SwiftProperties swiftProperties;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public ReconciliationEngine(MockSwiftDataService dataService, TrmsLookupClient trmsLookupClient,
+                                TrmsSnapshotClient trmsSnapshotClient, SwiftProperties swiftProperties) {
+        this.dataService = dataService;
+        this.trmsLookupClient = trmsLookupClient;
+        this.trmsSnapshotClient = trmsSnapshotClient;
+        this.swiftProperties = swiftProperties;
+    }
+
+    /**
+     * Where a shard gets the TRMS transactions for its transaction IDs
+     */
+    @FunctionalInterface
+    private interface TransactionSource {
+        Map<String, TrmsTransaction> fetch(Collection<String> transactionIds);
+    }
+
+    public ReconciliationResult reconcile(List<SwiftMessage> messages, ReconciliationRequest request) {
+        // A full and an incremental run must not reconcile the same messages at once
+        runLock.lock();
+        try {
+            return reconcileExclusively(messages, request);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ReconciliationResult reconcileExclusively(List<SwiftMessage> messages, ReconciliationRequest request) {
+        long started = System.nanoTime();
+        boolean autoReconcile = request.isAutoReconcile();
+        ReconciliationRequest.Mode mode = request.getMode() != null ? request.getMode() : ReconciliationRequest.Mode.LOOKUP;
+        TransactionSource source = mode == ReconciliationRequest.Mode.HASH_JOIN
+                ? snapshotSource(messages, request)
+                : trmsLookupClient::fetchTransactions;
+        List<List<SwiftMessage>> shards = partition(messages);
+
+        List<ShardResult> results = new ArrayList<>(shards.size());
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("swift-reconciliation-", 0).factory())) {
+            List<Future<ShardResult>> futures = new ArrayList<>(shards.size());
+            for (List<SwiftMessage> shard : shards) {
+                futures.add(executor.submit(() -> reconcileShard(shard, source, autoReconcile)));
+            }
+            for (Future<ShardResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Reconciliation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Reconciliation shard failed: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        ReconciliationResult result = merge(results);
+        int stale = results.stream().mapToInt(shard -> shard.stale).sum();
+        logger.info("Reconciled {} messages in {} shards ({}) in {} ms, {} changed during the run",
+                messages.size(), shards.size(), mode, (System.nanoTime() - started) / 1_000_000, stale);
+        return result;
+    }
+
+    /**
+     * Reconcile only the messages sent or changed since they were last reconciled,
+     * optionally limited to one account. Message lists and issues cover the checked
+     * messages; the counts are the live totals of all messages.
+     */
+    public ReconciliationResult reconcileChanged(ReconciliationRequest request) {
+        List<String> changedIds = dataService.drainChangedMessageIds();
+        List<SwiftMessage> changed = new ArrayList<>(changedIds.size());
+        List<String> otherAccounts = new ArrayList<>();
+        for (String messageId : changedIds) {
+            dataService.getMessage(messageId).ifPresent(message -> {
+                if (request.getAccountId() == null || request.getAccountId().equals(message.getAccountId())) {
+                    changed.add(message);
+                } else {
+                    otherAccounts.add(messageId);
+                }
+            });
+        }
+        if (!otherAccounts.isEmpty()) {
+            dataService.markChanged(otherAccounts);
+        }
+
+        ReconciliationResult result;
+        try {
+            result = changed.isEmpty() ? ReconciliationResult.builder().build() : reconcile(changed, request);
+        } catch (RuntimeException e) {
+            // Leave the messages for the next run
+            dataService.markChanged(changed.stream().map(SwiftMessage::getId).toList());
+            throw e;
+        }
+        ReconciliationStatus status = dataService.getReconciliationStatus();
+        result.setTotalMessages(status.getTotalMessages());
+        result.setReconciledCount(status.getReconciledCount());
+        result.setUnreconciledCount(status.getUnreconciledCount());
+        result.setPendingCount(status.getPendingCount());
+        result.setSummary(String.format("Checked %d changed messages. %s", changed.size(), status.getSummary()));
+        return result;
+    }
+
+    /**
+     * Hash join: one streamed snapshot of the referenced transactions in the request's
+     * value-date range, indexed by ID before the shards start. Transactions outside the
+     * range are fetched with batched lookups, so a narrow range only costs extra calls.
+     */
+    private TransactionSource snapshotSource(List<SwiftMessage> messages, ReconciliationRequest request) {
+        Set<String> wanted = new HashSet<>();
+        for (SwiftMessage message : messages) {
+            if (message.getStatus() != MessageStatus.RECONCILED && hasTransactionId(message)) {
+                wanted.add(message.getTransactionId());
+            }
+        }
+        Map<String, TrmsTransaction> index = trmsSnapshotClient.loadTransactions(wanted,
+                parseDate(request.getStartDate()), parseDate(request.getEndDate()));
+
+        return transactionIds -> {
+            Map<String, TrmsTransaction> found = new HashMap<>(transactionIds.size() * 2);
+            List<String> misses = new ArrayList<>();
+            for (String transactionId : transactionIds) {
+                TrmsTransaction transaction = index.get(transactionId);
+                if (transaction != null) {
+                    found.put(transactionId, transaction);
+                } else {
+                    misses.add(transactionId);
+                }
+            }
+            if (!misses.isEmpty()) {
+                found.putAll(trmsLookupClient.fetchTransactions(misses));
+            }
+            return found;
+        };
+    }
+
+    private static LocalDate parseDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date '" + date + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private List<List<SwiftMessage>> partition(List<SwiftMessage> messages) {
+        int shardCount = Math.max(1, Math.min(swiftProperties.getReconciliation().getShards(), messages.size()));
+        List<List<SwiftMessage>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>(messages.size() / shardCount + 1));
+        }
+        for (SwiftMessage message : messages) {
+            shards.get(Math.floorMod(shardKey(message).hashCode(), shardCount)).add(message);
+        }
+        return shards;
+    }
+
+    /**
+     * Transaction ID, or the account for messages not linked to a transaction
+     */
+    private static String shardKey(SwiftMessage message) {
+        if (hasTransactionId(message)) {
+            return message.getTransactionId();
+        }
+        return message.getAccountId() != null ? message.getAccountId() : String.valueOf(message.getId());
+    }
+
+    private ShardResult reconcileShard(List<SwiftMessage> messages, TransactionSource source, boolean autoReconcile) {
+        ShardResult shard = new ShardResult();
+        shard.total = messages.size();
+        for (SwiftMessage message : messages) {
+            shard.readVersions.put(message.getId(), dataService.getMessageVersion(message.getId()));
+        }
+
+        Set<String> transactionIds = new LinkedHashSet<>();
+        for (SwiftMessage message : messages) {
+            if (message.getStatus() != MessageStatus.RECONCILED && hasTransactionId(message)) {
+                transactionIds.add(message.getTransactionId());
+            }
+        }
+        Map<String, TrmsTransaction> trmsTransactions = source.fetch(transactionIds);
+
+        for (SwiftMessage message : messages) {
+            reconcileMessage(message, trmsTransactions, autoReconcile, shard);
+        }
+
+        // Messages changed since they were read keep their new state and are checked again
+        shard.reconciled.removeIf(message -> !record(message, true, shard));
+        shard.unreconciled.removeIf(message -> !record(message, false, shard));
+        for (SwiftMessage message : messages) {
+            if (message.getStatus() == MessageStatus.PENDING || message.getStatus() == MessageStatus.SENT) {
+                shard.pending++;
+            }
+        }
+        return shard;
+    }
+
+    private boolean record(SwiftMessage message, boolean matched, ShardResult shard) {
+        boolean recorded = dataService.recordReconciliation(message, shard.readVersions.get(message.getId()),
+                shard.statusChanges.get(message.getId()), matched, shard.recheck.contains(message.getId()));
+        if (!recorded) {
+            // Left out of the result entirely, the next run reports on the changed message
+            shard.issues.remove(message.getId());
+            shard.stale++;
+        }
+        return recorded;
+    }
+
+    private static void reconcileMessage(SwiftMessage message, Map<String, TrmsTransaction> trmsTransactions,
+                                         boolean autoReconcile, ShardResult shard) {
+        // Skip already reconciled messages
+        if (message.getStatus() == MessageStatus.RECONCILED) {
+            shard.reconciled.add(message);
+            return;
+        }
+
+        if (!hasTransactionId(message)) {
+            shard.unreconciled.add(message);
+            shard.issues.put(message.getId(), String.format("Message %s has no transaction ID", message.getId()));
+            return;
+        }
+
+        TrmsTransaction trmsTransaction = trmsTransactions.get(message.getTransactionId());
+        if (trmsTransaction == null) {
+            // The transaction may be booked later, so this is not a final outcome
+            shard.statusChanges.put(message.getId(), MessageStatus.UNRECONCILED);
+            shard.recheck.add(message.getId());
+            shard.unreconciled.add(message);
+            shard.issues.put(message.getId(), String.format("Message %s: Transaction %s not found in TRMS",
+                    message.getId(), message.getTransactionId()));
+            return;
+        }
+
+        // Validate amount, currency, and account match
+        boolean amountMatch = message.getAmount().compareTo(trmsTransaction.getAmount()) == 0;
+        boolean currencyMatch = message.getCurrency().equals(trmsTransaction.getCurrency());
+        boolean accountMatch = message.getAccountId().equals(trmsTransaction.getFromAccount())
+                || message.getAccountId().equals(trmsTransaction.getToAccount());
+
+        if (amountMatch && currencyMatch && accountMatch) {
+            if (autoReconcile) {
+                shard.statusChanges.put(message.getId(), MessageStatus.RECONCILED);
+            }
+            shard.reconciled.add(message);
+            logger.debug("Message {} successfully reconciled with transaction {}",
+                    message.getId(), message.getTransactionId());
+            return;
+        }
+
+        shard.statusChanges.put(message.getId(), MessageStatus.UNRECONCILED);
+        shard.unreconciled.add(message);
+
+        String mismatchDetails = String.format(
+                "Message %s: Mismatch with transaction %s - Amount: %s, Currency: %s, Account: %s",
+                message.getId(),
+                message.getTransactionId(),
+                amountMatch ? "OK" : "FAIL (SWIFT: " + message.getAmount() + ", TRMS: " + trmsTransaction.getAmount() + ")",
+                currencyMatch ? "OK" : "FAIL (SWIFT: " + message.getCurrency() + ", TRMS: " + trmsTransaction.getCurrency() + ")",
+                accountMatch ? "OK" : "FAIL (SWIFT account not in transaction)"
+        );
+        shard.issues.put(message.getId(), mismatchDetails);
+        logger.warn("Reconciliation failed for message {}: {}", message.getId(), mismatchDetails);
+    }
+
+    private static ReconciliationResult merge(List<ShardResult> shards) {
+        int total = 0;
+        int pending = 0;
+        int reconciledCount = 0;
+        int unreconciledCount = 0;
+        int issueCount = 0;
+        for (ShardResult shard : shards) {
+            total += shard.total;
+            pending += shard.pending;
+            reconciledCount += shard.reconciled.size();
+            unreconciledCount += shard.unreconciled.size();
+            issueCount += shard.issues.size();
+        }
+
+        List<SwiftMessage> reconciled = new ArrayList<>(reconciledCount);
+        List<SwiftMessage> unreconciled = new ArrayList<>(unreconciledCount);
+        List<String> issues = new ArrayList<>(issueCount);
+        for (ShardResult shard : shards) {
+            reconciled.addAll(shard.reconciled);
+            unreconciled.addAll(shard.unreconciled);
+            issues.addAll(shard.issues.values());
+        }
+
+        String summary = String.format("Reconciled: %d, Unreconciled: %d, Pending: %d",
+                reconciledCount, unreconciledCount, pending);
+
+        return ReconciliationResult.builder()
+                .totalMessages(total)
+                .reconciledCount(reconciledCount)
+                .unreconciledCount(unreconciledCount)
+                .pendingCount(pending)
+                .reconciledMessages(reconciled)
+                .unreconciledMessages(unreconciled)
+                .issues(issues)
+                .summary(summary)
+                .build();
+    }
+
+    private static boolean hasTransactionId(SwiftMessage message) {
+        return message.getTransactionId() != null && !message.getTransactionId().isEmpty();
+    }
+}
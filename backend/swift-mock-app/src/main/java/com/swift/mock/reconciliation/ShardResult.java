@@ -0,0 +1,34 @@
+package com.swift.mock.reconciliation;
+
+import com.swift.mock.model.MessageStatus;
+import com.swift.mock.model.SwiftMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome of reconciling one shard. Only the shard's own thread writes to it; the
+ * engine reads it after the shard has finished.
+ */
+final class ShardResult {
+
+    final List<SwiftMessage> reconciled = new ArrayList<>();
+    final List<SwiftMessage> unreconciled = new ArrayList<>();
+    /** Issue of each unreconciled message, by message ID, in the order found */
+    final Map<String, String> issues = new LinkedHashMap<>();
+    /** Version of each message when the shard read it, by message ID */
+    final Map<String, Long> readVersions = new HashMap<>();
+    /** New status of the messages whose status must change, by message ID */
+    final Map<String, MessageStatus> statusChanges = new HashMap<>();
+    /** Messages whose transaction is not in TRMS (yet); later runs check them again */
+    final Set<String> recheck = new HashSet<>();
+    int total;
+    int pending;
+    /** Messages changed while the shard ran; their outcome was dropped */
+    int stale;
+}
@@ -0,0 +1,89 @@
+package com.swift.mock.reconciliation;
+
+import com.swift.mock.config.SwiftProperties;
+import com.swift.mock.dto.TrmsLookupRequest;
+import com.swift.mock.dto.TrmsLookupResult;
+import com.swift.mock.dto.TrmsTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fetches TRMS transactions through the batch lookup endpoint. Callers on any number
+ * of threads share one permit pool, so at most the configured number of lookups is in
+ * flight against TRMS at a time.
+ */
+@Component
+public class TrmsLookupClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrmsLookupClient.class);
+
+    /** Most IDs the TRMS lookup endpoint accepts per call */
+    private static final int TRMS_MAX_LOOKUP_SIZE = 1000;
+
+    private final SwiftProperties swiftProperties;
+    private final RestTemplate restTemplate;
+    private final Semaphore permits;
+
+    public TrmsLookupClient(SwiftProperties swiftProperties) {
+        this.swiftProperties = swiftProperties;
+        this.restTemplate = new RestTemplate();
+        this.permits = new Semaphore(Math.max(1, swiftProperties.getReconciliation().getTrmsMaxConcurrentRequests()), true);
+    }
+
+    /**
+     * Fetch transactions by ID, a chunk of IDs per call. IDs missing from the result do
+     * not exist in TRMS. Throws if a chunk cannot be fetched, so callers never mistake
+     * an unreachable TRMS for missing transactions.
+     */
+    public Map<String, TrmsTransaction> fetchTransactions(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return Map.of();
+        }
+        String trmsBaseUrl = swiftProperties.getTrmsBaseUrl();
+        if (trmsBaseUrl == null || trmsBaseUrl.isEmpty()) {
+            logger.warn("TRMS base URL not configured, skipping transaction fetch");
+            return Map.of();
+        }
+
+        String url = trmsBaseUrl + "/transactions/lookup";
+        int batchSize = Math.max(1, Math.min(swiftProperties.getTrmsLookupBatchSize(), TRMS_MAX_LOOKUP_SIZE));
+        List<String> ids = new ArrayList<>(transactionIds);
+        Map<String, TrmsTransaction> found = new HashMap<>(ids.size() * 2);
+        int chunks = 0;
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            chunks++;
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to call TRMS, "
+                        + (ids.size() - from) + " transactions not fetched", e);
+            }
+            try {
+                TrmsLookupResult result = restTemplate.postForObject(url,
+                        TrmsLookupRequest.builder().transactionIds(chunk).build(), TrmsLookupResult.class);
+                if (result != null && result.getTransactions() != null) {
+                    for (TrmsTransaction transaction : result.getTransactions()) {
+                        found.put(transaction.getTransactionId(), transaction);
+                    }
+                }
+            } catch (RestClientException e) {
+                logger.warn("Failed to fetch {} transactions from TRMS: {}", chunk.size(), e.getMessage());
+                throw new IllegalStateException("TRMS transaction lookup failed: " + e.getMessage(), e);
+            } finally {
+                permits.release();
+            }
+        }
+
+        logger.debug("Fetched {} of {} transactions from TRMS in {} calls", found.size(), ids.size(), chunks);
+        return found;
+    }
+}
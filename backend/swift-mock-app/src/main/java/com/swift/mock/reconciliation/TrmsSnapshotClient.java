@@ -0,0 +1,121 @@
+package com.swift.mock.reconciliation;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.swift.mock.config.SwiftProperties;
+import com.swift.mock.dto.TrmsTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Streams the TRMS transaction export (NDJSON). Records are parsed one at a time and
+ * handed to the caller, who keeps only what it needs, so memory follows the caller's
+ * index rather than the size of the export.
+ */
+@Component
+public class TrmsSnapshotClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrmsSnapshotClient.class);
+
+    private final SwiftProperties swiftProperties;
+    private final RestTemplate restTemplate;
+    private final ObjectReader transactionReader;
+
+    public TrmsSnapshotClient(SwiftProperties swiftProperties, ObjectMapper objectMapper) {
+        this.swiftProperties = swiftProperties;
+        this.restTemplate = new RestTemplate();
+        this.transactionReader = objectMapper.readerFor(TrmsTransaction.class);
+    }
+
+    /**
+     * Index the transactions in {@code wanted} whose value date is within
+     * {@code [valueDateFrom, valueDateTo]} (either bound optional). Returns an empty
+     * index if the snapshot cannot be loaded.
+     */
+    public Map<String, TrmsTransaction> loadTransactions(Set<String> wanted, LocalDate valueDateFrom,
+                                                         LocalDate valueDateTo) {
+        if (wanted.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, TrmsTransaction> index = new HashMap<>(wanted.size() * 2);
+        try {
+            scan(valueDateFrom, valueDateTo, transaction -> {
+                if (wanted.contains(transaction.getTransactionId())) {
+                    index.put(transaction.getTransactionId(), transaction);
+                }
+                // Every referenced transaction found; skip the rest of the export
+                return index.size() < wanted.size();
+            });
+            return index;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load TRMS transaction snapshot: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Stream the transactions whose value date is within {@code [valueDateFrom, valueDateTo]}
+     * (either bound optional) to {@code visitor}, one at a time, until it returns false.
+     * Returns the number of transactions read.
+     */
+    public long scan(LocalDate valueDateFrom, LocalDate valueDateTo, Predicate<TrmsTransaction> visitor) {
+        String trmsBaseUrl = swiftProperties.getTrmsBaseUrl();
+        if (trmsBaseUrl == null || trmsBaseUrl.isEmpty()) {
+            throw new IllegalStateException("TRMS base URL not configured");
+        }
+
+        UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(trmsBaseUrl)
+                .path("/export/transactions")
+                .queryParam("format", "ndjson");
+        if (valueDateFrom != null) {
+            uri.queryParam("valueDateFrom", valueDateFrom);
+        }
+        if (valueDateTo != null) {
+            uri.queryParam("valueDateTo", valueDateTo);
+        }
+
+        long started = System.nanoTime();
+        Long scanned = restTemplate.execute(uri.toUriString(), HttpMethod.GET,
+                request -> request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, "gzip"),
+                response -> {
+                    boolean gzip = "gzip".equalsIgnoreCase(
+                            response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+                    try (InputStream body = gzip ? new GZIPInputStream(response.getBody(), 64 * 1024)
+                            : response.getBody()) {
+                        return read(body, visitor);
+                    }
+                });
+        long count = scanned != null ? scanned : 0;
+        logger.info("Scanned {} TRMS transactions from snapshot in {} ms",
+                count, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    private long read(InputStream body, Predicate<TrmsTransaction> visitor) throws IOException {
+        long count = 0;
+        try (MappingIterator<TrmsTransaction> transactions = transactionReader.readValues(body)) {
+            while (transactions.hasNextValue()) {
+                count++;
+                if (!visitor.test(transactions.nextValue())) {
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -1,6 +1,7 @@
 package com.swift.mock.service;
 
 import com.swift.mock.config.SwiftProperties;
+import com.swift.mock.dto.ReconciliationStatus;
 import com.swift.mock.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +31,7 @@ public class MockSwiftDataService {
     private final AtomicInteger messageCounter = new AtomicInteger(1);
     private final AtomicInteger settlementCounter = new AtomicInteger(1);
     private final AtomicInteger paymentCounter = new AtomicInteger(1);
+    private final ReconciliationTracker reconciliationTracker = new ReconciliationTracker();
 
     public MockSwiftDataService(SwiftProperties swiftProperties) {
         this.swiftProperties = swiftProperties;
@@ -71,6 +73,7 @@ public class MockSwiftDataService {
                 .build();
 
         messages.put(messageId, message);
+        reconciliationTracker.onSaved(message);
     }
 
     public String generateMessageId() {
@@ -89,11 +92,55 @@ public class MockSwiftDataService {
         if (message.getId() == null || message.getId().isEmpty()) {
             message.setId(generateMessageId());
         }
-        messages.put(message.getId(), message);
+        reconciliationTracker.onSaved(message, () -> messages.put(message.getId(), message));
         logger.info("Saved SWIFT message: {}", message.getId());
         return message;
     }
 
+    /**
+     * Version of a message for {@link #recordReconciliation}; read it before the message
+     */
+    public long getMessageVersion(String messageId) {
+        return reconciliationTracker.versionOf(messageId);
+    }
+
+    /**
+     * Record the outcome of reconciling a message read at {@code readVersion}, setting its
+     * new status if one is given. With {@code recheck} the message stays marked as changed,
+     * e.g. while its transaction is not in TRMS yet. Returns false and leaves the message
+     * untouched if it changed after it was read; it stays marked as changed for the next run.
+     */
+    public boolean recordReconciliation(SwiftMessage message, long readVersion, MessageStatus newStatus,
+                                        boolean matched, boolean recheck) {
+        return reconciliationTracker.onReconciled(message, readVersion, matched, recheck, () -> {
+            if (newStatus != null) {
+                message.setStatus(newStatus);
+            }
+        });
+    }
+
+    /**
+     * Take the IDs of the messages changed since they were last reconciled
+     */
+    public List<String> drainChangedMessageIds() {
+        return reconciliationTracker.drainDirty();
+    }
+
+    /**
+     * Put back changed message IDs that were taken but not reconciled
+     */
+    public void markChanged(Collection<String> messageIds) {
+        reconciliationTracker.markDirty(messageIds);
+    }
+
+    public int getChangedMessageCount() {
+        return reconciliationTracker.getDirtyCount();
+    }
+
+    public ReconciliationStatus getReconciliationStatus() {
+        return reconciliationTracker.snapshot();
+    }
+
     public Optional<SwiftMessage> getMessage(String messageId) {
         return Optional.ofNullable(messages.get(messageId));
     }
@@ -104,15 +151,13 @@ public class MockSwiftDataService {
             throw new RuntimeException("SWIFT message not found: " + messageId);
         }
 
-        // Update the transaction ID
-        message.setTransactionId(transactionId);
-
-        // If transaction ID is provided, mark as RECONCILED
-        if (transactionId != null && !transactionId.isEmpty()) {
-            message.setStatus(MessageStatus.RECONCILED);
-        }
-
-        messages.put(messageId, message);
+        // Update the transaction ID; if one is provided, mark as RECONCILED
+        reconciliationTracker.onSaved(message, () -> {
+            message.setTransactionId(transactionId);
+            if (transactionId != null && !transactionId.isEmpty()) {
+                message.setStatus(MessageStatus.RECONCILED);
+            }
+        });
         logger.info("Updated SWIFT message {} with transaction ID: {}", messageId, transactionId);
         return message;
     }
@@ -210,6 +255,7 @@ public class MockSwiftDataService {
         settlements.clear();
         payments.clear();
         confirmations.clear();
+        reconciliationTracker.clear();
         messageCounter.set(1);
         logger.info("Cleared all mock data");
     }
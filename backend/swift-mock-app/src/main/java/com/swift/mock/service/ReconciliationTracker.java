@@ -0,0 +1,183 @@
+package com.swift.mock.service;
+
+import com.swift.mock.dto.ReconciliationStatus;
+import com.swift.mock.model.MessageStatus;
+import com.swift.mock.model.SwiftMessage;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Incrementally maintained reconciliation state of all SWIFT messages.
+ * Keeps each message's last reconciliation outcome, live counters derived from it
+ * and the set of messages changed since they were last reconciled, so counts are
+ * served in O(1) and a re-run only has to look at the changed messages.
+ *
+ * Every change bumps the message's version. A run records its outcome only if the
+ * version is still the one it read, so a change made while the run was in flight
+ * is never overwritten and stays marked for the next run.
+ */
+public class ReconciliationTracker {
+
+    private enum Outcome {
+        RECONCILED,
+        UNRECONCILED,
+        UNCHECKED
+    }
+
+    private record State(Outcome outcome, boolean pending, long version) {
+    }
+
+    private final Map<String, State> states = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger reconciled = new AtomicInteger();
+    private final AtomicInteger unreconciled = new AtomicInteger();
+    private final AtomicInteger unchecked = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile LocalDateTime lastReconciledAt;
+
+    /**
+     * A message was sent or changed outside reconciliation. Unless it is already
+     * RECONCILED it must be checked again.
+     */
+    public void onSaved(SwiftMessage message) {
+        onSaved(message, () -> { });
+    }
+
+    /**
+     * Apply {@code change} to a message and record it as changed. Both run under the
+     * message's entry lock, so the change never interleaves with recording an outcome.
+     */
+    public void onSaved(SwiftMessage message, Runnable change) {
+        states.compute(message.getId(), (id, previous) -> {
+            change.run();
+            boolean reconciledNow = message.getStatus() == MessageStatus.RECONCILED;
+            if (reconciledNow) {
+                dirty.remove(id);
+            } else {
+                dirty.add(id);
+            }
+            long version = previous != null ? previous.version() + 1 : 1;
+            return transition(previous, message, reconciledNow ? Outcome.RECONCILED : Outcome.UNCHECKED, version);
+        });
+    }
+
+    /**
+     * Current version of a message, to be read before the message itself
+     */
+    public long versionOf(String messageId) {
+        State state = states.get(messageId);
+        return state != null ? state.version() : 0;
+    }
+
+    /**
+     * Apply the outcome of reconciling a message read at {@code readVersion}: run
+     * {@code apply}, record the outcome and clear the message's changed mark, or keep
+     * it marked if the outcome must be checked again ({@code recheck}). Returns false
+     * without doing any of it if the message changed after it was read.
+     */
+    public boolean onReconciled(SwiftMessage message, long readVersion, boolean matched, boolean recheck,
+                                Runnable apply) {
+        boolean[] applied = new boolean[1];
+        states.compute(message.getId(), (id, previous) -> {
+            long version = previous != null ? previous.version() : 0;
+            if (version != readVersion) {
+                return previous;
+            }
+            apply.run();
+            if (recheck) {
+                dirty.add(id);
+            } else {
+                dirty.remove(id);
+            }
+            applied[0] = true;
+            return transition(previous, message, matched ? Outcome.RECONCILED : Outcome.UNRECONCILED, version);
+        });
+        if (applied[0]) {
+            lastReconciledAt = LocalDateTime.now();
+        }
+        return applied[0];
+    }
+
+    /**
+     * Take the IDs of the messages changed since they were last reconciled. A message
+     * changed again after this call is marked dirty again.
+     */
+    public List<String> drainDirty() {
+        List<String> ids = new ArrayList<>(dirty.size());
+        for (Iterator<String> it = dirty.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        return ids;
+    }
+
+    /**
+     * Put back IDs taken by {@link #drainDirty()} that were not reconciled
+     */
+    public void markDirty(Collection<String> messageIds) {
+        dirty.addAll(messageIds);
+    }
+
+    public int getDirtyCount() {
+        return dirty.size();
+    }
+
+    public ReconciliationStatus snapshot() {
+        int reconciledCount = reconciled.get();
+        int unreconciledCount = unreconciled.get();
+        int uncheckedCount = unchecked.get();
+        int pendingCount = pending.get();
+        return ReconciliationStatus.builder()
+                .totalMessages(reconciledCount + unreconciledCount + uncheckedCount)
+                .reconciledCount(reconciledCount)
+                .unreconciledCount(unreconciledCount)
+                .pendingCount(pendingCount)
+                .uncheckedCount(uncheckedCount)
+                .lastReconciledAt(lastReconciledAt)
+                .summary(String.format("Reconciled: %d, Unreconciled: %d, Pending: %d, Unchecked: %d",
+                        reconciledCount, unreconciledCount, pendingCount, uncheckedCount))
+                .build();
+    }
+
+    public void clear() {
+        states.clear();
+        dirty.clear();
+        reconciled.set(0);
+        unreconciled.set(0);
+        unchecked.set(0);
+        pending.set(0);
+        lastReconciledAt = null;
+    }
+
+    /**
+     * Move the counters from {@code previous} to the new state. Runs inside compute,
+     * so updates of one message are applied in order.
+     */
+    private State transition(State previous, SwiftMessage message, Outcome outcome, long version) {
+        boolean isPending = message.getStatus() == MessageStatus.PENDING || message.getStatus() == MessageStatus.SENT;
+        if (previous != null) {
+            counter(previous.outcome()).decrementAndGet();
+            if (previous.pending()) {
+                pending.decrementAndGet();
+            }
+        }
+        counter(outcome).incrementAndGet();
+        if (isPending) {
+            pending.incrementAndGet();
+        }
+        return new State(outcome, isPending, version);
+    }
+
+    private AtomicInteger counter(Outcome outcome) {
+        return switch (outcome) {
+            case RECONCILED -> reconciled;
+            case UNRECONCILED -> unreconciled;
+            case UNCHECKED -> unchecked;
+        };
+    }
+}
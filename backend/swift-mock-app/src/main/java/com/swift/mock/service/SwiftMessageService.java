@@ -3,10 +3,11 @@ package com.swift.mock.service;
 import com.swift.mock.config.SwiftProperties;
 import com.swift.mock.dto.*;
 import com.swift.mock.model.*;
+import com.swift.mock.reconciliation.MatchingEngine;
+import com.swift.mock.reconciliation.ReconciliationEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -33,12 +34,15 @@ public class SwiftMessageService {
 
     private final MockSwiftDataService dataService;
     private final SwiftProperties swiftProperties;
-    private final RestTemplate restTemplate;
+    private final ReconciliationEngine reconciliationEngine;
+    private final MatchingEngine matchingEngine;
 
-    public SwiftMessageService(MockSwiftDataService dataService, SwiftProperties swiftProperties) {
+    public SwiftMessageService(MockSwiftDataService dataService, SwiftProperties swiftProperties,
+                               ReconciliationEngine reconciliationEngine, MatchingEngine matchingEngine) {
         this.dataService = dataService;
         this.swiftProperties = swiftProperties;
-        this.restTemplate = new RestTemplate();
+        this.reconciliationEngine = reconciliationEngine;
+        this.matchingEngine = matchingEngine;
     }
 
     /**
@@ -140,115 +144,51 @@ public class SwiftMessageService {
     public ReconciliationResult reconcileMessages(ReconciliationRequest request) {
         logger.info("Starting SWIFT message reconciliation for account: {}", request.getAccountId());
 
-        List<SwiftMessage> allMessages = request.getAccountId() != null
-                ? dataService.getMessagesByAccount(request.getAccountId())
-                : dataService.getAllMessages();
-
-        List<SwiftMessage> reconciled = new ArrayList<>();
-        List<SwiftMessage> unreconciled = new ArrayList<>();
-        List<String> issues = new ArrayList<>();
-
-        for (SwiftMessage message : allMessages) {
-            // Skip already reconciled messages
-            if (message.getStatus() == MessageStatus.RECONCILED) {
-                reconciled.add(message);
-                continue;
-            }
-
-            // Check if message has transaction ID
-            if (message.getTransactionId() == null || message.getTransactionId().isEmpty()) {
-                unreconciled.add(message);
-                issues.add(String.format("Message %s has no transaction ID", message.getId()));
-                continue;
-            }
-
-            // Fetch actual transaction from TRMS
-            TrmsTransaction trmsTransaction = fetchTransactionFromTRMS(message.getTransactionId());
-
-            if (trmsTransaction == null) {
-                unreconciled.add(message);
-                message.setStatus(MessageStatus.UNRECONCILED);
-                dataService.saveMessage(message);
-                issues.add(String.format("Message %s: Transaction %s not found in TRMS",
-                    message.getId(), message.getTransactionId()));
-            } else {
-                // Validate amount, currency, and account match
-                boolean amountMatch = message.getAmount().compareTo(trmsTransaction.getAmount()) == 0;
-                boolean currencyMatch = message.getCurrency().equals(trmsTransaction.getCurrency());
-                boolean accountMatch = message.getAccountId().equals(trmsTransaction.getFromAccount())
-                                    || message.getAccountId().equals(trmsTransaction.getToAccount());
-
-                if (amountMatch && currencyMatch && accountMatch) {
-                    // All validations passed
-                    if (request.isAutoReconcile()) {
-                        message.setStatus(MessageStatus.RECONCILED);
-                        dataService.saveMessage(message);
-                    }
-                    reconciled.add(message);
-                    logger.debug("Message {} successfully reconciled with transaction {}",
-                        message.getId(), message.getTransactionId());
-                } else {
-                    // Validation failed - mark as unreconciled
-                    message.setStatus(MessageStatus.UNRECONCILED);
-                    dataService.saveMessage(message);
-                    unreconciled.add(message);
-
-                    String mismatchDetails = String.format(
-                        "Message %s: Mismatch with transaction %s - Amount: %s, Currency: %s, Account: %s",
-                        message.getId(),
-                        message.getTransactionId(),
-                        amountMatch ? "OK" : "FAIL (SWIFT: " + message.getAmount() + ", TRMS: " + trmsTransaction.getAmount() + ")",
-                        currencyMatch ? "OK" : "FAIL (SWIFT: " + message.getCurrency() + ", TRMS: " + trmsTransaction.getCurrency() + ")",
-                        accountMatch ? "OK" : "FAIL (SWIFT account not in transaction)"
-                    );
-                    issues.add(mismatchDetails);
-                    logger.warn("Reconciliation failed for message {}: {}", message.getId(), mismatchDetails);
-                }
-            }
+        ReconciliationResult result;
+        if (request.isIncremental()) {
+            result = reconciliationEngine.reconcileChanged(request);
+        } else {
+            List<SwiftMessage> allMessages = request.getAccountId() != null
+                    ? dataService.getMessagesByAccount(request.getAccountId())
+                    : dataService.getAllMessages();
+            result = reconciliationEngine.reconcile(allMessages, request);
         }
 
-        int pending = (int) allMessages.stream()
-                .filter(m -> m.getStatus() == MessageStatus.PENDING || m.getStatus() == MessageStatus.SENT)
-                .count();
-
-        String summary = String.format("Reconciled: %d, Unreconciled: %d, Pending: %d",
-                reconciled.size(), unreconciled.size(), pending);
-
-        logger.info("Reconciliation complete: {}", summary);
+        logger.info("Reconciliation complete: {}", result.getSummary());
+        return result;
+    }
 
-        return ReconciliationResult.builder()
-                .totalMessages(allMessages.size())
-                .reconciledCount(reconciled.size())
-                .unreconciledCount(unreconciled.size())
-                .pendingCount(pending)
-                .reconciledMessages(reconciled)
-                .unreconciledMessages(unreconciled)
-                .issues(issues)
-                .summary(summary)
-                .build();
+    /**
+     * Live reconciliation counts, maintained as messages change and are reconciled
+     */
+    public ReconciliationStatus getReconciliationStatus() {
+        return dataService.getReconciliationStatus();
     }
 
     /**
-     * Fetch transaction from TRMS system for reconciliation
+     * Ranked TRMS candidates for the unreconciled messages without a transaction ID,
+     * optionally limited to one account
      */
-    private TrmsTransaction fetchTransactionFromTRMS(String transactionId) {
-        try {
-            String trmsBaseUrl = swiftProperties.getTrmsBaseUrl();
-            if (trmsBaseUrl == null || trmsBaseUrl.isEmpty()) {
-                logger.warn("TRMS base URL not configured, skipping transaction fetch");
-                return null;
-            }
+    public MatchCandidatesResult findMatchCandidates(String accountId) {
+        logger.info("Finding match candidates for messages without transaction ID, account: {}", accountId);
 
-            String url = trmsBaseUrl + "/transactions/" + transactionId;
-            logger.debug("Fetching transaction from TRMS: {}", url);
+        List<SwiftMessage> messages = accountId != null
+                ? dataService.getMessagesByAccount(accountId)
+                : dataService.getAllMessages();
+        List<SwiftMessage> orphans = messages.stream()
+                .filter(m -> m.getStatus() != MessageStatus.RECONCILED)
+                .filter(m -> m.getTransactionId() == null || m.getTransactionId().isEmpty())
+                .toList();
 
-            TrmsTransaction transaction = restTemplate.getForObject(url, TrmsTransaction.class);
-            logger.debug("Successfully fetched transaction {} from TRMS", transactionId);
-            return transaction;
-        } catch (Exception e) {
-            logger.warn("Failed to fetch transaction {} from TRMS: {}", transactionId, e.getMessage());
-            return null;
-        }
+        return matchingEngine.findCandidates(orphans);
+    }
+
+    /**
+     * Ranked TRMS candidates for one message, empty if the message does not exist
+     */
+    public Optional<MatchCandidatesResult> findMatchCandidatesForMessage(String messageId) {
+        return dataService.getMessage(messageId)
+                .map(message -> matchingEngine.findCandidates(List.of(message)));
     }
 
     /**
@@ -11,7 +11,9 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 
@@ -71,6 +73,51 @@ public class LegacyTrmsClient {
         }
     }
 
+    /**
+     * Get balance totals per currency and account type and the value-date cash ladder
+     * from legacy TRMS system in a single call
+     */
+    public PortfolioPositions getPortfolioPositions(String currency, LocalDate from, LocalDate to) {
+        try {
+            UriComponentsBuilder uri = UriComponentsBuilder.fromHttpUrl(trmsProperties.baseUrl() + "/api/v1/positions");
+            if (currency != null && !currency.trim().isEmpty()) {
+                uri.queryParam("currency", currency.trim().toUpperCase());
+            }
+            if (from != null) {
+                uri.queryParam("from", from);
+            }
+            if (to != null) {
+                uri.queryParam("to", to);
+            }
+            String url = uri.toUriString();
+
+            logger.debug("Fetching portfolio positions from TRMS: {}", url);
+
+            ResponseEntity<PortfolioPositions> response = restTemplate.exchange(
+                url,
+                HttpMethod.GET,
+                createHttpEntity(),
+                PortfolioPositions.class
+            );
+
+            PortfolioPositions positions = response.getBody();
+            logger.info("Successfully retrieved portfolio positions for {} currencies",
+                       positions != null && positions.currencies() != null ? positions.currencies().size() : 0);
+            return positions;
+
+        } catch (HttpClientErrorException | HttpServerErrorException e) {
+            logger.error("HTTP error while fetching portfolio positions: {} - {}", 
+                        e.getStatusCode(), e.getResponseBodyAsString());
+            throw new RuntimeException("Failed to fetch portfolio positions: " + e.getMessage(), e);
+        } catch (ResourceAccessException e) {
+            logger.error("Connection error while fetching portfolio positions: {}", e.getMessage());
+            throw new RuntimeException("Unable to connect to TRMS system", e);
+        } catch (Exception e) {
+            logger.error("Unexpected error while fetching portfolio positions: {}", e.getMessage());
+            throw new RuntimeException("Unexpected error occurred", e);
+        }
+    }
+
     /**
      * Check account balance from legacy TRMS system
      */
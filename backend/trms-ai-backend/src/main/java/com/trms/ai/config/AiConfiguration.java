@@ -42,6 +42,7 @@ public class AiConfiguration {
         3. **bookTransaction** - Execute transactions between accounts with validation
         4. **checkEODReadiness** - Verify End of Day processing readiness status
         5. **proposeRateFixings** - Get missing interest rate resets for EOD processing
+        6. **getPortfolioPositions** - Get balance totals per currency and account type with the value-date cash ladder
 
         **Your Expertise:**
         - Treasury operations and cash management
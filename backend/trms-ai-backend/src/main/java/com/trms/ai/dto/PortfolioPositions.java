@@ -0,0 +1,38 @@
+package com.trms.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Aggregated positions DTO for TRMS legacy system integration
+ */
+public record PortfolioPositions(
+    @JsonProperty("generatedAt") String generatedAt,
+    @JsonProperty("currencies") List<PositionTotals> currencies,
+    @JsonProperty("accountTypes") List<PositionTotals> accountTypes,
+    @JsonProperty("cashLadder") List<CashLadderEntry> cashLadder
+) {
+
+    public record PositionTotals(
+        @JsonProperty("currency") String currency,
+        @JsonProperty("accountType") String accountType,
+        @JsonProperty("accounts") Integer accounts,
+        @JsonProperty("currentBalance") Double currentBalance,
+        @JsonProperty("availableBalance") Double availableBalance,
+        @JsonProperty("reservedBalance") Double reservedBalance,
+        @JsonProperty("pendingCredits") Double pendingCredits,
+        @JsonProperty("pendingDebits") Double pendingDebits
+    ) {}
+
+    public record CashLadderEntry(
+        @JsonProperty("currency") String currency,
+        @JsonProperty("valueDate") String valueDate,
+        @JsonProperty("pendingCount") Integer pendingCount,
+        @JsonProperty("pendingAmount") Double pendingAmount,
+        @JsonProperty("validatedCount") Integer validatedCount,
+        @JsonProperty("validatedAmount") Double validatedAmount,
+        @JsonProperty("settledCount") Integer settledCount,
+        @JsonProperty("settledAmount") Double settledAmount,
+        @JsonProperty("cumulativeUnsettledAmount") Double cumulativeUnsettledAmount
+    ) {}
+}
@@ -73,6 +73,7 @@ public class TrmsAiService {
         You have access to the following TRMS functions:
         - getAccountsByCurrency: Get accounts filtered by currency (USD, EUR, GBP, JPY)
         - checkAccountBalance: Check balance for a specific account by account ID
+        - getPortfolioPositions: Get balance totals per currency and account type with the value-date cash ladder
         - bookTransaction: Book transactions between accounts (creates transaction with PENDING status)
         - checkEODReadiness: Check End of Day processing readiness
         - proposeRateFixings: Get proposed rate fixings for missing resets
@@ -136,6 +137,7 @@ public class TrmsAiService {
             .defaultToolNames(
                 "getAccountsByCurrency",
                 "checkAccountBalance",
+                "getPortfolioPositions",
                 "bookTransaction",
                 "checkEODReadiness",
                 "proposeRateFixings",
@@ -151,7 +153,7 @@ public class TrmsAiService {
             .build();
 
         logger.info("TrmsAiService initialized with ChatModel provider, conversation memory, TRMS and SWIFT function calling");
-        logger.info("Experimental LLM mode available with {} TRMS functions and {} SWIFT functions", 5, 8);
+        logger.info("Experimental LLM mode available with {} TRMS functions and {} SWIFT functions", 6, 8);
     }
 
     /**
@@ -553,6 +555,17 @@ public class TrmsAiService {
         }
     }
     
+    private String executeGetPortfolioPositions(String currency) {
+        try {
+            executedFunctions.get().add("getPortfolioPositions");
+            var request = new com.trms.ai.service.TrmsFunctions.GetPortfolioPositionsRequest(currency);
+            var positions = trmsFunctions.getPortfolioPositions().apply(request);
+            return formatPortfolioPositionsData(positions);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to get portfolio positions: " + e.getMessage());
+        }
+    }
+    
     private String executeCheckAccountBalance(String accountId) {
         try {
             executedFunctions.get().add("checkAccountBalance");
@@ -590,6 +603,29 @@ public class TrmsAiService {
         return "ACCOUNTS DATA:\n" + accounts.toString();
     }
     
+    private String formatPortfolioPositionsData(com.trms.ai.dto.PortfolioPositions positions) {
+        StringBuilder data = new StringBuilder("PORTFOLIO POSITIONS:\n");
+        for (var totals : positions.currencies()) {
+            data.append(String.format("🏦 %s (%d accounts): current %,.2f, available %,.2f, reserved %,.2f, "
+                            + "pending credits %,.2f, pending debits %,.2f%n",
+                    totals.currency(), totals.accounts(), totals.currentBalance(), totals.availableBalance(),
+                    totals.reservedBalance(), totals.pendingCredits(), totals.pendingDebits()));
+        }
+        data.append("BY ACCOUNT TYPE:\n");
+        for (var totals : positions.accountTypes()) {
+            data.append(String.format("%s %s (%d accounts): current %,.2f, available %,.2f%n",
+                    totals.currency(), totals.accountType(), totals.accounts(),
+                    totals.currentBalance(), totals.availableBalance()));
+        }
+        data.append("CASH LADDER:\n");
+        for (var entry : positions.cashLadder()) {
+            data.append(String.format("%s %s: pending %,.2f, validated %,.2f, settled %,.2f, cumulative unsettled %,.2f%n",
+                    entry.currency(), entry.valueDate(), entry.pendingAmount(), entry.validatedAmount(),
+                    entry.settledAmount(), entry.cumulativeUnsettledAmount()));
+        }
+        return data.toString();
+    }
+    
     private String formatBalanceData(Object balance) {
         return "BALANCE DATA:\n" + balance.toString();
     }
@@ -804,20 +840,14 @@ public class TrmsAiService {
     
     /**
      * Cross-Currency Portfolio Analysis
-     * Steps: Get accounts for all major currencies (USD, EUR, GBP, JPY)
+     * Steps: Get balance totals for all currencies and the cash ladder in one aggregated call
      */
     private String executeCrossCurrencyPortfolioAnalysis() {
         StringBuilder result = new StringBuilder();
         result.append("💰 CROSS-CURRENCY PORTFOLIO ANALYSIS\n\n");
         
         try {
-            String[] currencies = {"USD", "EUR", "GBP", "JPY"};
-            
-            for (String currency : currencies) {
-                result.append("🏦 ").append(currency).append(" Accounts:\n");
-                String accounts = executeGetAccountsByCurrency(currency);
-                result.append(accounts).append("\n");
-            }
+            result.append(executeGetPortfolioPositions(null)).append("\n\n");
             
             result.append("📈 PORTFOLIO ANALYSIS COMPLETED\n");
             result.append("All currency positions have been retrieved from the TRMS system.");
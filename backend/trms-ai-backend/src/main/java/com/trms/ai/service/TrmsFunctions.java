@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.function.Function;
 
@@ -22,6 +23,9 @@ public class TrmsFunctions {
 
     private static final Logger logger = LoggerFactory.getLogger(TrmsFunctions.class);
 
+    /** Value days of cash ladder returned to the model, so a large book stays prompt-sized */
+    private static final int CASH_LADDER_DAYS = 30;
+
     public final LegacyTrmsClient legacyTrmsClient;
     private final FunctionCallTracker functionCallTracker;
 
@@ -54,6 +58,33 @@ public class TrmsFunctions {
         };
     }
 
+    /**
+     * Function to get aggregated portfolio positions
+     */
+    @Bean
+    @Description("Get aggregated portfolio positions from the TRMS system in a single call. " +
+                "Optionally pass a 3-letter currency code to restrict the result to one currency. " +
+                "Returns current, available and reserved balance totals and pending debits/credits " +
+                "per currency and per account type, plus a value-date cash ladder of pending, " +
+                "validated and settled transaction amounts for today and the next " + CASH_LADDER_DAYS + " days. " +
+                "Use this for portfolio, position or cash-flow questions across accounts or currencies.")
+    public Function<GetPortfolioPositionsRequest, PortfolioPositions> getPortfolioPositions() {
+        return request -> {
+            functionCallTracker.trackFunctionCall("getPortfolioPositions");
+            logger.debug("AI function call: getPortfolioPositions with currency: {}", request.currency());
+            try {
+                LocalDate today = LocalDate.now();
+                PortfolioPositions positions = legacyTrmsClient.getPortfolioPositions(request.currency(),
+                        today, today.plusDays(CASH_LADDER_DAYS));
+                logger.info("Retrieved portfolio positions for {} currencies", positions.currencies().size());
+                return positions;
+            } catch (Exception e) {
+                logger.error("Error in getPortfolioPositions function: {}", e.getMessage());
+                throw new RuntimeException("Failed to retrieve portfolio positions: " + e.getMessage());
+            }
+        };
+    }
+
     /**
      * Function to check account balance
      */
@@ -159,6 +190,7 @@ public class TrmsFunctions {
 
     // Request records for function parameters
     public record GetAccountsByCurrencyRequest(String currency) {}
+    public record GetPortfolioPositionsRequest(String currency) {}
     public record CheckAccountBalanceRequest(String accountId) {}
     public record BookTransactionRequest(String fromAccount, String toAccount, Double amount, String currency) {}
     // Azure OpenAI requires at least one property in request schema
@@ -0,0 +1,14 @@
+package com.trms.mock.benchmark;
+
+/**
+ * Throughput and latency of one benchmark scenario
+ */
+public record BenchmarkResult(String name, int operations, int threads, double elapsedMillis,
+                              double opsPerSecond, double p50Micros, double p99Micros, double maxMicros) {
+
+    @Override
+    public String toString() {
+        return String.format("%-32s %9d ops %3d threads %10.1f ms %12.0f ops/s  p50 %8.1f us  p99 %8.1f us  max %9.1f us",
+                name, operations, threads, elapsedMillis, opsPerSecond, p50Micros, p99Micros, maxMicros);
+    }
+}
@@ -0,0 +1,98 @@
+package com.trms.mock.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntConsumer;
+
+/**
+ * Minimal multi-threaded timing harness for the benchmark runners.
+ * Each operation is timed individually; operation indexes are split evenly across threads.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static BenchmarkResult run(String name, int operations, int threads, IntConsumer operation) {
+        long[] latencies = new long[operations];
+        int perThread = (operations + threads - 1) / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int from = t * perThread;
+                int to = Math.min(operations, from + perThread);
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = from; i < to; i++) {
+                            long began = System.nanoTime();
+                            operation.accept(i);
+                            latencies[i] = System.nanoTime() - began;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long began = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - began;
+
+            return summarize(name, operations, threads, elapsed, latencies);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Benchmark interrupted: " + name, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Summarize a scenario timed by the caller, e.g. one call processing a whole batch
+     */
+    public static BenchmarkResult summarize(String name, int operations, int threads, long elapsedNanos,
+                                            long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        return new BenchmarkResult(name, operations, threads, elapsedMillis,
+                operations / (elapsedNanos / 1_000_000_000.0),
+                percentile(sorted, 0.50), percentile(sorted, 0.99),
+                sorted.length > 0 ? sorted[sorted.length - 1] / 1000.0 : 0.0);
+    }
+
+    /**
+     * Average heap bytes allocated per operation, measured on the calling thread.
+     * Returns -1 if the JVM does not support allocation accounting.
+     */
+    public static double allocatedBytesPerOperation(int operations, IntConsumer operation) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return -1;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < operations; i++) {
+            operation.accept(i);
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / (double) operations;
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1000.0;
+    }
+}
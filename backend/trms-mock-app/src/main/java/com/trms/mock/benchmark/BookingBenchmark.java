@@ -0,0 +1,142 @@
+package com.trms.mock.benchmark;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trms.mock.dto.BatchBookingResult;
+import com.trms.mock.dto.CreateTransactionRequest;
+import com.trms.mock.generator.SyntheticDataGenerator;
+import com.trms.mock.journal.JournalProperties;
+import com.trms.mock.journal.TransactionJournal;
+import com.trms.mock.repository.InMemoryTrmsStorage;
+import com.trms.mock.service.MockDataService;
+import com.trms.mock.service.TransactionBookingService;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+
+/**
+ * Compares booking transfers one request at a time with booking them as NDJSON batches.
+ * Both paths are driven at service level, so HTTP overhead is excluded from the comparison.
+ * Bookings go to a private data service over a fresh in-memory store with the journal
+ * off, so the application's book and storage are untouched.
+ */
+@Component
+@Profile("benchmark")
+@Order(2)
+public class BookingBenchmark implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingBenchmark.class);
+
+    private static final String[][] ROUTES = {
+            {"ACC-001-USD", "ACC-002-USD", "USD"},
+            {"ACC-002-USD", "ACC-003-USD", "USD"},
+            {"ACC-004-EUR", "ACC-005-EUR", "EUR"},
+            {"ACC-006-GBP", "ACC-007-GBP", "GBP"}
+    };
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ObjectProvider<SyntheticDataGenerator> generator;
+    private final ObjectWriter lineWriter;
+    private final ObjectReader batchReader;
+    private final int operations;
+    private final int threads;
+    private final int batchSize;
+
+    public BookingBenchmark(ObjectMapper objectMapper,
+                            Validator validator,
+                            ObjectProvider<SyntheticDataGenerator> generator,
+                            @Value("${trms.benchmark.operations:100000}") int operations,
+                            @Value("${trms.benchmark.threads:8}") int threads,
+                            @Value("${trms.benchmark.batch-size:5000}") int batchSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.generator = generator;
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.batchReader = objectMapper.readerFor(CreateTransactionRequest.class);
+        this.operations = operations;
+        this.threads = threads;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        // Same seed data as the application, including the large-book profile's generated book
+        JournalProperties journalProperties = new JournalProperties();
+        journalProperties.setEnabled(false);
+        MockDataService dataService = new MockDataService(new InMemoryTrmsStorage(),
+                new TransactionJournal(journalProperties, objectMapper), generator);
+        TransactionBookingService bookingService = new TransactionBookingService(dataService, validator);
+
+        logger.info("Booking benchmark: {} transfers, {} threads for single bookings, batches of {}",
+                operations, threads, batchSize);
+
+        BenchmarkResult single = BenchmarkSupport.run("single booking", operations, threads,
+                i -> bookingService.book(request(i)));
+
+        int batches = (operations + batchSize - 1) / batchSize;
+        long[] latencies = new long[batches];
+        long began = System.nanoTime();
+        for (int b = 0; b < batches; b++) {
+            byte[] body = ndjson(b * batchSize, Math.min(operations, (b + 1) * batchSize));
+            long batchBegan = System.nanoTime();
+            BatchBookingResult result = bookBatch(bookingService, body);
+            latencies[b] = System.nanoTime() - batchBegan;
+            if (result.getRejected() > 0) {
+                logger.warn("Batch {} rejected {} items", b, result.getRejected());
+            }
+        }
+        BenchmarkResult batch = BenchmarkSupport.summarize("batch booking (NDJSON, latency per batch)",
+                operations, 1, System.nanoTime() - began, latencies);
+
+        logger.info("Booking benchmark results:");
+        logger.info("  {}", single);
+        logger.info("  {}", batch);
+    }
+
+    private BatchBookingResult bookBatch(TransactionBookingService bookingService, byte[] body) {
+        try (MappingIterator<CreateTransactionRequest> requests = batchReader.readValues(body)) {
+            return bookingService.bookBatch(requests);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] ndjson(int from, int to) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((to - from) * 160);
+        try {
+            for (int i = from; i < to; i++) {
+                out.write(lineWriter.writeValueAsBytes(request(i)));
+                out.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static CreateTransactionRequest request(int i) {
+        String[] route = ROUTES[i % ROUTES.length];
+        return CreateTransactionRequest.builder()
+                .fromAccount(route[0])
+                .toAccount(route[1])
+                .amount(BigDecimal.valueOf(1 + i % 100, 2))
+                .currency(route[2])
+                .reference("REF-BOOK-" + i)
+                .build();
+    }
+}
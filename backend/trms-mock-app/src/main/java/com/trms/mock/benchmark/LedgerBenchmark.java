@@ -0,0 +1,113 @@
+package com.trms.mock.benchmark;
+
+import com.trms.mock.ledger.AccountLedger;
+import com.trms.mock.ledger.MinorUnits;
+import com.trms.mock.model.AccountBalance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Compares applying booking legs by rebuilding {@link AccountBalance} objects with
+ * {@link BigDecimal} arithmetic against the scaled-long {@link AccountLedger}.
+ * Both run on private copies of the account set, so application state is untouched.
+ */
+@Component
+@Profile("benchmark")
+@Order(3)
+public class LedgerBenchmark implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerBenchmark.class);
+
+    private static final String[][] ACCOUNTS = {
+            {"ACC-001-USD", "USD"}, {"ACC-002-USD", "USD"}, {"ACC-003-USD", "USD"},
+            {"ACC-004-EUR", "EUR"}, {"ACC-005-EUR", "EUR"},
+            {"ACC-006-GBP", "GBP"}, {"ACC-007-GBP", "GBP"},
+            {"ACC-008-JPY", "JPY"}
+    };
+
+    private final int operations;
+    private final int threads;
+
+    public LedgerBenchmark(@Value("${trms.benchmark.operations:100000}") int operations,
+                           @Value("${trms.benchmark.threads:8}") int threads) {
+        this.operations = operations;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) {
+        BigDecimal[] amounts = new BigDecimal[1000];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = BigDecimal.valueOf(100 + i * 37L, 2);
+        }
+
+        Map<String, AccountBalance> balances = new ConcurrentHashMap<>();
+        AccountLedger ledger = new AccountLedger();
+        for (String[] account : ACCOUNTS) {
+            AccountBalance balance = seedBalance(account[0], account[1]);
+            balances.put(account[0], balance);
+            ledger.load(balance);
+        }
+
+        IntConsumer bigDecimalBooking = i -> {
+            String[] from = ACCOUNTS[i % ACCOUNTS.length];
+            String[] to = ACCOUNTS[(i + 1) % ACCOUNTS.length];
+            BigDecimal amount = amounts[i % amounts.length];
+            applyBigDecimal(balances, from[0], amount.negate());
+            applyBigDecimal(balances, to[0], amount);
+        };
+        IntConsumer ledgerBooking = i -> {
+            String[] from = ACCOUNTS[i % ACCOUNTS.length];
+            String[] to = ACCOUNTS[(i + 1) % ACCOUNTS.length];
+            int scale = MinorUnits.scaleOf(from[1]);
+            long amountMinor = MinorUnits.toMinor(amounts[i % amounts.length], scale);
+            ledger.apply(from[0], -amountMinor, scale);
+            ledger.apply(to[0], amountMinor, scale);
+        };
+
+        logger.info("Ledger benchmark: {} bookings (2 legs each), {} threads", operations, threads);
+
+        // The throughput runs double as JIT warm-up for the allocation measurement
+        BenchmarkResult bigDecimal = BenchmarkSupport.run("BigDecimal balance rebuild", operations, threads,
+                bigDecimalBooking);
+        BenchmarkResult scaledLong = BenchmarkSupport.run("scaled-long ledger", operations, threads,
+                ledgerBooking);
+        double bigDecimalBytes = BenchmarkSupport.allocatedBytesPerOperation(operations, bigDecimalBooking);
+        double scaledLongBytes = BenchmarkSupport.allocatedBytesPerOperation(operations, ledgerBooking);
+
+        logger.info("Ledger benchmark results:");
+        logger.info("  {} | {} bytes allocated/booking", bigDecimal, String.format("%.1f", bigDecimalBytes));
+        logger.info("  {} | {} bytes allocated/booking", scaledLong, String.format("%.1f", scaledLongBytes));
+    }
+
+    /** The pre-ledger hot path: new BigDecimals and a new AccountBalance per leg */
+    private static void applyBigDecimal(Map<String, AccountBalance> balances, String accountId, BigDecimal delta) {
+        balances.computeIfPresent(accountId, (id, balance) -> balance.toBuilder()
+                .currentBalance(balance.getCurrentBalance().add(delta))
+                .availableBalance(balance.getAvailableBalance().add(delta))
+                .lastUpdated(LocalDateTime.now())
+                .build());
+    }
+
+    private static AccountBalance seedBalance(String accountId, String currency) {
+        return AccountBalance.builder()
+                .accountId(accountId)
+                .currency(currency)
+                .currentBalance(new BigDecimal("1000000000.00"))
+                .availableBalance(new BigDecimal("1000000000.00"))
+                .reservedBalance(BigDecimal.ZERO)
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+}
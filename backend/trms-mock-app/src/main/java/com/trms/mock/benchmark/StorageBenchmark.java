@@ -0,0 +1,123 @@
+package com.trms.mock.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trms.mock.model.Transaction;
+import com.trms.mock.repository.EntityStore;
+import com.trms.mock.repository.InMemoryTrmsStorage;
+import com.trms.mock.repository.MvStoreTrmsStorage;
+import com.trms.mock.repository.TrmsStorage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Compares storage implementations on the transaction store.
+ * Runs against a fresh store of the configured type (an MVStore in a temporary file
+ * for mvstore), never against the application's live storage.
+ * Run once per implementation and compare the logged results, e.g.
+ * {@code mvn spring-boot:run -Dspring-boot.run.profiles=benchmark -Dspring-boot.run.arguments=--trms.storage.type=mvstore}
+ */
+@Component
+@Profile("benchmark")
+@Order(1)
+public class StorageBenchmark implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageBenchmark.class);
+
+    private final String storageType;
+    private final int cacheSizeMb;
+    private final ObjectMapper objectMapper;
+    private final int operations;
+    private final int threads;
+
+    public StorageBenchmark(@Value("${trms.storage.type:memory}") String storageType,
+                            @Value("${trms.storage.mvstore.cache-size-mb:64}") int cacheSizeMb,
+                            ObjectMapper objectMapper,
+                            @Value("${trms.benchmark.operations:100000}") int operations,
+                            @Value("${trms.benchmark.threads:8}") int threads) {
+        this.storageType = storageType;
+        this.cacheSizeMb = cacheSizeMb;
+        this.objectMapper = objectMapper;
+        this.operations = operations;
+        this.threads = threads;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        if (!"mvstore".equals(storageType)) {
+            benchmark(new InMemoryTrmsStorage());
+            return;
+        }
+        Path directory = Files.createTempDirectory("trms-storage-benchmark");
+        Path file = directory.resolve("benchmark.mv.db");
+        MvStoreTrmsStorage storage = new MvStoreTrmsStorage(file.toString(), cacheSizeMb, objectMapper);
+        try {
+            benchmark(storage);
+        } finally {
+            storage.close();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path leftover : files.toList()) {
+                    Files.deleteIfExists(leftover);
+                }
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private void benchmark(TrmsStorage storage) {
+        EntityStore<Transaction> store = storage.transactions();
+        LocalDateTime now = LocalDateTime.now();
+
+        logger.info("Storage benchmark on '{}' storage: {} operations, {} threads",
+                storage.getName(), operations, threads);
+
+        BenchmarkResult put = BenchmarkSupport.run("put", operations, threads,
+                i -> store.put(benchmarkId(i), benchmarkTransaction(i, now)));
+        BenchmarkResult get = BenchmarkSupport.run("get (random)", operations, threads,
+                i -> store.get(benchmarkId(ThreadLocalRandom.current().nextInt(operations))));
+        BenchmarkResult compute = BenchmarkSupport.run("compute (status update)", operations, threads,
+                i -> store.computeIfPresent(benchmarkId(i), (id, txn) -> {
+                    txn.setStatus(Transaction.TransactionStatus.VALIDATED);
+                    return txn;
+                }));
+        BenchmarkResult remove = BenchmarkSupport.run("remove", operations, threads,
+                i -> store.remove(benchmarkId(i)));
+
+        logger.info("Storage benchmark results ({}):", storage.getName());
+        for (BenchmarkResult result : new BenchmarkResult[]{put, get, compute, remove}) {
+            logger.info("  {}", result);
+        }
+    }
+
+    private static String benchmarkId(int i) {
+        return String.format("BENCH-%08d", i);
+    }
+
+    private static Transaction benchmarkTransaction(int i, LocalDateTime now) {
+        return Transaction.builder()
+                .transactionId(benchmarkId(i))
+                .fromAccount("ACC-001-USD")
+                .toAccount("ACC-002-USD")
+                .amount(BigDecimal.valueOf(1000 + i % 10_000, 2))
+                .currency("USD")
+                .status(Transaction.TransactionStatus.PENDING)
+                .type(Transaction.TransactionType.TRANSFER)
+                .reference("REF-BENCH-" + i)
+                .createdAt(now)
+                .valueDate(now.toLocalDate().atStartOfDay())
+                .settlementMethod("RTGS")
+                .build();
+    }
+}
@@ -46,20 +46,20 @@ public class SwiftMockClient {
     }
 
     /**
-     * Get reconciliation status from SWIFT service
+     * Get reconciliation status from SWIFT service. Reads the live counters SWIFT keeps
+     * up to date as messages change, so no reconciliation run is triggered.
      */
     public ReconciliationResult getReconciliationStatus() {
         try {
-            String url = swiftBaseUrl + "/messages/reconcile";
+            String url = swiftBaseUrl + "/messages/reconciliation-status";
             logger.debug("Fetching reconciliation status from: {}", url);
 
-            // Use POST to trigger reconciliation check without auto-reconcile
-            ReconciliationRequest request = new ReconciliationRequest(null, false);
-            ReconciliationResult result = restTemplate.postForObject(url, request, ReconciliationResult.class);
+            ReconciliationResult result = restTemplate.getForObject(url, ReconciliationResult.class);
 
-            logger.info("Reconciliation status: {} reconciled, {} unreconciled",
+            logger.info("Reconciliation status: {} reconciled, {} unreconciled, {} unchecked",
                     result != null ? result.getReconciledCount() : 0,
-                    result != null ? result.getUnreconciledCount() : 0);
+                    result != null ? result.getUnreconciledCount() : 0,
+                    result != null ? result.getUncheckedCount() : 0);
 
             return result;
         } catch (Exception e) {
@@ -104,15 +104,9 @@ public class SwiftMockClient {
         private Integer reconciledCount;
         private Integer unreconciledCount;
         private Integer pendingCount;
+        // Changed since their last reconciliation, not yet counted either way
+        private Integer uncheckedCount;
         private String summary;
         private List<String> issues;
     }
-
-    @Data
-    @AllArgsConstructor
-    @NoArgsConstructor
-    private static class ReconciliationRequest {
-        private String accountId;
-        private boolean autoReconcile;
-    }
 }
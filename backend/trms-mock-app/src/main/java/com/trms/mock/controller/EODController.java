@@ -1,8 +1,15 @@
 package com.trms.mock.controller;
 
+import com.trms.mock.dto.BulkFixingProposalResult;
 import com.trms.mock.dto.EODRunRequest;
+import com.trms.mock.dto.EODJobStatus;
+import com.trms.mock.dto.PositionSnapshot;
 import com.trms.mock.dto.ProposeFixingsRequest;
+import com.trms.mock.dto.ReadinessCacheStats;
+import com.trms.mock.eod.EODBatchEngine;
+import com.trms.mock.eod.EODCheckpoint;
 import com.trms.mock.model.*;
+import com.trms.mock.service.EODJobService;
 import com.trms.mock.service.EODService;
 import com.trms.mock.service.MockDataService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +19,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -27,22 +39,34 @@ public class EODController {
     
     private final EODService eodService;
     private final MockDataService mockDataService;
+    private final EODBatchEngine eodBatchEngine;
+    private final EODJobService eodJobService;
     
     @GetMapping("/readiness")
-    @Operation(summary = "Check EOD readiness", description = "Perform comprehensive readiness check for end-of-day processing")
+    @Operation(summary = "Check EOD readiness", description = "Readiness check for end-of-day processing, served from a snapshot that is invalidated on data changes; refresh=true forces a recompute")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved readiness status")
     })
-    public ResponseEntity<EODCheckResult> checkEODReadiness() {
-        log.info("Performing EOD readiness check");
+    public ResponseEntity<EODCheckResult> checkEODReadiness(
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        log.debug("Performing EOD readiness check (refresh={})", refresh);
         
-        EODCheckResult result = eodService.checkEODReadiness();
+        EODCheckResult result = refresh ? eodService.refreshEODReadiness() : eodService.checkEODReadiness();
         
-        log.info("EOD readiness check completed - Status: {}, Ready: {}", 
+        log.debug("EOD readiness check completed - Status: {}, Ready: {}", 
                 result.getOverallStatus(), result.getReady());
         
         return ResponseEntity.ok(result);
     }
+
+    @GetMapping("/readiness/cache-stats")
+    @Operation(summary = "Get readiness cache statistics", description = "Hit/miss counts and state of the cached EOD readiness snapshot")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved cache statistics")
+    })
+    public ResponseEntity<ReadinessCacheStats> getReadinessCacheStats() {
+        return ResponseEntity.ok(eodService.getReadinessCacheStats());
+    }
     
     @GetMapping("/market-data-status")
     @Operation(summary = "Get market data status", description = "Retrieve current status of all market data feeds")
@@ -108,20 +132,94 @@ public class EODController {
         return ResponseEntity.ok(proposals);
     }
     
-    @PostMapping("/run")
-    @Operation(summary = "Run EOD processing", description = "Initiate end-of-day processing with optional parameters")
+    @PostMapping("/propose-fixings/bulk")
+    @Operation(summary = "Propose rate fixings in bulk",
+            description = "Propose fixings for many instruments in parallel, computing each index curve once "
+                    + "per index, currency and fixing date. Returns per-instrument results and timing metrics.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "EOD processing completed successfully"),
-        @ApiResponse(responseCode = "400", description = "Invalid EOD run parameters"),
-        @ApiResponse(responseCode = "422", description = "EOD readiness checks failed")
+        @ApiResponse(responseCode = "200", description = "Successfully generated rate proposals"),
+        @ApiResponse(responseCode = "400", description = "Invalid request parameters")
     })
-    public ResponseEntity<String> runEOD(@Valid @RequestBody EODRunRequest request) {
-        log.info("Initiating EOD run for business date: {}", request.getBusinessDate());
+    public ResponseEntity<BulkFixingProposalResult> proposeRateFixingsBulk(
+            @Valid @RequestBody ProposeFixingsRequest request) {
         
-        String result = eodService.runEOD(request);
+        BulkFixingProposalResult result = eodService.proposeRateFixingsBulk(request);
         
-        log.info("EOD run completed");
+        log.info("Generated {} rate fixing proposals in {} ms",
+                result.getProposals().size(), result.getMetrics().getTotalMillis());
         
         return ResponseEntity.ok(result);
     }
+    
+    @PostMapping("/run")
+    @Operation(summary = "Run EOD processing", description = "Queue the staged EOD batch (settlement, rate resets, balance reconciliation, position snapshots) as a background job. Follow it with GET /jobs/{jobId} or the /jobs/{jobId}/events stream. A failed run resumes from its last committed chunk when run again.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "EOD job accepted"),
+        @ApiResponse(responseCode = "400", description = "Invalid EOD run parameters")
+    })
+    public ResponseEntity<EODJobStatus> runEOD(@Valid @RequestBody EODRunRequest request) {
+        log.info("Queueing EOD run for business date: {}", request.getBusinessDate());
+        
+        EODJobStatus job = eodJobService.submit(request);
+        
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/eod/jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/jobs")
+    @Operation(summary = "List EOD jobs", description = "Recent EOD jobs, most recent first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved EOD jobs")
+    })
+    public ResponseEntity<List<EODJobStatus>> getEODJobs() {
+        return ResponseEntity.ok(eodJobService.getJobs());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    @Operation(summary = "Get EOD job status", description = "Current step, items processed, rate and, once finished, the run result")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved EOD job"),
+        @ApiResponse(responseCode = "404", description = "EOD job not found")
+    })
+    public ResponseEntity<EODJobStatus> getEODJob(@PathVariable String jobId) {
+        return eodJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream EOD job progress", description = "Server-sent events: 'progress' while the job runs, then a final 'complete' event")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Progress event stream"),
+        @ApiResponse(responseCode = "404", description = "EOD job not found")
+    })
+    public ResponseEntity<SseEmitter> streamEODJob(@PathVariable String jobId) {
+        return eodJobService.subscribe(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/run/{businessDate}/checkpoint")
+    @Operation(summary = "Get EOD run checkpoint", description = "Progress of the EOD run for a business date, as committed per step")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved checkpoint"),
+        @ApiResponse(responseCode = "404", description = "No EOD run for the business date")
+    })
+    public ResponseEntity<EODCheckpoint> getEODCheckpoint(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return eodBatchEngine.getCheckpoint(businessDate)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/positions/{businessDate}")
+    @Operation(summary = "Get EOD position snapshots", description = "Account positions captured by the EOD run for a business date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved position snapshots")
+    })
+    public ResponseEntity<List<PositionSnapshot>> getPositionSnapshots(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(eodBatchEngine.getPositionSnapshots(businessDate));
+    }
 }
\ No newline at end of file
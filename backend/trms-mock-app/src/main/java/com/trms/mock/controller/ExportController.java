@@ -0,0 +1,129 @@
+package com.trms.mock.controller;
+
+import com.trms.mock.service.DataExportService;
+import com.trms.mock.service.DataExportService.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/v1/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Data Export", description = "Streaming downloads of the full transaction and balance data sets")
+@CrossOrigin(origins = "*")
+public class ExportController {
+    
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    
+    private final DataExportService exportService;
+    
+    @FunctionalInterface
+    private interface Exporter {
+        long export(ExportFormat format, OutputStream out) throws IOException;
+    }
+    
+    @GetMapping("/transactions")
+    @Operation(summary = "Export transactions",
+            description = "Stream all transactions, or those with a value date in the given range, as NDJSON "
+                    + "(one JSON object per line) or CSV. "
+                    + "Compressed with gzip when the client accepts it, or as a .gz download with gzip=true.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format or invalid value date range")
+    })
+    public ResponseEntity<?> exportTransactions(
+            @Parameter(description = "ndjson or csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Download as a gzip file")
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @Parameter(description = "Earliest value date, inclusive", example = "2024-01-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate valueDateFrom,
+            @Parameter(description = "Latest value date, inclusive", example = "2024-01-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate valueDateTo,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        if (valueDateFrom != null && valueDateTo != null && valueDateFrom.isAfter(valueDateTo)) {
+            return ResponseEntity.badRequest().body("valueDateFrom must not be after valueDateTo");
+        }
+        return export("transactions", format, gzip, acceptEncoding,
+                (exportFormat, out) -> exportService.exportTransactions(exportFormat, valueDateFrom, valueDateTo, out));
+    }
+    
+    @GetMapping("/balances")
+    @Operation(summary = "Export account balances",
+            description = "Stream all account balances as NDJSON (one JSON object per line) or CSV. "
+                    + "Compressed with gzip when the client accepts it, or as a .gz download with gzip=true.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed"),
+        @ApiResponse(responseCode = "400", description = "Unsupported format")
+    })
+    public ResponseEntity<?> exportBalances(
+            @Parameter(description = "ndjson or csv", example = "csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Download as a gzip file")
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        return export("balances", format, gzip, acceptEncoding, exportService::exportBalances);
+    }
+    
+    private ResponseEntity<?> export(String name, String format, boolean gzipFile, String acceptEncoding,
+                                     Exporter exporter) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unsupported export format: {}", format);
+            return ResponseEntity.badRequest().body("Unsupported format '" + format + "', use ndjson or csv");
+        }
+        
+        boolean contentEncoding = !gzipFile && acceptEncoding != null
+                && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        boolean compress = gzipFile || contentEncoding;
+        String fileName = name + "." + exportFormat.getExtension() + (gzipFile ? ".gz" : "");
+        
+        log.info("Exporting {} as {} (gzip file: {}, gzip encoding: {})", name, exportFormat, gzipFile, contentEncoding);
+        
+        StreamingResponseBody body = out -> {
+            if (compress) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exporter.export(exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                exporter.export(exportFormat, out);
+            }
+            out.flush();
+        };
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipFile) {
+            headers.setContentType(MediaType.parseMediaType("application/gzip"));
+        } else {
+            headers.setContentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"));
+        }
+        if (contentEncoding) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+}
@@ -0,0 +1,103 @@
+package com.trms.mock.controller;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.trms.mock.dto.FeedRegistrationRequest;
+import com.trms.mock.dto.MarketDataTick;
+import com.trms.mock.dto.TickIngestResult;
+import com.trms.mock.marketdata.MarketDataIngestionService;
+import com.trms.mock.model.MarketDataStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/v1/market-data")
+@Slf4j
+@Tag(name = "Market Data Ingestion", description = "Feed registration and streamed tick ingestion with live completeness tracking")
+@CrossOrigin(origins = "*")
+public class MarketDataController {
+
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final MarketDataIngestionService ingestionService;
+    private final ObjectReader tickReader;
+
+    public MarketDataController(MarketDataIngestionService ingestionService, ObjectMapper objectMapper) {
+        this.ingestionService = ingestionService;
+        this.tickReader = objectMapper.readerFor(MarketDataTick.class);
+    }
+
+    @GetMapping("/feeds")
+    @Operation(summary = "Get tracked feeds", description = "Feed types whose completeness is tracked from ingested ticks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved tracked feeds")
+    })
+    public ResponseEntity<Set<String>> getTrackedFeeds() {
+        return ResponseEntity.ok(ingestionService.getTrackedFeeds());
+    }
+
+    @PutMapping("/feeds/{feedType}")
+    @Operation(summary = "Register feed",
+            description = "Set the expected instrument universe of a feed and start tracking its completeness "
+                    + "from ingested ticks. Replaces the feed's static status and any earlier universe.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed registered, returns its initial status"),
+        @ApiResponse(responseCode = "400", description = "No instruments given")
+    })
+    public ResponseEntity<MarketDataStatus> registerFeed(
+            @Parameter(description = "Feed type", example = "FX_RATES")
+            @PathVariable String feedType,
+            @Valid @RequestBody FeedRegistrationRequest request) {
+        return ResponseEntity.ok(ingestionService.registerFeed(feedType, request));
+    }
+
+    @PostMapping("/feeds/{feedType}/reset")
+    @Operation(summary = "Reset feed",
+            description = "Clear the instruments received on a tracked feed, e.g. for a new business day. "
+                    + "The new session's cutoff defaults to the registered cutoff's time of day today.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Feed reset, returns its status"),
+        @ApiResponse(responseCode = "404", description = "Feed is not tracked")
+    })
+    public ResponseEntity<MarketDataStatus> resetFeed(
+            @Parameter(description = "Feed type", example = "FX_RATES")
+            @PathVariable String feedType,
+            @Parameter(description = "Cutoff of the new session", example = "2024-01-15T18:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cutoffTime) {
+        return ingestionService.resetFeed(feedType, cutoffTime)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(path = "/ticks", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Ingest ticks",
+            description = "Ingest FX rate, equity price or interest rate ticks from a JSON array or NDJSON body. "
+                    + "The body is read as a stream; each tick marks its instrument as received on its feed.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Ticks ingested, see counts"),
+        @ApiResponse(responseCode = "400", description = "Malformed body, ticks before the error were ingested")
+    })
+    public ResponseEntity<TickIngestResult> ingestTicks(InputStream body) throws IOException {
+        try (MappingIterator<MarketDataTick> ticks = tickReader.readValues(body)) {
+            TickIngestResult result = ingestionService.ingest(ticks);
+            HttpStatus status = Boolean.TRUE.equals(result.getComplete()) ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(result);
+        }
+    }
+}
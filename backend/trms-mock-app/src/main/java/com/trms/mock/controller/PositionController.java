@@ -0,0 +1,80 @@
+package com.trms.mock.controller;
+
+import com.trms.mock.dto.CashLadderEntry;
+import com.trms.mock.dto.PortfolioPositions;
+import com.trms.mock.service.MockDataService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/positions")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Positions", description = "Aggregated balance positions and value-date cash ladder")
+@CrossOrigin(origins = "*")
+public class PositionController {
+
+    private final MockDataService mockDataService;
+
+    @GetMapping
+    @Operation(summary = "Get portfolio positions",
+               description = "Current, available and reserved balances and pending debits/credits totalled per currency "
+                       + "and per account type, with the value-date cash ladder of pending, validated and settled transactions")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved portfolio positions"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    public ResponseEntity<PortfolioPositions> getPortfolioPositions(
+            @Parameter(description = "Currency filter (optional)", example = "USD")
+            @RequestParam(required = false) String currency,
+            @Parameter(description = "First value date of the cash ladder (inclusive, optional)", example = "2024-01-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last value date of the cash ladder (inclusive, optional)", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        PortfolioPositions positions = mockDataService.getPortfolioPositions(blankToNull(currency), from, to);
+        log.info("Portfolio positions: {} currencies, {} cash ladder entries",
+                positions.getCurrencies().size(), positions.getCashLadder().size());
+        return ResponseEntity.ok(positions);
+    }
+
+    @GetMapping("/cash-ladder")
+    @Operation(summary = "Get cash ladder",
+               description = "Transaction amounts per currency and value date, split into pending, validated and settled, "
+                       + "with the running total of unsettled amounts per currency")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved cash ladder"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range")
+    })
+    public ResponseEntity<List<CashLadderEntry>> getCashLadder(
+            @Parameter(description = "Currency filter (optional)", example = "USD")
+            @RequestParam(required = false) String currency,
+            @Parameter(description = "First value date (inclusive, optional)", example = "2024-01-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last value date (inclusive, optional)", example = "2024-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(mockDataService.getCashLadder(blankToNull(currency), from, to));
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+}
@@ -1,49 +1,148 @@
 package com.trms.mock.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.trms.mock.dto.BatchBookingResult;
+import com.trms.mock.dto.BookingResult;
+import com.trms.mock.dto.BulkApproveRequest;
+import com.trms.mock.dto.BulkApproveResult;
 import com.trms.mock.dto.CreateTransactionRequest;
-import com.trms.mock.model.Account;
-import com.trms.mock.model.AccountBalance;
+import com.trms.mock.dto.TransactionLookupRequest;
+import com.trms.mock.dto.TransactionLookupResult;
+import com.trms.mock.dto.TransactionPage;
+import com.trms.mock.dto.TransactionProjection;
+import com.trms.mock.dto.TransactionQuery;
 import com.trms.mock.model.Transaction;
 import com.trms.mock.service.MockDataService;
+import com.trms.mock.service.TransactionBookingService;
+import com.trms.mock.service.TransactionCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/transactions")
-@RequiredArgsConstructor
 @Slf4j
 @Tag(name = "Transaction Management", description = "Operations related to transaction processing and booking")
 @CrossOrigin(origins = "*")
 public class TransactionController {
     
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_LOOKUP_SIZE = 1000;
+    
     private final MockDataService mockDataService;
+    private final TransactionBookingService bookingService;
+    private final ObjectReader batchReader;
+    
+    public TransactionController(MockDataService mockDataService,
+                                 TransactionBookingService bookingService,
+                                 ObjectMapper objectMapper) {
+        this.mockDataService = mockDataService;
+        this.bookingService = bookingService;
+        this.batchReader = objectMapper.readerFor(CreateTransactionRequest.class);
+    }
     
     @GetMapping
-    @Operation(summary = "Get all transactions", description = "Retrieve all transactions in the system")
+    @Operation(summary = "Get all transactions",
+            description = "Retrieve all transactions in the system. Passing any paging, filter or projection "
+                    + "parameter returns one page in (createdAt, transactionId) order instead; follow nextCursor "
+                    + "for the next page.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions")
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved transactions"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor, limit or field name")
     })
-    public ResponseEntity<List<Transaction>> getAllTransactions() {
-        log.info("Fetching all transactions");
+    public ResponseEntity<?> getAllTransactions(
+            @Parameter(description = "Page size, 1 to " + MAX_PAGE_SIZE + " (default " + DEFAULT_PAGE_SIZE + ")")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "nextCursor from the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Transaction status", example = "PENDING")
+            @RequestParam(required = false) Transaction.TransactionStatus status,
+            @Parameter(description = "Account on either side of the transfer", example = "ACC-001-USD")
+            @RequestParam(required = false) String accountId,
+            @Parameter(description = "Currency code", example = "USD")
+            @RequestParam(required = false) String currency,
+            @Parameter(description = "Created at or after (ISO date-time)", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Created before (ISO date-time)", example = "2024-01-16T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Sort order by creation time: asc or desc", example = "desc")
+            @RequestParam(required = false) String order,
+            @Parameter(description = "Comma-separated fields to return", example = "transactionId,amount,status")
+            @RequestParam(required = false) List<String> fields) {
+        
+        boolean paged = limit != null || cursor != null || status != null || accountId != null
+                || currency != null || from != null || to != null || order != null || fields != null;
+        if (!paged) {
+            log.info("Fetching all transactions");
+            
+            List<Transaction> transactions = mockDataService.getAllTransactions();
+            log.info("Found {} transactions", transactions.size());
+            
+            return ResponseEntity.ok(transactions);
+        }
+        
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (order != null && !order.equalsIgnoreCase("asc") && !order.equalsIgnoreCase("desc")) {
+            return ResponseEntity.badRequest().body("order must be asc or desc");
+        }
+        
+        TransactionQuery query;
+        TransactionProjection projection;
+        try {
+            query = TransactionQuery.builder()
+                    .status(status)
+                    .accountId(accountId)
+                    .currency(currency)
+                    .from(from)
+                    .to(to)
+                    .after(cursor != null ? TransactionCursor.decode(cursor) : null)
+                    .descending("desc".equalsIgnoreCase(order))
+                    .limit(pageSize)
+                    .build();
+            projection = fields != null ? TransactionProjection.of(fields) : null;
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid transaction page request: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
         
-        List<Transaction> transactions = mockDataService.getAllTransactions();
-        log.info("Found {} transactions", transactions.size());
+        log.info("Fetching transaction page: {}", query);
+        TransactionPage<Transaction> page = mockDataService.findTransactions(query);
         
-        return ResponseEntity.ok(transactions);
+        if (projection == null) {
+            return ResponseEntity.ok(page);
+        }
+        return ResponseEntity.ok(TransactionPage.<Map<String, Object>>builder()
+                .transactions(page.getTransactions().stream().map(projection::apply).toList())
+                .count(page.getCount())
+                .limit(page.getLimit())
+                .hasMore(page.getHasMore())
+                .nextCursor(page.getNextCursor())
+                .build());
     }
     
     @GetMapping("/{transactionId}")
@@ -72,6 +171,42 @@ public class TransactionController {
         }
     }
     
+    @PostMapping("/lookup")
+    @Operation(summary = "Get transactions by IDs",
+            description = "Fetch up to " + MAX_LOOKUP_SIZE + " transactions in one call. Duplicate IDs are resolved once; "
+                    + "IDs that do not exist are listed in notFound.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully looked up transactions"),
+        @ApiResponse(responseCode = "400", description = "No transaction IDs, a blank ID, or more than the lookup limit")
+    })
+    public ResponseEntity<?> lookupTransactions(@Valid @RequestBody TransactionLookupRequest request) {
+        
+        List<String> transactionIds = request.getTransactionIds();
+        if (transactionIds.size() > MAX_LOOKUP_SIZE) {
+            log.warn("Transaction lookup of {} IDs exceeds limit {}", transactionIds.size(), MAX_LOOKUP_SIZE);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("At most " + MAX_LOOKUP_SIZE + " transaction IDs per lookup");
+        }
+        
+        List<Transaction> found = mockDataService.getTransactionsByIds(transactionIds);
+        Set<String> foundIds = new HashSet<>(found.size() * 2);
+        for (Transaction txn : found) {
+            foundIds.add(txn.getTransactionId());
+        }
+        List<String> notFound = transactionIds.stream()
+                .filter(id -> !foundIds.contains(id))
+                .distinct()
+                .toList();
+        
+        log.debug("Transaction lookup: {} requested, {} found", transactionIds.size(), found.size());
+        
+        return ResponseEntity.ok(TransactionLookupResult.builder()
+                .requested(transactionIds.size())
+                .transactions(found)
+                .notFound(notFound)
+                .build());
+    }
+    
     @PostMapping
     @Operation(summary = "Create new transaction", description = "Book a new transaction between accounts")
     @ApiResponses(value = {
@@ -87,70 +222,68 @@ public class TransactionController {
                 request.getAmount(), request.getCurrency(), 
                 request.getFromAccount(), request.getToAccount());
         
-        // Validate from account exists
-        Optional<Account> fromAccount = mockDataService.getAccountById(request.getFromAccount());
-        if (fromAccount.isEmpty()) {
-            log.warn("From account not found: {}", request.getFromAccount());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body("From account not found: " + request.getFromAccount());
+        BookingResult result = bookingService.book(request);
+        if (!result.isCreated()) {
+            return ResponseEntity.status(result.getHttpStatus()).body(result.getMessage());
         }
         
-        // Validate to account exists
-        Optional<Account> toAccount = mockDataService.getAccountById(request.getToAccount());
-        if (toAccount.isEmpty()) {
-            log.warn("To account not found: {}", request.getToAccount());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body("To account not found: " + request.getToAccount());
-        }
+        log.info("Transaction created successfully with ID: {}", result.getTransactionId());
         
-        // Validate currency matches from account
-        if (!fromAccount.get().getCurrency().equalsIgnoreCase(request.getCurrency())) {
-            log.warn("Currency mismatch: account {} has currency {}, but transaction currency is {}", 
-                    request.getFromAccount(), fromAccount.get().getCurrency(), request.getCurrency());
-            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
-                    .body("Currency mismatch with from account");
-        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(result.getTransaction());
+    }
+
+    @PostMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Create transactions in bulk",
+            description = "Book many transactions from a JSON array or NDJSON body. The body is read as a stream, "
+                    + "each distinct account is validated once and funds are checked against a running "
+                    + "projected balance for the whole batch. Returns a result per item.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+        @ApiResponse(responseCode = "400", description = "Malformed body, items before the error were booked"),
+        @ApiResponse(responseCode = "500", description = "Storage failed, see per-item results for what was booked")
+    })
+    public ResponseEntity<BatchBookingResult> createTransactions(InputStream body) throws IOException {
+        log.info("Creating transactions in bulk");
         
-        // Validate currency matches to account
-        if (!toAccount.get().getCurrency().equalsIgnoreCase(request.getCurrency())) {
-            log.warn("Currency mismatch: account {} has currency {}, but transaction currency is {}", 
-                    request.getToAccount(), toAccount.get().getCurrency(), request.getCurrency());
-            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
-                    .body("Currency mismatch with to account");
+        try (MappingIterator<CreateTransactionRequest> requests = batchReader.readValues(body)) {
+            BatchBookingResult result = bookingService.bookBatch(requests);
+            HttpStatus status = Boolean.TRUE.equals(result.getStorageFailure()) ? HttpStatus.INTERNAL_SERVER_ERROR
+                    : Boolean.TRUE.equals(result.getComplete()) ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(result);
         }
+    }
+
+    @PostMapping("/approve")
+    @Operation(summary = "Approve transactions in bulk",
+            description = "Approve pending transactions selected by a list of IDs or by a filter "
+                    + "(account, currency, value date). Balance updates are netted per account and applied in one pass.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Approval processed, see approved and skipped transactions"),
+        @ApiResponse(responseCode = "400", description = "Neither transaction IDs nor a filter were given")
+    })
+    public ResponseEntity<?> approveTransactions(@RequestBody BulkApproveRequest request) {
         
-        // Check available balance
-        Optional<AccountBalance> fromBalance = mockDataService.getAccountBalance(request.getFromAccount());
-        if (fromBalance.isPresent() && fromBalance.get().getAvailableBalance().compareTo(request.getAmount()) < 0) {
-            log.warn("Insufficient funds in account {}: available {}, requested {}", 
-                    request.getFromAccount(), fromBalance.get().getAvailableBalance(), request.getAmount());
-            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
-                    .body("Insufficient available funds");
+        if (!request.hasTransactionIds() && !request.hasFilter()) {
+            log.warn("Bulk approval requested without transaction IDs or filter");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Provide transactionIds or at least one of accountId, currency, valueDate");
         }
         
-        // Create transaction
-        String transactionId = "TXN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        
-        Transaction transaction = Transaction.builder()
-                .transactionId(transactionId)
-                .fromAccount(request.getFromAccount())
-                .toAccount(request.getToAccount())
-                .amount(request.getAmount())
-                .currency(request.getCurrency().toUpperCase())
-                .status(Transaction.TransactionStatus.PENDING)
-                .type(Transaction.TransactionType.TRANSFER)
-                .description(request.getDescription())
-                .reference(request.getReference())
-                .settlementMethod(request.getSettlementMethod() != null ? request.getSettlementMethod() : "RTGS")
-                .createdAt(LocalDateTime.now())
-                .valueDate(LocalDateTime.now().toLocalDate().atStartOfDay())
-                .build();
-        
-        String createdId = mockDataService.createTransaction(transaction);
-        
-        log.info("Transaction created successfully with ID: {}", createdId);
+        List<String> transactionIds;
+        if (request.hasTransactionIds()) {
+            log.info("Bulk approving {} transactions by ID", request.getTransactionIds().size());
+            transactionIds = request.getTransactionIds();
+        } else {
+            log.info("Bulk approving pending transactions for account {}, currency {}, value date {}",
+                    request.getAccountId(), request.getCurrency(), request.getValueDate());
+            transactionIds = mockDataService.findPendingTransactions(
+                            request.getAccountId(), request.getCurrency(), request.getValueDate()).stream()
+                    .map(Transaction::getTransactionId)
+                    .toList();
+        }
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(transaction);
+        BulkApproveResult result = mockDataService.approveTransactions(transactionIds);
+        return ResponseEntity.ok(result);
     }
 
     @PostMapping("/{transactionId}/approve")
@@ -184,19 +317,8 @@ public class TransactionController {
         }
 
         // Update transaction status to VALIDATED
-        Transaction approvedTransaction = Transaction.builder()
-                .transactionId(transaction.getTransactionId())
-                .fromAccount(transaction.getFromAccount())
-                .toAccount(transaction.getToAccount())
-                .amount(transaction.getAmount())
-                .currency(transaction.getCurrency())
+        Transaction approvedTransaction = transaction.toBuilder()
                 .status(Transaction.TransactionStatus.VALIDATED)
-                .type(transaction.getType())
-                .description(transaction.getDescription())
-                .reference(transaction.getReference())
-                .settlementMethod(transaction.getSettlementMethod())
-                .createdAt(transaction.getCreatedAt())
-                .valueDate(transaction.getValueDate())
                 .build();
 
         mockDataService.updateTransaction(approvedTransaction);
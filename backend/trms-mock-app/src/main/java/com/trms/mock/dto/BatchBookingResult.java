@@ -0,0 +1,26 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBookingResult {
+    
+    private Integer total;
+    private Integer created;
+    private Integer rejected;
+    private Integer distinctAccounts;
+    private Long elapsedMillis;
+    private Boolean complete;
+    private String error;
+    /** True if the batch stopped because accepted items could not be stored */
+    private Boolean storageFailure;
+    private List<BookingResult> results;
+}
@@ -0,0 +1,30 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.model.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingResult {
+    
+    private Integer index;
+    private BookingStatus status;
+    private Integer httpStatus;
+    private String transactionId;
+    private String message;
+    private Transaction transaction;
+    
+    public enum BookingStatus {
+        CREATED,
+        REJECTED
+    }
+    
+    public boolean isCreated() {
+        return status == BookingStatus.CREATED;
+    }
+}
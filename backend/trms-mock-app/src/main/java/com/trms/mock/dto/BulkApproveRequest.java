@@ -0,0 +1,36 @@
+package com.trms.mock.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Selects pending transactions to approve, either by explicit IDs or by filter.
+ * Filter fields are combined with AND; the account matches either side of a transfer.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApproveRequest {
+    
+    private List<String> transactionIds;
+    private String accountId;
+    private String currency;
+    private LocalDate valueDate;
+    
+    @JsonIgnore
+    public boolean hasTransactionIds() {
+        return transactionIds != null && !transactionIds.isEmpty();
+    }
+    
+    @JsonIgnore
+    public boolean hasFilter() {
+        return accountId != null || currency != null || valueDate != null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApproveResult {
+    
+    private Integer requested;
+    private Integer approved;
+    private Integer skipped;
+    private List<String> approvedTransactionIds;
+    private Map<String, String> skippedTransactions;
+    private Map<String, BigDecimal> netBalanceChanges;
+    private Long elapsedMillis;
+}
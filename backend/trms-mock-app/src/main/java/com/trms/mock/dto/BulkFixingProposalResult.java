@@ -0,0 +1,33 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkFixingProposalResult {
+    
+    private List<FixingProposal> proposals;
+    private Metrics metrics;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Metrics {
+        private Integer instruments;
+        private Integer partitions;
+        private Integer curvesComputed;
+        private Integer curveCacheHits;
+        private Integer parallelism;
+        private Long lookupMillis;
+        private Long proposeMillis;
+        private Long totalMillis;
+    }
+}
@@ -0,0 +1,30 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Transaction flows of one currency falling on one value date, split by settlement stage
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashLadderEntry {
+
+    private String currency;
+    private LocalDate valueDate;
+    private int pendingCount;
+    private BigDecimal pendingAmount;
+    private int validatedCount;
+    private BigDecimal validatedAmount;
+    private int settledCount;
+    private BigDecimal settledAmount;
+    // Pending and validated amounts of this and all earlier value dates of the currency
+    private BigDecimal cumulativeUnsettledAmount;
+}
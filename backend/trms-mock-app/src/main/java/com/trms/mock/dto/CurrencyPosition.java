@@ -0,0 +1,32 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrencyPosition {
+
+    private String currency;
+    private int accounts;
+    private BigDecimal totalCurrentBalance;
+    private BigDecimal totalAvailableBalance;
+    private BigDecimal totalReservedBalance;
+
+    /** Add another partial aggregate of the same currency */
+    public CurrencyPosition merge(CurrencyPosition other) {
+        return CurrencyPosition.builder()
+                .currency(currency)
+                .accounts(accounts + other.accounts)
+                .totalCurrentBalance(totalCurrentBalance.add(other.totalCurrentBalance))
+                .totalAvailableBalance(totalAvailableBalance.add(other.totalAvailableBalance))
+                .totalReservedBalance(totalReservedBalance.add(other.totalReservedBalance))
+                .build();
+    }
+}
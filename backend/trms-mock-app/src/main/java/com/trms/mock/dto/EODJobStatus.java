@@ -0,0 +1,45 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.eod.EODStep;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EODJobStatus {
+
+    private String jobId;
+    private LocalDate businessDate;
+    private String initiatedBy;
+    private JobState state;
+
+    // Progress of the step currently running
+    private EODStep currentStep;
+    private long stepItemsProcessed;
+    private long stepItemsTotal;
+    private double itemsPerSecond;
+    private double progressPercent;
+    private List<EODStepResult> completedSteps;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String message;
+    // Present once the job has finished
+    private EODRunResult result;
+
+    public enum JobState {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+}
@@ -17,4 +17,6 @@ public class EODRunRequest {
     private Boolean forceRun;
     private Boolean skipValidation;
     private String initiatedBy;
+    // Discard the checkpoint of an earlier run for the business date and start over
+    private Boolean restart;
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EODRunResult {
+
+    private String runId;
+    private LocalDate businessDate;
+    private String initiatedBy;
+    private RunOutcome outcome;
+    private String message;
+    // Attempt number of this run for the business date; above 1 means it resumed from a checkpoint
+    private int attempt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private long elapsedMillis;
+    private List<EODStepResult> steps;
+    private long reconciliationBreaks;
+    private List<String> reconciliationBreakSamples;
+    private List<CurrencyPosition> positions;
+
+    public enum RunOutcome {
+        COMPLETED,
+        ALREADY_COMPLETED,
+        ALREADY_RUNNING,
+        FAILED,
+        REJECTED
+    }
+}
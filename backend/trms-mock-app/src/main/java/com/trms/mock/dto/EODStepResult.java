@@ -0,0 +1,30 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.eod.EODCheckpoint;
+import com.trms.mock.eod.EODStep;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EODStepResult {
+
+    private EODStep step;
+    private EODCheckpoint.StepStatus status;
+    // True when the step had already completed in an earlier attempt and was skipped
+    private boolean resumedCompleted;
+    private int partitions;
+    private int chunks;
+    private int chunksFailed;
+    // Items changed or checked by this attempt
+    private long itemsProcessed;
+    // Items over all attempts of the run, from the checkpoint
+    private long totalItemsProcessed;
+    private long elapsedMillis;
+    private double itemsPerSecond;
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Expected instrument universe of a feed; completeness is measured against it
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedRegistrationRequest {
+
+    private String provider;
+
+    @NotEmpty(message = "At least one instrument is required")
+    private List<String> instruments;
+
+    private LocalDateTime cutoffTime;
+}
@@ -0,0 +1,20 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.model.RateReset;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixingProposal {
+    
+    private String instrumentId;
+    private Boolean existingInstrument;
+    private RateReset.RateStatus previousStatus;
+    private RateReset rateReset;
+    private Long computeMicros;
+}
@@ -0,0 +1,25 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One price or rate update of an instrument on a market data feed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketDataTick {
+
+    private String feedType;
+    private String instrumentId;
+    private BigDecimal value;
+    // Optional source time; the receipt time is used when absent
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,21 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioPositions {
+
+    private LocalDateTime generatedAt;
+    private List<PositionTotals> currencies;
+    private List<PositionTotals> accountTypes;
+    private List<CashLadderEntry> cashLadder;
+}
@@ -0,0 +1,25 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionSnapshot {
+
+    private String accountId;
+    private String currency;
+    private LocalDate businessDate;
+    private BigDecimal currentBalance;
+    private BigDecimal availableBalance;
+    private BigDecimal reservedBalance;
+    private LocalDateTime capturedAt;
+}
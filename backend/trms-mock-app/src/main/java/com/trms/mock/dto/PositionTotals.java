@@ -0,0 +1,29 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.model.Account;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Balance totals of the accounts of one currency, or of one account type within a currency
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PositionTotals {
+
+    private String currency;
+    // Null for the currency-wide totals
+    private Account.AccountType accountType;
+    private int accounts;
+    private BigDecimal currentBalance;
+    private BigDecimal availableBalance;
+    private BigDecimal reservedBalance;
+    private BigDecimal pendingCredits;
+    private BigDecimal pendingDebits;
+}
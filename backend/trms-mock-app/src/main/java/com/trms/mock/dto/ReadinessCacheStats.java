@@ -0,0 +1,25 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadinessCacheStats {
+
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long invalidations;
+    private long swiftRefreshes;
+    private long swiftTtlSeconds;
+    private boolean snapshotValid;
+    private LocalDateTime snapshotComputedAt;
+    private Long lastComputeMillis;
+}
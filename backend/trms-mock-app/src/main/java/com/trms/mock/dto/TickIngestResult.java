@@ -0,0 +1,25 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TickIngestResult {
+
+    private long ticks;
+    // Ticks for an instrument not yet received on its feed
+    private long newItems;
+    private long duplicates;
+    // Ticks for an unregistered feed or an instrument outside the feed's universe
+    private long unknown;
+    // Ticks without feed, instrument or value
+    private long rejected;
+    private Boolean complete;
+    private String error;
+    private long elapsedMillis;
+}
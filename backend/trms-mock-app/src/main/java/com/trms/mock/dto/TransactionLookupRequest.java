@@ -0,0 +1,23 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * IDs of the transactions to fetch in one batch lookup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionLookupRequest {
+
+    @NotEmpty(message = "Transaction IDs are required")
+    private List<@NotBlank(message = "Transaction IDs must not be blank") String> transactionIds;
+}
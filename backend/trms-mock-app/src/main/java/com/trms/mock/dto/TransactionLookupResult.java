@@ -0,0 +1,23 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.model.Transaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Transactions found by a batch lookup, plus the requested IDs that do not exist
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionLookupResult {
+
+    private Integer requested;
+    private List<Transaction> transactions;
+    private List<String> notFound;
+}
@@ -0,0 +1,21 @@
+package com.trms.mock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPage<T> {
+    
+    private List<T> transactions;
+    private Integer count;
+    private Integer limit;
+    private Boolean hasMore;
+    private String nextCursor;
+}
@@ -0,0 +1,69 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.model.Transaction;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Field projection for transaction listings, e.g. {@code fields=transactionId,amount,status}.
+ * Fields are read through plain getters, so only the requested values are copied and serialized.
+ */
+public final class TransactionProjection {
+
+    private static final Map<String, Function<Transaction, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("transactionId", Transaction::getTransactionId);
+        FIELDS.put("fromAccount", Transaction::getFromAccount);
+        FIELDS.put("toAccount", Transaction::getToAccount);
+        FIELDS.put("amount", Transaction::getAmount);
+        FIELDS.put("currency", Transaction::getCurrency);
+        FIELDS.put("status", Transaction::getStatus);
+        FIELDS.put("createdAt", Transaction::getCreatedAt);
+        FIELDS.put("description", Transaction::getDescription);
+        FIELDS.put("reference", Transaction::getReference);
+        FIELDS.put("type", Transaction::getType);
+        FIELDS.put("valueDate", Transaction::getValueDate);
+        FIELDS.put("settledAt", Transaction::getSettledAt);
+        FIELDS.put("reasonCode", Transaction::getReasonCode);
+        FIELDS.put("settlementMethod", Transaction::getSettlementMethod);
+    }
+
+    private final Map<String, Function<Transaction, Object>> selected;
+
+    private TransactionProjection(Map<String, Function<Transaction, Object>> selected) {
+        this.selected = selected;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    public static TransactionProjection of(Collection<String> fields) {
+        Map<String, Function<Transaction, Object>> selected = new LinkedHashMap<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            Function<Transaction, Object> getter = FIELDS.get(name);
+            if (getter == null) {
+                throw new IllegalArgumentException("Unknown field '" + name + "', available fields: " + FIELDS.keySet());
+            }
+            selected.put(name, getter);
+        }
+        return new TransactionProjection(selected);
+    }
+
+    /** Null values are left out, like the non_null inclusion used for full transactions */
+    public Map<String, Object> apply(Transaction transaction) {
+        Map<String, Object> projected = new LinkedHashMap<>(selected.size() * 2);
+        selected.forEach((name, getter) -> {
+            Object value = getter.apply(transaction);
+            if (value != null) {
+                projected.put(name, value);
+            }
+        });
+        return projected;
+    }
+}
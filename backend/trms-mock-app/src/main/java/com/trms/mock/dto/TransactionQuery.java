@@ -0,0 +1,30 @@
+package com.trms.mock.dto;
+
+import com.trms.mock.model.Transaction;
+import com.trms.mock.service.TransactionCursor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters and position for a page of transactions. Null filters are ignored,
+ * the account matches either side of a transfer and the creation range is [from, to).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionQuery {
+    
+    private Transaction.TransactionStatus status;
+    private String accountId;
+    private String currency;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private TransactionCursor after;
+    private boolean descending;
+    private int limit;
+}
@@ -0,0 +1,547 @@
+package com.trms.mock.eod;
+
+import com.trms.mock.dto.CurrencyPosition;
+import com.trms.mock.dto.EODRunResult;
+import com.trms.mock.dto.EODStepResult;
+import com.trms.mock.dto.PositionSnapshot;
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.RateReset;
+import com.trms.mock.model.Transaction;
+import com.trms.mock.service.MockDataService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the EOD batch for a business date as a sequence of {@link EODStep}s.
+ * Each step partitions its work by currency and splits the partitions into chunks,
+ * which run in parallel on a fixed worker pool. Every committed chunk is recorded in
+ * the run's {@link EODCheckpoint}, so a failed run resumes where it stopped: completed
+ * steps are skipped and committed chunks of mutating steps are not processed again.
+ *
+ * Chunk commits only update the checkpoint in memory; a {@link CheckpointWriter} writes
+ * the latest state off the commit path, and every step boundary is written before the
+ * run moves on. A crash can lose the last few chunk commits of a step, and those chunks
+ * run again on resume, which is safe because the mutating steps only touch items that
+ * are still in their source status.
+ */
+@Component
+public class EODBatchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(EODBatchEngine.class);
+
+    private static final int MAX_BREAK_SAMPLES = 100;
+    private static final String UNKNOWN_CURRENCY = "UNKNOWN";
+
+    private final MockDataService mockDataService;
+    private final EODCheckpointStore checkpointStore;
+    private final EODReportWriter reportWriter;
+    private final EODProperties.Batch config;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+
+    private final Set<LocalDate> runningDates = ConcurrentHashMap.newKeySet();
+    private final Map<LocalDate, Map<String, PositionSnapshot>> positionSnapshots = new ConcurrentHashMap<>();
+
+    public EODBatchEngine(MockDataService mockDataService, EODCheckpointStore checkpointStore,
+                          EODReportWriter reportWriter, EODProperties properties, MeterRegistry meterRegistry) {
+        this.mockDataService = mockDataService;
+        this.checkpointStore = checkpointStore;
+        this.reportWriter = reportWriter;
+        this.config = properties.getBatch();
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(Math.max(1, config.getParallelism()), runnable -> {
+            Thread thread = new Thread(runnable, "trms-eod-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Run, or resume, the EOD batch for {@code businessDate}. With {@code restart} the
+     * existing checkpoint is discarded and every step runs again.
+     */
+    public EODRunResult run(LocalDate businessDate, String initiatedBy, boolean restart) {
+        return run(businessDate, initiatedBy, restart, EODProgressListener.NONE);
+    }
+
+    /**
+     * Run the EOD batch, reporting step and chunk progress to {@code listener}
+     */
+    public EODRunResult run(LocalDate businessDate, String initiatedBy, boolean restart,
+                            EODProgressListener listener) {
+        if (!runningDates.add(businessDate)) {
+            return EODRunResult.builder()
+                    .businessDate(businessDate)
+                    .initiatedBy(initiatedBy)
+                    .outcome(EODRunResult.RunOutcome.ALREADY_RUNNING)
+                    .message("An EOD run for " + businessDate + " is already in progress")
+                    .build();
+        }
+        try {
+            return execute(businessDate, initiatedBy, restart, listener);
+        } finally {
+            runningDates.remove(businessDate);
+        }
+    }
+
+    public Optional<EODCheckpoint> getCheckpoint(LocalDate businessDate) {
+        return checkpointStore.load(businessDate);
+    }
+
+    /**
+     * Account positions captured by the last completed snapshot step for the date
+     */
+    public List<PositionSnapshot> getPositionSnapshots(LocalDate businessDate) {
+        Map<String, PositionSnapshot> snapshots = positionSnapshots.getOrDefault(businessDate, Collections.emptyMap());
+        List<PositionSnapshot> result = new ArrayList<>(snapshots.values());
+        result.sort(Comparator.comparing(PositionSnapshot::getAccountId));
+        return result;
+    }
+
+    private EODRunResult execute(LocalDate businessDate, String initiatedBy, boolean restart,
+                                 EODProgressListener listener) {
+        long started = System.nanoTime();
+        if (restart) {
+            checkpointStore.delete(businessDate);
+        }
+
+        EODCheckpoint checkpoint = checkpointStore.load(businessDate).orElse(null);
+        if (checkpoint != null && checkpoint.getStatus() == EODCheckpoint.StepStatus.COMPLETED) {
+            logger.info("EOD run {} for {} already completed", checkpoint.getRunId(), businessDate);
+            return result(checkpoint, EODRunResult.RunOutcome.ALREADY_COMPLETED,
+                    "EOD for " + businessDate + " already completed. Use restart=true to run it again.",
+                    List.of(), started);
+        }
+        if (checkpoint == null) {
+            checkpoint = EODCheckpoint.builder()
+                    .businessDate(businessDate)
+                    .runId("EOD-" + businessDate + "-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase())
+                    .initiatedBy(initiatedBy)
+                    .startedAt(LocalDateTime.now())
+                    .build();
+        }
+        checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+        checkpoint.setStatus(EODCheckpoint.StepStatus.RUNNING);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        CheckpointWriter writer = new CheckpointWriter(checkpoint);
+        writer.changed();
+        writer.saveLatest();
+
+        logger.info("EOD run {} for {} started (attempt {})",
+                checkpoint.getRunId(), businessDate, checkpoint.getAttempts());
+
+        List<EODStepResult> stepResults = new ArrayList<>();
+        for (EODStep step : EODStep.values()) {
+            EODCheckpoint.StepCheckpoint stepCheckpoint = checkpoint.step(step);
+            if (stepCheckpoint.getStatus() == EODCheckpoint.StepStatus.COMPLETED) {
+                EODStepResult skipped = EODStepResult.builder()
+                        .step(step)
+                        .status(EODCheckpoint.StepStatus.COMPLETED)
+                        .resumedCompleted(true)
+                        .totalItemsProcessed(stepCheckpoint.getItemsProcessed())
+                        .build();
+                stepResults.add(skipped);
+                listener.stepFinished(skipped);
+                continue;
+            }
+
+            EODStepResult stepResult = runStep(step, checkpoint, writer, listener);
+            stepResults.add(stepResult);
+            listener.stepFinished(stepResult);
+            if (stepResult.getStatus() == EODCheckpoint.StepStatus.FAILED) {
+                synchronized (checkpoint) {
+                    checkpoint.setStatus(EODCheckpoint.StepStatus.FAILED);
+                    checkpoint.setUpdatedAt(LocalDateTime.now());
+                    writer.changed();
+                }
+                writer.saveLatest();
+                logger.error("EOD run {} failed in step {}: {}", checkpoint.getRunId(), step, stepResult.getError());
+                return result(checkpoint, EODRunResult.RunOutcome.FAILED,
+                        "Step " + step + " failed: " + stepResult.getError()
+                                + ". Run EOD again to resume from the last committed chunk.",
+                        stepResults, started);
+            }
+        }
+
+        synchronized (checkpoint) {
+            checkpoint.setStatus(EODCheckpoint.StepStatus.COMPLETED);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            writer.changed();
+        }
+        writer.saveLatest();
+        logger.info("EOD run {} for {} completed in {} ms",
+                checkpoint.getRunId(), businessDate, (System.nanoTime() - started) / 1_000_000);
+        return result(checkpoint, EODRunResult.RunOutcome.COMPLETED,
+                "EOD processing completed for " + businessDate, stepResults, started);
+    }
+
+    private EODStepResult runStep(EODStep step, EODCheckpoint checkpoint, CheckpointWriter writer,
+                                  EODProgressListener listener) {
+        long started = System.nanoTime();
+        LocalDate businessDate = checkpoint.getBusinessDate();
+        synchronized (checkpoint) {
+            EODCheckpoint.StepCheckpoint stepCheckpoint = checkpoint.step(step);
+            stepCheckpoint.setStatus(EODCheckpoint.StepStatus.RUNNING);
+            stepCheckpoint.setError(null);
+            if (!step.isMutating()) {
+                // Read-only steps start over, so drop the partial output of an earlier attempt
+                stepCheckpoint.setChunksCommitted(0);
+                stepCheckpoint.setItemsProcessed(0);
+                stepCheckpoint.setLastCommittedChunk(null);
+                resetOutput(step, checkpoint);
+            }
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            writer.changed();
+        }
+        writer.saveLatest();
+
+        Map<String, List<String>> partitions = plan(step, businessDate);
+        List<Chunk> chunks = new ArrayList<>();
+        partitions.forEach((partition, ids) -> {
+            for (int from = 0, index = 0; from < ids.size(); from += config.getChunkSize(), index++) {
+                chunks.add(new Chunk(partition, index, ids.subList(from, Math.min(ids.size(), from + config.getChunkSize()))));
+            }
+        });
+
+        listener.stepStarted(step, partitions.values().stream().mapToLong(List::size).sum());
+
+        Function<Chunk, ChunkResult> processor = processor(step, businessDate);
+        AtomicLong processed = new AtomicLong();
+        AtomicLong handled = new AtomicLong();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicReference<String> firstError = new AtomicReference<>();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                ChunkResult chunkResult = processor.apply(chunk);
+                commit(checkpoint, writer, step, chunk, chunkResult);
+                processed.addAndGet(chunkResult.items());
+                listener.chunkCommitted(step, handled.addAndGet(chunk.ids().size()));
+            }, workers).exceptionally(failure -> {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure;
+                logger.error("EOD step {} chunk {} failed: {}", step, chunk.key(), cause.getMessage());
+                failed.incrementAndGet();
+                firstError.compareAndSet(null, "chunk " + chunk.key() + ": " + cause.getMessage());
+                return null;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long elapsedNanos = System.nanoTime() - started;
+        meterRegistry.timer("trms.eod.step.duration", "step", step.name())
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        EODCheckpoint.StepStatus status = failed.get() == 0
+                ? EODCheckpoint.StepStatus.COMPLETED : EODCheckpoint.StepStatus.FAILED;
+        long totalItems;
+        synchronized (checkpoint) {
+            EODCheckpoint.StepCheckpoint stepCheckpoint = checkpoint.step(step);
+            stepCheckpoint.setStatus(status);
+            stepCheckpoint.setError(firstError.get());
+            stepCheckpoint.setCompletedAt(status == EODCheckpoint.StepStatus.COMPLETED ? LocalDateTime.now() : null);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            writer.changed();
+            totalItems = stepCheckpoint.getItemsProcessed();
+        }
+        // Every chunk commit of the step is on disk before the step counts as finished
+        writer.saveLatest();
+
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        double itemsPerSecond = elapsedNanos > 0 ? processed.get() * 1_000_000_000.0 / elapsedNanos : 0.0;
+        logger.info("EOD step {}: {} items in {} chunks over {} partitions, {} ms ({} items/s){}",
+                step, processed.get(), chunks.size(), partitions.size(), elapsedMillis,
+                String.format("%.0f", itemsPerSecond), failed.get() > 0 ? ", " + failed.get() + " chunks failed" : "");
+
+        return EODStepResult.builder()
+                .step(step)
+                .status(status)
+                .partitions(partitions.size())
+                .chunks(chunks.size())
+                .chunksFailed(failed.get())
+                .itemsProcessed(processed.get())
+                .totalItemsProcessed(totalItems)
+                .elapsedMillis(elapsedMillis)
+                .itemsPerSecond(itemsPerSecond)
+                .error(firstError.get())
+                .build();
+    }
+
+    /**
+     * Record a committed chunk in memory and have the checkpoint written unless a write is under way
+     */
+    private void commit(EODCheckpoint checkpoint, CheckpointWriter writer, EODStep step, Chunk chunk,
+                        ChunkResult chunkResult) {
+        synchronized (checkpoint) {
+            EODCheckpoint.StepCheckpoint stepCheckpoint = checkpoint.step(step);
+            stepCheckpoint.setChunksCommitted(stepCheckpoint.getChunksCommitted() + 1);
+            stepCheckpoint.setItemsProcessed(stepCheckpoint.getItemsProcessed() + chunkResult.items());
+            stepCheckpoint.setLastCommittedChunk(chunk.key());
+            if (chunkResult.output() != null) {
+                chunkResult.output().accept(checkpoint);
+            }
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            writer.changed();
+        }
+        writer.saveIfIdle();
+        meterRegistry.counter("trms.eod.items.processed", "step", step.name()).increment(chunkResult.items());
+        meterRegistry.counter("trms.eod.chunks.committed", "step", step.name()).increment();
+    }
+
+    /**
+     * Work items of a step, grouped by currency, each partition in a stable order
+     */
+    private Map<String, List<String>> plan(EODStep step, LocalDate businessDate) {
+        return switch (step) {
+            case SETTLE_TRANSACTIONS -> partition(
+                    mockDataService.getTransactionsByStatus(Transaction.TransactionStatus.VALIDATED).stream()
+                            .filter(txn -> txn.getValueDate() == null
+                                    || !txn.getValueDate().toLocalDate().isAfter(businessDate)),
+                    Transaction::getCurrency, Transaction::getTransactionId);
+            case APPLY_RATE_RESETS -> partition(
+                    mockDataService.getRateResetsByStatus(RateReset.RateStatus.APPROVED).stream()
+                            .filter(reset -> reset.getFixingDate() == null
+                                    || !reset.getFixingDate().isAfter(businessDate)),
+                    RateReset::getCurrency, RateReset::getInstrumentId);
+            case RECONCILE_BALANCES, POSITION_SNAPSHOTS -> partition(
+                    mockDataService.getAllAccounts().stream(), Account::getCurrency, Account::getAccountId);
+            case GENERATE_REPORTS -> {
+                // A single-item partition per report, so the report types are written in parallel
+                Map<String, List<String>> reports = new TreeMap<>();
+                for (EODReportType type : EODReportType.values()) {
+                    reports.put(type.name(), List.of(type.fileName(businessDate)));
+                }
+                yield reports;
+            }
+        };
+    }
+
+    private static <T> Map<String, List<String>> partition(Stream<T> items, Function<T, String> currency,
+                                                           Function<T, String> id) {
+        Map<String, List<String>> partitions = items.collect(Collectors.groupingBy(
+                item -> currency.apply(item) != null ? currency.apply(item).toUpperCase(Locale.ROOT) : UNKNOWN_CURRENCY,
+                TreeMap::new,
+                Collectors.mapping(id, Collectors.toList())));
+        partitions.values().forEach(Collections::sort);
+        return partitions;
+    }
+
+    private Function<Chunk, ChunkResult> processor(EODStep step, LocalDate businessDate) {
+        return switch (step) {
+            case SETTLE_TRANSACTIONS -> {
+                LocalDateTime settledAt = LocalDateTime.now();
+                yield chunk -> new ChunkResult(mockDataService.settleTransactions(chunk.ids(), settledAt), null);
+            }
+            case APPLY_RATE_RESETS -> chunk -> new ChunkResult(mockDataService.applyRateResets(chunk.ids()), null);
+            case RECONCILE_BALANCES -> this::reconcile;
+            case POSITION_SNAPSHOTS -> {
+                positionSnapshots.keySet().removeIf(date ->
+                        date.isBefore(businessDate.minusDays(config.getSnapshotRetentionDays())));
+                Map<String, PositionSnapshot> snapshots =
+                        positionSnapshots.computeIfAbsent(businessDate, date -> new ConcurrentHashMap<>());
+                yield chunk -> snapshot(chunk, businessDate, snapshots);
+            }
+            case GENERATE_REPORTS -> chunk -> new ChunkResult(
+                    reportWriter.write(EODReportType.valueOf(chunk.partition()), businessDate), null);
+        };
+    }
+
+    private ChunkResult reconcile(Chunk chunk) {
+        List<String> breaks = new ArrayList<>();
+        for (String accountId : chunk.ids()) {
+            Optional<Account> account = mockDataService.getAccountById(accountId);
+            Optional<AccountBalance> balance = mockDataService.getAccountBalance(accountId);
+            if (account.isEmpty()) {
+                continue;
+            }
+            if (balance.isEmpty()) {
+                breaks.add(accountId + ": no balance record");
+                continue;
+            }
+            AccountBalance b = balance.get();
+            if (!account.get().getCurrency().equalsIgnoreCase(b.getCurrency())) {
+                breaks.add(accountId + ": balance currency " + b.getCurrency()
+                        + " differs from account currency " + account.get().getCurrency());
+            }
+            BigDecimal overdraft = b.getOverdraftLimit() != null ? b.getOverdraftLimit() : BigDecimal.ZERO;
+            if (b.getAvailableBalance().compareTo(b.getCurrentBalance().add(overdraft)) > 0) {
+                breaks.add(accountId + ": available " + b.getAvailableBalance()
+                        + " exceeds current " + b.getCurrentBalance() + " plus overdraft " + overdraft);
+            }
+        }
+        return new ChunkResult(chunk.ids().size(), checkpoint -> {
+            checkpoint.setReconciliationBreaks(checkpoint.getReconciliationBreaks() + breaks.size());
+            List<String> samples = checkpoint.getReconciliationBreakSamples();
+            for (String description : breaks) {
+                if (samples.size() >= MAX_BREAK_SAMPLES) {
+                    break;
+                }
+                samples.add(description);
+            }
+        });
+    }
+
+    private ChunkResult snapshot(Chunk chunk, LocalDate businessDate, Map<String, PositionSnapshot> snapshots) {
+        LocalDateTime capturedAt = LocalDateTime.now();
+        int accounts = 0;
+        BigDecimal current = BigDecimal.ZERO;
+        BigDecimal available = BigDecimal.ZERO;
+        BigDecimal reserved = BigDecimal.ZERO;
+        for (String accountId : chunk.ids()) {
+            Optional<AccountBalance> balance = mockDataService.getAccountBalance(accountId);
+            if (balance.isEmpty()) {
+                continue;
+            }
+            AccountBalance b = balance.get();
+            BigDecimal reservedBalance = b.getReservedBalance() != null ? b.getReservedBalance() : BigDecimal.ZERO;
+            snapshots.put(accountId, PositionSnapshot.builder()
+                    .accountId(accountId)
+                    .currency(b.getCurrency())
+                    .businessDate(businessDate)
+                    .currentBalance(b.getCurrentBalance())
+                    .availableBalance(b.getAvailableBalance())
+                    .reservedBalance(reservedBalance)
+                    .capturedAt(capturedAt)
+                    .build());
+            accounts++;
+            current = current.add(b.getCurrentBalance());
+            available = available.add(b.getAvailableBalance());
+            reserved = reserved.add(reservedBalance);
+        }
+        CurrencyPosition position = CurrencyPosition.builder()
+                .currency(chunk.partition())
+                .accounts(accounts)
+                .totalCurrentBalance(current)
+                .totalAvailableBalance(available)
+                .totalReservedBalance(reserved)
+                .build();
+        return new ChunkResult(accounts, checkpoint ->
+                checkpoint.getPositions().merge(chunk.partition(), position, CurrencyPosition::merge));
+    }
+
+    private void resetOutput(EODStep step, EODCheckpoint checkpoint) {
+        if (step == EODStep.RECONCILE_BALANCES) {
+            checkpoint.setReconciliationBreaks(0);
+            checkpoint.getReconciliationBreakSamples().clear();
+        } else if (step == EODStep.POSITION_SNAPSHOTS) {
+            checkpoint.getPositions().clear();
+            positionSnapshots.remove(checkpoint.getBusinessDate());
+        }
+    }
+
+    private static EODRunResult result(EODCheckpoint checkpoint, EODRunResult.RunOutcome outcome, String message,
+                                       List<EODStepResult> steps, long startedNanos) {
+        synchronized (checkpoint) {
+            return EODRunResult.builder()
+                    .runId(checkpoint.getRunId())
+                    .businessDate(checkpoint.getBusinessDate())
+                    .initiatedBy(checkpoint.getInitiatedBy())
+                    .outcome(outcome)
+                    .message(message)
+                    .attempt(checkpoint.getAttempts())
+                    .startedAt(checkpoint.getStartedAt())
+                    .completedAt(checkpoint.getStatus() == EODCheckpoint.StepStatus.COMPLETED
+                            ? checkpoint.getUpdatedAt() : null)
+                    .elapsedMillis((System.nanoTime() - startedNanos) / 1_000_000)
+                    .steps(steps)
+                    .reconciliationBreaks(checkpoint.getReconciliationBreaks())
+                    .reconciliationBreakSamples(new ArrayList<>(checkpoint.getReconciliationBreakSamples()))
+                    .positions(new ArrayList<>(checkpoint.getPositions().values()))
+                    .build();
+        }
+    }
+
+    /**
+     * Writes one run's checkpoint. Changes are counted under the checkpoint's lock; a write
+     * copies the latest state under that lock and writes the file outside it. Writes never
+     * run concurrently, and a burst of chunk commits is coalesced into one or two writes.
+     * Callers must not hold the checkpoint's lock when saving.
+     */
+    private final class CheckpointWriter {
+
+        private final EODCheckpoint checkpoint;
+        private final AtomicLong changes = new AtomicLong();
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private volatile long written;
+
+        CheckpointWriter(EODCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        /** Called under the checkpoint's lock after changing it */
+        void changed() {
+            changes.incrementAndGet();
+        }
+
+        /** Write the latest state, waiting for a write in progress */
+        void saveLatest() {
+            writeLock.lock();
+            try {
+                writePending();
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /** Write the latest state unless another thread is writing; that thread picks up this change */
+        void saveIfIdle() {
+            while (changes.get() > written && writeLock.tryLock()) {
+                try {
+                    writePending();
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        }
+
+        private void writePending() {
+            long version;
+            byte[] json;
+            synchronized (checkpoint) {
+                version = changes.get();
+                if (version == written) {
+                    return;
+                }
+                json = checkpointStore.serialize(checkpoint);
+            }
+            checkpointStore.write(checkpoint.getBusinessDate(), json);
+            written = version;
+        }
+    }
+
+    private record Chunk(String partition, int index, List<String> ids) {
+
+        String key() {
+            return partition + "#" + index;
+        }
+    }
+
+    /** Items handled by a chunk and the output it adds to the checkpoint when committed */
+    private record ChunkResult(long items, Consumer<EODCheckpoint> output) {
+    }
+}
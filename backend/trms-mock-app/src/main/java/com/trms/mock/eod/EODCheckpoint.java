@@ -0,0 +1,66 @@
+package com.trms.mock.eod;
+
+import com.trms.mock.dto.CurrencyPosition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress of the EOD run for one business date, saved after every committed chunk
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EODCheckpoint {
+
+    private LocalDate businessDate;
+    private String runId;
+    private String initiatedBy;
+    private StepStatus status;
+    private int attempts;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    @Builder.Default
+    private Map<EODStep, StepCheckpoint> steps = new LinkedHashMap<>();
+
+    // Outputs of the read-only steps, kept so a resumed run can still report them
+    private long reconciliationBreaks;
+    @Builder.Default
+    private List<String> reconciliationBreakSamples = new ArrayList<>();
+    @Builder.Default
+    private Map<String, CurrencyPosition> positions = new LinkedHashMap<>();
+
+    public StepCheckpoint step(EODStep step) {
+        return steps.computeIfAbsent(step, s -> StepCheckpoint.builder().status(StepStatus.PENDING).build());
+    }
+
+    public enum StepStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepCheckpoint {
+        private StepStatus status;
+        private int chunksCommitted;
+        private long itemsProcessed;
+        private String lastCommittedChunk;
+        private LocalDateTime completedAt;
+        private String error;
+    }
+}
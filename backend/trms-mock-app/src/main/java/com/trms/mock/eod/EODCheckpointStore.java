@@ -0,0 +1,82 @@
+package com.trms.mock.eod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Keeps one checkpoint file per business date. Files are replaced atomically,
+ * so a crash mid-write leaves the previous checkpoint in place.
+ */
+@Component
+public class EODCheckpointStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(EODCheckpointStore.class);
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    public EODCheckpointStore(EODProperties properties, ObjectMapper objectMapper) {
+        this.directory = Paths.get(properties.getBatch().getCheckpointDirectory());
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public Optional<EODCheckpoint> load(LocalDate businessDate) {
+        Path file = file(businessDate);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), EODCheckpoint.class));
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable EOD checkpoint {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checkpoint as JSON; callers hold the checkpoint's lock so the copy is consistent
+     */
+    public byte[] serialize(EODCheckpoint checkpoint) {
+        try {
+            return objectMapper.writeValueAsBytes(checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize EOD checkpoint for " + checkpoint.getBusinessDate(), e);
+        }
+    }
+
+    /**
+     * Replace the checkpoint file with {@code json}; callers serialize writes of the same business date
+     */
+    public void write(LocalDate businessDate, byte[] json) {
+        Path target = file(businessDate);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(directory);
+            Files.write(temp, json);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save EOD checkpoint " + target, e);
+        }
+    }
+
+    public void delete(LocalDate businessDate) {
+        try {
+            Files.deleteIfExists(file(businessDate));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete EOD checkpoint for " + businessDate, e);
+        }
+    }
+
+    private Path file(LocalDate businessDate) {
+        return directory.resolve("eod-checkpoint-" + businessDate + ".json");
+    }
+}
@@ -0,0 +1,25 @@
+package com.trms.mock.eod;
+
+import com.trms.mock.dto.EODStepResult;
+
+/**
+ * Receives progress of an EOD batch run. Chunk callbacks arrive on the worker
+ * threads, so implementations must be thread-safe and must not block.
+ */
+public interface EODProgressListener {
+
+    EODProgressListener NONE = new EODProgressListener() {
+    };
+
+    default void stepStarted(EODStep step, long totalItems) {
+    }
+
+    /**
+     * @param itemsHandled work items of the step handled so far by this attempt
+     */
+    default void chunkCommitted(EODStep step, long itemsHandled) {
+    }
+
+    default void stepFinished(EODStepResult result) {
+    }
+}
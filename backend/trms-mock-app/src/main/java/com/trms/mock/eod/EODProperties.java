@@ -0,0 +1,127 @@
+package com.trms.mock.eod;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for end-of-day processing
+ */
+@Component
+@ConfigurationProperties(prefix = "trms.eod")
+public class EODProperties {
+
+    private final Readiness readiness = new Readiness();
+    private final Batch batch = new Batch();
+    private final Reports reports = new Reports();
+
+    public Readiness getReadiness() {
+        return readiness;
+    }
+
+    public Batch getBatch() {
+        return batch;
+    }
+
+    public Reports getReports() {
+        return reports;
+    }
+
+    public static class Readiness {
+
+        /** How long a fetched SWIFT reconciliation status is reused */
+        private Duration swiftTtl = Duration.ofSeconds(30);
+
+        /** Budget for each local sub-check (market data, transactions, rate resets) */
+        private Duration checkTimeout = Duration.ofSeconds(2);
+
+        /** Budget for the remote SWIFT reconciliation sub-check */
+        private Duration swiftTimeout = Duration.ofSeconds(5);
+
+        public Duration getSwiftTtl() {
+            return swiftTtl;
+        }
+
+        public void setSwiftTtl(Duration swiftTtl) {
+            this.swiftTtl = swiftTtl;
+        }
+
+        public Duration getCheckTimeout() {
+            return checkTimeout;
+        }
+
+        public void setCheckTimeout(Duration checkTimeout) {
+            this.checkTimeout = checkTimeout;
+        }
+
+        public Duration getSwiftTimeout() {
+            return swiftTimeout;
+        }
+
+        public void setSwiftTimeout(Duration swiftTimeout) {
+            this.swiftTimeout = swiftTimeout;
+        }
+    }
+
+    public static class Batch {
+
+        /** Items per chunk; each chunk is committed and checkpointed on its own */
+        private int chunkSize = 1000;
+
+        /** Worker threads processing chunks of all partitions */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /** Where run checkpoints are kept so a failed run can resume */
+        private String checkpointDirectory = "./data/eod";
+
+        /** Business dates whose position snapshots are kept in memory */
+        private int snapshotRetentionDays = 7;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public String getCheckpointDirectory() {
+            return checkpointDirectory;
+        }
+
+        public void setCheckpointDirectory(String checkpointDirectory) {
+            this.checkpointDirectory = checkpointDirectory;
+        }
+
+        public int getSnapshotRetentionDays() {
+            return snapshotRetentionDays;
+        }
+
+        public void setSnapshotRetentionDays(int snapshotRetentionDays) {
+            this.snapshotRetentionDays = snapshotRetentionDays;
+        }
+    }
+
+    public static class Reports {
+
+        /** Shared directory the SWIFT EOD report verification reads the report files from */
+        private String directory = "./data/eod-reports";
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+    }
+}
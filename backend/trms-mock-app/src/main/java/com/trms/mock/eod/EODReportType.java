@@ -0,0 +1,39 @@
+package com.trms.mock.eod;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * CSV report files produced for a business date, named and laid out as the SWIFT
+ * EOD report verification expects them
+ */
+public enum EODReportType {
+
+    BALANCE_REPORT("balance_report",
+            List.of("AccountID", "AccountName", "Currency", "Balance", "LastUpdated")),
+
+    TRANSACTION_LOG("transaction_log",
+            List.of("TransactionID", "FromAccount", "ToAccount", "Amount", "Currency", "Status", "Timestamp")),
+
+    SWIFT_RECONCILIATION("swift_reconciliation",
+            List.of("SwiftMessageID", "TransactionID", "Amount", "Currency", "Status", "SentTimestamp", "ReconciledTimestamp")),
+
+    SETTLEMENT_REPORT("settlement_report",
+            List.of("SettlementID", "AccountID", "Amount", "Currency", "SettlementType", "Status", "SettlementDate"));
+
+    private final String prefix;
+    private final List<String> columns;
+
+    EODReportType(String prefix, List<String> columns) {
+        this.prefix = prefix;
+        this.columns = columns;
+    }
+
+    public String fileName(LocalDate businessDate) {
+        return prefix + "_" + businessDate + ".csv";
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,291 @@
+package com.trms.mock.eod;
+
+import com.trms.mock.dto.TransactionPage;
+import com.trms.mock.dto.TransactionQuery;
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+import com.trms.mock.service.MockDataService;
+import com.trms.mock.service.TransactionCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the EOD report files of a business date into the shared reports directory.
+ * Rows are streamed from {@link MockDataService} into a fixed-size buffer drained to a
+ * {@link FileChannel}, so memory use does not grow with the data set. Each report is
+ * written to a temp file and atomically renamed, so readers never see a partial report.
+ */
+@Component
+public class EODReportWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EODReportWriter.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PAGE_SIZE = 1000;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final MockDataService mockDataService;
+    private final Path directory;
+
+    public EODReportWriter(MockDataService mockDataService, EODProperties properties) {
+        this.mockDataService = mockDataService;
+        this.directory = Paths.get(properties.getReports().getDirectory());
+    }
+
+    /**
+     * Write one report for {@code businessDate}, replacing an existing file of the same
+     * name, and return the number of data rows written
+     */
+    public long write(EODReportType type, LocalDate businessDate) {
+        long started = System.nanoTime();
+        Path target = directory.resolve(type.fileName(businessDate));
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+            long rows;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                CsvChannelWriter csv = new CsvChannelWriter(channel);
+                for (String column : type.getColumns()) {
+                    csv.field(column);
+                }
+                csv.endRow();
+                rows = switch (type) {
+                    case BALANCE_REPORT -> writeBalances(csv);
+                    case TRANSACTION_LOG -> writeTransactionLog(csv, businessDate);
+                    case SWIFT_RECONCILIATION -> writeSwiftReconciliation(csv, businessDate);
+                    case SETTLEMENT_REPORT -> writeSettlements(csv, businessDate);
+                };
+                csv.flush();
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            temp = null;
+            logger.info("Wrote EOD report {} with {} rows in {} ms",
+                    target, rows, (System.nanoTime() - started) / 1_000_000);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write EOD report " + target, e);
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private long writeBalances(CsvChannelWriter csv) throws IOException {
+        long rows = 0;
+        try (Stream<AccountBalance> balances = mockDataService.streamBalances()) {
+            Iterator<AccountBalance> iterator = balances.iterator();
+            while (iterator.hasNext()) {
+                AccountBalance balance = iterator.next();
+                csv.field(balance.getAccountId());
+                csv.field(mockDataService.getAccountById(balance.getAccountId())
+                        .map(Account::getAccountName).orElse(null));
+                csv.field(balance.getCurrency());
+                csv.field(amount(balance.getCurrentBalance()));
+                csv.field(timestamp(balance.getLastUpdated()));
+                csv.endRow();
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private long writeTransactionLog(CsvChannelWriter csv, LocalDate businessDate) throws IOException {
+        long rows = 0;
+        TransactionCursor after = null;
+        TransactionPage<Transaction> page;
+        do {
+            page = transactionsCreatedOn(businessDate, after);
+            for (Transaction txn : page.getTransactions()) {
+                csv.field(txn.getTransactionId());
+                csv.field(txn.getFromAccount());
+                csv.field(txn.getToAccount());
+                csv.field(amount(txn.getAmount()));
+                csv.field(txn.getCurrency());
+                csv.field(txn.getStatus() != null ? txn.getStatus().name() : null);
+                csv.field(timestamp(txn.getCreatedAt()));
+                csv.endRow();
+                rows++;
+                after = TransactionCursor.of(txn);
+            }
+        } while (Boolean.TRUE.equals(page.getHasMore()));
+        return rows;
+    }
+
+    /**
+     * TRMS side of the SWIFT reconciliation: the day's transactions that are due a SWIFT
+     * message. Message IDs and sent times are only known to SWIFT and are left empty.
+     */
+    private long writeSwiftReconciliation(CsvChannelWriter csv, LocalDate businessDate) throws IOException {
+        long rows = 0;
+        TransactionCursor after = null;
+        TransactionPage<Transaction> page;
+        do {
+            page = transactionsCreatedOn(businessDate, after);
+            for (Transaction txn : page.getTransactions()) {
+                after = TransactionCursor.of(txn);
+                if (txn.getStatus() != Transaction.TransactionStatus.VALIDATED
+                        && txn.getStatus() != Transaction.TransactionStatus.SETTLED) {
+                    continue;
+                }
+                csv.field(null);
+                csv.field(txn.getTransactionId());
+                csv.field(amount(txn.getAmount()));
+                csv.field(txn.getCurrency());
+                csv.field(txn.getStatus().name());
+                csv.field(null);
+                csv.field(timestamp(txn.getSettledAt()));
+                csv.endRow();
+                rows++;
+            }
+        } while (Boolean.TRUE.equals(page.getHasMore()));
+        return rows;
+    }
+
+    /**
+     * Transactions settled on the business date, one outgoing and one incoming leg each
+     */
+    private long writeSettlements(CsvChannelWriter csv, LocalDate businessDate) throws IOException {
+        long rows = 0;
+        try (Stream<Transaction> transactions = mockDataService.streamTransactions()) {
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction txn = iterator.next();
+                if (txn.getStatus() != Transaction.TransactionStatus.SETTLED || txn.getSettledAt() == null
+                        || !txn.getSettledAt().toLocalDate().equals(businessDate)) {
+                    continue;
+                }
+                writeSettlementLeg(csv, txn, txn.getFromAccount(), "OUTGOING");
+                writeSettlementLeg(csv, txn, txn.getToAccount(), "INCOMING");
+                rows += 2;
+            }
+        }
+        return rows;
+    }
+
+    private static void writeSettlementLeg(CsvChannelWriter csv, Transaction txn, String accountId,
+                                           String settlementType) throws IOException {
+        csv.field("STL-" + txn.getTransactionId() + "-" + settlementType.charAt(0));
+        csv.field(accountId);
+        csv.field(amount(txn.getAmount()));
+        csv.field(txn.getCurrency());
+        csv.field(settlementType);
+        csv.field(txn.getStatus().name());
+        csv.field(txn.getSettledAt().toLocalDate().toString());
+        csv.endRow();
+    }
+
+    private TransactionPage<Transaction> transactionsCreatedOn(LocalDate businessDate, TransactionCursor after) {
+        return mockDataService.findTransactions(TransactionQuery.builder()
+                .from(businessDate.atStartOfDay())
+                .to(businessDate.plusDays(1).atStartOfDay())
+                .after(after)
+                .limit(PAGE_SIZE)
+                .build());
+    }
+
+    private static String amount(BigDecimal amount) {
+        return amount != null ? amount.toPlainString() : null;
+    }
+
+    private static String timestamp(LocalDateTime timestamp) {
+        return timestamp != null ? TIMESTAMP.format(timestamp) : null;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete temporary report file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Encodes CSV rows into a reused buffer and drains it to the channel when full.
+     * ASCII values, the common case, are copied byte by byte without allocating.
+     */
+    private static final class CsvChannelWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private boolean rowStarted;
+
+        CsvChannelWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void field(String value) throws IOException {
+            if (rowStarted) {
+                put((byte) ',');
+            }
+            rowStarted = true;
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            String text = quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    put(text.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                put((byte) c);
+            }
+        }
+
+        void endRow() throws IOException {
+            put((byte) '\n');
+            rowStarted = false;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void put(byte b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put(b);
+        }
+
+        private void put(byte[] bytes) throws IOException {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.trms.mock.eod;
+
+/**
+ * Steps of an EOD batch run, in execution order
+ */
+public enum EODStep {
+
+    /** VALIDATED transactions with a value date up to the business date become SETTLED */
+    SETTLE_TRANSACTIONS(true),
+
+    /** APPROVED rate resets fixing up to the business date become APPLIED */
+    APPLY_RATE_RESETS(true),
+
+    /** Account balances are checked against their account and overdraft limit */
+    RECONCILE_BALANCES(false),
+
+    /** Closing positions are captured per account and aggregated per currency */
+    POSITION_SNAPSHOTS(false),
+
+    /** Report files of the business date are written, one report type per partition */
+    GENERATE_REPORTS(false);
+
+    private final boolean mutating;
+
+    EODStep(boolean mutating) {
+        this.mutating = mutating;
+    }
+
+    /**
+     * Mutating steps select their work by status, so committed chunks drop out of the
+     * work list and an interrupted step resumes with the first uncommitted chunk.
+     * Read-only steps are restarted from the beginning.
+     */
+    public boolean isMutating() {
+        return mutating;
+    }
+}
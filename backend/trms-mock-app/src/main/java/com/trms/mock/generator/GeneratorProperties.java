@@ -0,0 +1,69 @@
+package com.trms.mock.generator;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the synthetic large-book data set
+ */
+@Component
+@Profile("large-book")
+@ConfigurationProperties(prefix = "trms.generator")
+public class GeneratorProperties {
+
+    private long seed = 42L;
+    private int accounts = 10_000;
+    private int transactions = 1_000_000;
+    private int rateResets = 5_000;
+    private int marketDataFeeds = 20;
+    private int historyDays = 30;
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getAccounts() {
+        return accounts;
+    }
+
+    public void setAccounts(int accounts) {
+        this.accounts = accounts;
+    }
+
+    public int getTransactions() {
+        return transactions;
+    }
+
+    public void setTransactions(int transactions) {
+        this.transactions = transactions;
+    }
+
+    public int getRateResets() {
+        return rateResets;
+    }
+
+    public void setRateResets(int rateResets) {
+        this.rateResets = rateResets;
+    }
+
+    public int getMarketDataFeeds() {
+        return marketDataFeeds;
+    }
+
+    public void setMarketDataFeeds(int marketDataFeeds) {
+        this.marketDataFeeds = marketDataFeeds;
+    }
+
+    public int getHistoryDays() {
+        return historyDays;
+    }
+
+    public void setHistoryDays(int historyDays) {
+        this.historyDays = historyDays;
+    }
+}
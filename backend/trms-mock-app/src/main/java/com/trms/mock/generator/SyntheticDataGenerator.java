@@ -0,0 +1,341 @@
+package com.trms.mock.generator;
+
+import com.trms.mock.ledger.MinorUnits;
+import com.trms.mock.model.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded generator for a production-sized book: accounts across currencies with balances,
+ * transactions with realistic status and amount distributions, rate resets and market data feeds.
+ * Every entity draws from its own random stream derived from the seed and its index, so
+ * generation runs in parallel and still produces the same data set for the same seed.
+ */
+@Component
+@Profile("large-book")
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    /** Receives generated entities; called concurrently from the generator threads */
+    public interface Sink {
+        void account(Account account);
+
+        void balance(AccountBalance balance);
+
+        void transaction(Transaction transaction);
+
+        void rateReset(RateReset rateReset);
+
+        void marketData(MarketDataStatus feed);
+    }
+
+    private static final Weighted<String> CURRENCIES = new Weighted<String>()
+            .add("USD", 40).add("EUR", 25).add("GBP", 12).add("JPY", 8)
+            .add("CHF", 5).add("CAD", 4).add("AUD", 3).add("SGD", 3);
+
+    private static final Weighted<Account.AccountType> ACCOUNT_TYPES = new Weighted<Account.AccountType>()
+            .add(Account.AccountType.CASH, 30).add(Account.AccountType.TRADING, 20)
+            .add(Account.AccountType.SETTLEMENT, 20).add(Account.AccountType.NOSTRO, 15)
+            .add(Account.AccountType.VOSTRO, 10).add(Account.AccountType.COLLATERAL, 5);
+
+    private static final Weighted<Transaction.TransactionStatus> STATUSES =
+            new Weighted<Transaction.TransactionStatus>()
+                    .add(Transaction.TransactionStatus.SETTLED, 55).add(Transaction.TransactionStatus.VALIDATED, 25)
+                    .add(Transaction.TransactionStatus.PENDING, 10).add(Transaction.TransactionStatus.NEW, 4)
+                    .add(Transaction.TransactionStatus.FAILED, 2).add(Transaction.TransactionStatus.CANCELLED, 2)
+                    .add(Transaction.TransactionStatus.REJECTED, 1).add(Transaction.TransactionStatus.PROPOSAL, 1);
+
+    private static final Weighted<Transaction.TransactionType> TYPES = new Weighted<Transaction.TransactionType>()
+            .add(Transaction.TransactionType.TRANSFER, 45).add(Transaction.TransactionType.PAYMENT, 25)
+            .add(Transaction.TransactionType.FX_SETTLEMENT, 15)
+            .add(Transaction.TransactionType.COLLATERAL_MOVEMENT, 7)
+            .add(Transaction.TransactionType.INTEREST_PAYMENT, 5).add(Transaction.TransactionType.FEE_PAYMENT, 3);
+
+    private static final Weighted<RateReset.RateStatus> RESET_STATUSES = new Weighted<RateReset.RateStatus>()
+            .add(RateReset.RateStatus.APPLIED, 60).add(RateReset.RateStatus.APPROVED, 25)
+            .add(RateReset.RateStatus.PROPOSED, 7).add(RateReset.RateStatus.MISSING, 5)
+            .add(RateReset.RateStatus.REJECTED, 3);
+
+    private static final String[] BANKS = {
+            "JP Morgan Chase", "Goldman Sachs", "Citibank", "Deutsche Bank", "BNP Paribas", "HSBC",
+            "Barclays", "UBS", "MUFG", "Santander", "Societe Generale", "Standard Chartered"
+    };
+
+    private static final String[] FAILURE_REASONS = {"AC04", "AM04", "AG01", "RR04", "MS03"};
+
+    private static final Map<String, String[]> INDEXES_BY_CURRENCY = Map.of(
+            "USD", new String[]{"USD-SOFR", "USD-LIBOR-3M", "USD-TERM-SOFR-3M"},
+            "EUR", new String[]{"EUR-EURIBOR-3M", "EUR-EURIBOR-6M", "EUR-ESTR"},
+            "GBP", new String[]{"GBP-SONIA"},
+            "JPY", new String[]{"JPY-TONA", "JPY-TIBOR-3M"},
+            "CHF", new String[]{"CHF-SARON"},
+            "CAD", new String[]{"CAD-CORRA"},
+            "AUD", new String[]{"AUD-BBSW-3M"},
+            "SGD", new String[]{"SGD-SORA"});
+
+    private static final String[] FEED_TYPES = {
+            "FX_RATES", "EQUITY_PRICES", "INTEREST_RATES", "BOND_PRICES", "CREDIT_SPREADS",
+            "VOLATILITY_SURFACES", "COMMODITY_PRICES", "FX_FORWARDS"
+    };
+
+    private static final String[] PROVIDERS = {"Bloomberg", "Reuters", "ICE", "Refinitiv"};
+
+    private final GeneratorProperties properties;
+
+    public SyntheticDataGenerator(GeneratorProperties properties) {
+        this.properties = properties;
+    }
+
+    public void generate(Sink sink) {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        String[] accountCurrencies = generateAccounts(sink, now);
+        Map<String, String[]> accountsByCurrency = groupByCurrency(accountCurrencies);
+        generateTransactions(sink, now, accountsByCurrency);
+        generateRateResets(sink, now);
+        generateMarketDataFeeds(sink, now);
+
+        logger.info("Generated large book with seed {} in {} ms: {} accounts, {} transactions, "
+                        + "{} rate resets, {} market data feeds",
+                properties.getSeed(), (System.nanoTime() - started) / 1_000_000,
+                properties.getAccounts(), properties.getTransactions(),
+                properties.getRateResets(), properties.getMarketDataFeeds());
+    }
+
+    private String[] generateAccounts(Sink sink, LocalDateTime now) {
+        String[] currencies = new String[properties.getAccounts()];
+        IntStream.range(0, properties.getAccounts()).parallel().forEach(i -> {
+            SplittableRandom random = randomFor(1, i);
+            String currency = CURRENCIES.pick(random);
+            Account.AccountType type = ACCOUNT_TYPES.pick(random);
+            String accountId = accountId(i, currency);
+            currencies[i] = currency;
+
+            sink.account(Account.builder()
+                    .accountId(accountId)
+                    .accountName(BANKS[random.nextInt(BANKS.length)] + " " + currency + " " + label(type) + " Account")
+                    .currency(currency)
+                    .accountType(type)
+                    .status(random.nextInt(100) < 97 ? Account.AccountStatus.ACTIVE : Account.AccountStatus.INACTIVE)
+                    .description("Synthetic " + currency + " " + label(type).toLowerCase(Locale.ROOT) + " account")
+                    .createdAt(now.minusDays(30 + random.nextInt(3650)))
+                    .lastUpdated(now)
+                    .build());
+
+            BigDecimal current = amount(random, currency, 16.0, 1.2);
+            BigDecimal reserved = current.multiply(BigDecimal.valueOf(random.nextInt(10), 2))
+                    .setScale(MinorUnits.scaleOf(currency), RoundingMode.HALF_EVEN);
+            sink.balance(AccountBalance.builder()
+                    .accountId(accountId)
+                    .currentBalance(current)
+                    .availableBalance(current.subtract(reserved))
+                    .reservedBalance(reserved)
+                    .currency(currency)
+                    .pendingCredits(amount(random, currency, 12.0, 1.0))
+                    .pendingDebits(amount(random, currency, 12.0, 1.0))
+                    .overdraftLimit(current.divide(BigDecimal.TEN, MinorUnits.scaleOf(currency), RoundingMode.HALF_EVEN))
+                    .lastUpdated(now)
+                    .valueDate(now.toLocalDate())
+                    .build());
+        });
+        return currencies;
+    }
+
+    private void generateTransactions(Sink sink, LocalDateTime now, Map<String, String[]> accountsByCurrency) {
+        // Only currencies with at least two accounts can have transfers
+        List<String> currencies = accountsByCurrency.entrySet().stream()
+                .filter(entry -> entry.getValue().length >= 2)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        if (currencies.isEmpty()) {
+            logger.warn("Not enough generated accounts per currency to create transactions");
+            return;
+        }
+        Weighted<String> transferCurrencies = new Weighted<>();
+        currencies.forEach(currency -> transferCurrencies.add(currency, accountsByCurrency.get(currency).length));
+
+        long historyMinutes = Math.max(1L, properties.getHistoryDays() * 24L * 60L);
+        IntStream.range(0, properties.getTransactions()).parallel().forEach(i -> {
+            SplittableRandom random = randomFor(2, i);
+            String currency = transferCurrencies.pick(random);
+            String[] accounts = accountsByCurrency.get(currency);
+            int from = random.nextInt(accounts.length);
+            int to = (from + 1 + random.nextInt(accounts.length - 1)) % accounts.length;
+            Transaction.TransactionStatus status = STATUSES.pick(random);
+            LocalDateTime createdAt = now.minusMinutes(random.nextLong(historyMinutes)).withNano(0);
+
+            sink.transaction(Transaction.builder()
+                    .transactionId(String.format("TXN-G%09d", i))
+                    .fromAccount(accounts[from])
+                    .toAccount(accounts[to])
+                    .amount(amount(random, currency, 11.5, 1.6))
+                    .currency(currency)
+                    .status(status)
+                    .type(TYPES.pick(random))
+                    .description("Synthetic " + currency + " transfer " + i)
+                    .reference("REF-G" + Long.toString(random.nextLong() & Long.MAX_VALUE, 36).toUpperCase(Locale.ROOT))
+                    .createdAt(createdAt)
+                    .valueDate(createdAt.toLocalDate().plusDays(random.nextInt(3)).atStartOfDay())
+                    .settledAt(status == Transaction.TransactionStatus.SETTLED
+                            ? createdAt.plusMinutes(5 + random.nextInt(240)) : null)
+                    .reasonCode(status == Transaction.TransactionStatus.FAILED
+                            ? FAILURE_REASONS[random.nextInt(FAILURE_REASONS.length)] : null)
+                    .settlementMethod(settlementMethod(currency))
+                    .build());
+        });
+    }
+
+    private void generateRateResets(Sink sink, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        IntStream.range(0, properties.getRateResets()).parallel().forEach(i -> {
+            SplittableRandom random = randomFor(3, i);
+            String currency = CURRENCIES.pick(random);
+            String[] indexes = INDEXES_BY_CURRENCY.get(currency);
+            String indexName = indexes[random.nextInt(indexes.length)];
+            RateReset.RateStatus status = RESET_STATUSES.pick(random);
+            boolean missing = status == RateReset.RateStatus.MISSING;
+            BigDecimal rate = BigDecimal.valueOf(25 + random.nextInt(500), 2);
+
+            sink.rateReset(RateReset.builder()
+                    .instrumentId(String.format("SWAP-G%08d", i))
+                    .indexName(indexName)
+                    .fixingDate(missing ? today : today.minusDays(random.nextInt(10)))
+                    .notional(BigDecimal.valueOf(1_000_000L * (1 + random.nextInt(50))))
+                    .currency(currency)
+                    .currentRate(missing ? null : rate)
+                    .proposedRate(missing ? null : rate.add(BigDecimal.valueOf(random.nextInt(11) - 5, 2)))
+                    .status(status)
+                    .tenor(tenorOf(indexName))
+                    .createdAt(now.minusHours(1 + random.nextInt(72)))
+                    .approvedAt(status == RateReset.RateStatus.APPROVED || status == RateReset.RateStatus.APPLIED
+                            ? now.minusMinutes(random.nextInt(600)) : null)
+                    .approvedBy(status == RateReset.RateStatus.APPROVED || status == RateReset.RateStatus.APPLIED
+                            ? "treasury-ops" : null)
+                    .source(PROVIDERS[random.nextInt(PROVIDERS.length)])
+                    .description("Synthetic " + indexName + " fixing")
+                    .build());
+        });
+    }
+
+    private void generateMarketDataFeeds(Sink sink, LocalDateTime now) {
+        IntStream.range(0, properties.getMarketDataFeeds()).parallel().forEach(i -> {
+            SplittableRandom random = randomFor(4, i);
+            int expected = 50 + random.nextInt(500);
+            // Most feeds are complete; a few are delayed with some items still missing
+            int missing = random.nextInt(100) < 85 ? 0 : 1 + random.nextInt(Math.max(1, expected / 10));
+            String feedType = FEED_TYPES[i % FEED_TYPES.length] + "_G" + (i / FEED_TYPES.length + 1);
+            List<String> missingItems = new ArrayList<>(missing);
+            for (int item = 0; item < missing; item++) {
+                missingItems.add(feedType + "-ITEM-" + random.nextInt(expected));
+            }
+
+            sink.marketData(MarketDataStatus.builder()
+                    .feedType(feedType)
+                    .expected(expected)
+                    .received(expected - missing)
+                    .missing(missing)
+                    .complete(missing == 0)
+                    .lastUpdate(now.minusMinutes(random.nextInt(30)))
+                    .cutoffTime(now.minusHours(1))
+                    .provider(PROVIDERS[random.nextInt(PROVIDERS.length)])
+                    .status(missing == 0 ? MarketDataStatus.FeedStatus.HEALTHY : MarketDataStatus.FeedStatus.DELAYED)
+                    .missingItems(missingItems)
+                    .build());
+        });
+    }
+
+    /**
+     * Independent stream per (entity kind, index), so results do not depend on thread scheduling
+     */
+    private SplittableRandom randomFor(int kind, int index) {
+        return new SplittableRandom(properties.getSeed() * 0x9E3779B97F4A7C15L + ((long) kind << 40) + index);
+    }
+
+    /**
+     * Log-normally distributed amount: median e^mu, rounded to the currency's minor units
+     */
+    private static BigDecimal amount(SplittableRandom random, String currency, double mu, double sigma) {
+        double value = Math.exp(mu + sigma * random.nextGaussian());
+        return BigDecimal.valueOf(value).setScale(MinorUnits.scaleOf(currency), RoundingMode.HALF_EVEN)
+                .max(BigDecimal.ONE);
+    }
+
+    private static Map<String, String[]> groupByCurrency(String[] accountCurrencies) {
+        Map<String, List<String>> grouped = new HashMap<>();
+        for (int i = 0; i < accountCurrencies.length; i++) {
+            grouped.computeIfAbsent(accountCurrencies[i], c -> new ArrayList<>())
+                    .add(accountId(i, accountCurrencies[i]));
+        }
+        Map<String, String[]> result = new HashMap<>();
+        grouped.forEach((currency, ids) -> result.put(currency, ids.toArray(String[]::new)));
+        return result;
+    }
+
+    private static String accountId(int index, String currency) {
+        return String.format("ACC-G%07d-%s", index, currency);
+    }
+
+    private static String label(Account.AccountType type) {
+        String name = type.name();
+        return name.charAt(0) + name.substring(1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String settlementMethod(String currency) {
+        return switch (currency) {
+            case "EUR" -> "TARGET2";
+            case "GBP" -> "CHAPS";
+            case "JPY" -> "BOJ-NET";
+            case "CHF" -> "SIC";
+            default -> "RTGS";
+        };
+    }
+
+    private static String tenorOf(String indexName) {
+        if (indexName.endsWith("-3M")) {
+            return "3M";
+        }
+        if (indexName.endsWith("-6M")) {
+            return "6M";
+        }
+        return "1D";
+    }
+
+    /**
+     * Picks values in proportion to integer weights
+     */
+    private static final class Weighted<T> {
+
+        private final List<T> values = new ArrayList<>();
+        private final List<Integer> cumulative = new ArrayList<>();
+        private int total;
+
+        Weighted<T> add(T value, int weight) {
+            total += weight;
+            values.add(value);
+            cumulative.add(total);
+            return this;
+        }
+
+        T pick(SplittableRandom random) {
+            int point = random.nextInt(total);
+            for (int i = 0; i < values.size(); i++) {
+                if (point < cumulative.get(i)) {
+                    return values.get(i);
+                }
+            }
+            return values.get(values.size() - 1);
+        }
+    }
+}
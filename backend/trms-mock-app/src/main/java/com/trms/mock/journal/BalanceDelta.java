@@ -0,0 +1,9 @@
+package com.trms.mock.journal;
+
+import java.math.BigDecimal;
+
+/**
+ * Journal event for a signed amount applied to an account balance
+ */
+public record BalanceDelta(String accountId, BigDecimal amount) {
+}
@@ -0,0 +1,17 @@
+package com.trms.mock.journal;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * The transaction journal could not write a record. The journal stops accepting
+ * changes after the first failure; the in-memory state may hold changes that are
+ * not durable and is rebuilt from the journal on the next start.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class JournalFailedException extends IllegalStateException {
+
+    public JournalFailedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,67 @@
+package com.trms.mock.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the transaction journal
+ */
+@Component
+@ConfigurationProperties(prefix = "trms.journal")
+public class JournalProperties {
+
+    private boolean enabled = true;
+    private String directory = "./data/journal";
+    private int segmentSizeMb = 64;
+    private int maxBatchSize = 1024;
+    private long snapshotEveryRecords = 100_000;
+    private boolean syncCommit = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSizeMb() {
+        return segmentSizeMb;
+    }
+
+    public void setSegmentSizeMb(int segmentSizeMb) {
+        this.segmentSizeMb = segmentSizeMb;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getSnapshotEveryRecords() {
+        return snapshotEveryRecords;
+    }
+
+    public void setSnapshotEveryRecords(long snapshotEveryRecords) {
+        this.snapshotEveryRecords = snapshotEveryRecords;
+    }
+
+    public boolean isSyncCommit() {
+        return syncCommit;
+    }
+
+    public void setSyncCommit(boolean syncCommit) {
+        this.syncCommit = syncCommit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.trms.mock.journal;
+
+/**
+ * Kinds of events written to the transaction journal
+ */
+public enum JournalRecordType {
+    /** Full state of a transaction after it was created or updated */
+    TRANSACTION((byte) 1),
+    /** Signed amount applied to an account's current and available balance */
+    BALANCE_DELTA((byte) 2);
+
+    private final byte code;
+
+    JournalRecordType(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public static JournalRecordType fromCode(byte code) {
+        for (JournalRecordType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown journal record type: " + code);
+    }
+}
@@ -0,0 +1,13 @@
+package com.trms.mock.journal;
+
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Point-in-time copy of the journaled state.
+ * Covers every journal record up to and including {@code sequence}.
+ */
+public record JournalSnapshot(long sequence, List<Transaction> transactions, List<AccountBalance> balances) {
+}
@@ -0,0 +1,476 @@
+package com.trms.mock.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, memory-mapped journal of transaction and balance events.
+ *
+ * Records are serialized by the calling thread and handed to a single writer
+ * thread, which appends whatever is queued to the current segment and forces
+ * it to disk once per batch (group commit). Every {@code snapshotEveryRecords}
+ * records the full state is written to a snapshot file and the segments it
+ * covers are deleted. On startup the latest snapshot is loaded and the
+ * remaining records are replayed on top of it.
+ *
+ * Segment record layout: length (int), sequence (long), type (byte),
+ * CRC32C of sequence/type/payload (int), JSON payload. A zero length marks
+ * the unused, zero-filled tail of a segment.
+ *
+ * The first write failure latches the journal into a failed state: records still
+ * queued are failed, and every further mutation is rejected with a
+ * {@link JournalFailedException} until the application is restarted.
+ */
+@Component
+public class TransactionJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionJournal.class);
+
+    private static final int HEADER_BYTES = 4 + 8 + 1 + 4;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".json";
+
+    /**
+     * Owner of the journaled state, used for replay and snapshots
+     */
+    public interface StateHandler {
+        List<Transaction> snapshotTransactions();
+
+        List<AccountBalance> snapshotBalances();
+
+        void restoreTransaction(Transaction transaction);
+
+        void restoreBalance(AccountBalance balance);
+
+        void replayBalanceDelta(String accountId, BigDecimal amount);
+    }
+
+    private final JournalProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ReentrantReadWriteLock snapshotBarrier = new ReentrantReadWriteLock();
+    private final ThreadLocal<CompletableFuture<Void>> lastAppend = new ThreadLocal<>();
+    private final AtomicBoolean snapshotInProgress = new AtomicBoolean();
+    private final Map<Path, Long> closedSegments = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private volatile Exception failure;
+    private Path directory;
+    private StateHandler stateHandler;
+    private Thread writerThread;
+    private ExecutorService snapshotExecutor;
+
+    // Owned by the writer thread
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private Path segmentPath;
+    private long segmentMaxSequence;
+    private int forcedPosition;
+    private long recordsSinceSnapshot;
+
+    public TransactionJournal(JournalProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Replay the journal into {@code handler} and start accepting new records
+     */
+    public synchronized void open(StateHandler handler) {
+        if (!properties.isEnabled()) {
+            logger.info("Transaction journal disabled");
+            return;
+        }
+        if (running) {
+            throw new IllegalStateException("Transaction journal already open");
+        }
+
+        this.stateHandler = handler;
+        this.directory = Paths.get(properties.getDirectory());
+        try {
+            Files.createDirectories(directory);
+            sequence.set(replay(handler));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open transaction journal in " + directory, e);
+        }
+
+        running = true;
+        snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trms-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writerThread = new Thread(this::writeLoop, "trms-journal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        logger.info("Transaction journal open in {} at sequence {}", directory.toAbsolutePath(), sequence.get());
+    }
+
+    public boolean isEnabled() {
+        return running;
+    }
+
+    /**
+     * Run a state mutation together with the records it appends.
+     * Snapshots never observe a mutation without its records or vice versa.
+     */
+    public <T> T atomically(Supplier<T> mutation) {
+        checkNotFailed();
+        if (!running) {
+            return mutation.get();
+        }
+        Lock lock = snapshotBarrier.readLock();
+        lock.lock();
+        try {
+            return mutation.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue a record for the next group commit. Must be called from inside
+     * {@link #atomically(Supplier)}, while the caller holds the per-key lock of
+     * the state it changed, so records of the same key keep their order.
+     */
+    public void append(JournalRecordType type, Object event) {
+        if (!running) {
+            return;
+        }
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize journal record " + type, e);
+        }
+        CompletableFuture<Void> committed = new CompletableFuture<>();
+        queue.add(new PendingRecord(sequence.incrementAndGet(), type, payload, committed));
+        lastAppend.set(committed);
+    }
+
+    /**
+     * Wait until every record appended by the current thread is on disk.
+     * The writer commits in queue order, so waiting for the last one is enough.
+     */
+    public void awaitCommit() {
+        CompletableFuture<Void> committed = lastAppend.get();
+        if (committed == null) {
+            return;
+        }
+        lastAppend.remove();
+        if (properties.isSyncCommit()) {
+            try {
+                committed.join();
+            } catch (CompletionException e) {
+                throw new JournalFailedException(
+                        "Change applied in memory but not durable, journal write failed: "
+                                + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    private void checkNotFailed() {
+        Exception cause = failure;
+        if (cause != null) {
+            throw new JournalFailedException(
+                    "Transaction journal failed, changes are rejected until restart: " + cause.getMessage(), cause);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotExecutor.shutdown();
+        try {
+            closeSegment();
+        } catch (IOException e) {
+            logger.warn("Failed to close journal segment {}: {}", segmentPath, e.getMessage());
+        }
+        logger.info("Transaction journal closed at sequence {}", sequence.get());
+    }
+
+    // Replay
+
+    private long replay(StateHandler handler) throws IOException {
+        long snapshotSequence = 0;
+        List<Path> snapshots = listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        if (!snapshots.isEmpty()) {
+            Path latest = snapshots.get(snapshots.size() - 1);
+            JournalSnapshot snapshot = objectMapper.readValue(latest.toFile(), JournalSnapshot.class);
+            snapshot.transactions().forEach(handler::restoreTransaction);
+            snapshot.balances().forEach(handler::restoreBalance);
+            snapshotSequence = snapshot.sequence();
+            logger.info("Loaded journal snapshot {} with {} transactions and {} balances",
+                    latest.getFileName(), snapshot.transactions().size(), snapshot.balances().size());
+        }
+
+        long lastSequence = snapshotSequence;
+        long replayed = 0;
+        for (Path segmentFile : listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            long segmentMax = 0;
+            try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= HEADER_BYTES) {
+                    int length = buffer.getInt();
+                    if (length <= 0 || length > buffer.remaining() - (HEADER_BYTES - 4)) {
+                        break;
+                    }
+                    long recordSequence = buffer.getLong();
+                    byte type = buffer.get();
+                    int crc = buffer.getInt();
+                    byte[] payload = new byte[length];
+                    buffer.get(payload);
+                    if (crc != checksum(recordSequence, type, payload)) {
+                        logger.warn("Torn record at sequence {} in {}, ignoring the rest of the segment",
+                                recordSequence, segmentFile.getFileName());
+                        break;
+                    }
+                    segmentMax = Math.max(segmentMax, recordSequence);
+                    // Records up to the snapshot sequence are already part of the snapshot
+                    if (recordSequence > snapshotSequence) {
+                        apply(handler, JournalRecordType.fromCode(type), payload);
+                        replayed++;
+                    }
+                }
+            }
+            closedSegments.put(segmentFile, segmentMax);
+            lastSequence = Math.max(lastSequence, segmentMax);
+        }
+
+        logger.info("Replayed {} journal records, last sequence {}", replayed, lastSequence);
+        return lastSequence;
+    }
+
+    private void apply(StateHandler handler, JournalRecordType type, byte[] payload) throws IOException {
+        switch (type) {
+            case TRANSACTION -> handler.restoreTransaction(objectMapper.readValue(payload, Transaction.class));
+            case BALANCE_DELTA -> {
+                BalanceDelta delta = objectMapper.readValue(payload, BalanceDelta.class);
+                handler.replayBalanceDelta(delta.accountId(), delta.amount());
+            }
+        }
+    }
+
+    // Writer thread
+
+    private void writeLoop() {
+        List<PendingRecord> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // Everything that queued up while the previous batch was being forced
+                // goes into this batch
+                batch.add(first);
+                queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingRecord> batch) {
+        if (failure != null) {
+            // A failed segment is not written to again
+            batch.forEach(pending -> pending.committed().completeExceptionally(failure));
+            return;
+        }
+        try {
+            for (PendingRecord pending : batch) {
+                int size = HEADER_BYTES + pending.payload().length;
+                if (segment == null || segment.remaining() < size) {
+                    rollSegment(pending.sequence(), size);
+                }
+                segment.putInt(pending.payload().length);
+                segment.putLong(pending.sequence());
+                segment.put(pending.type().getCode());
+                segment.putInt(checksum(pending.sequence(), pending.type().getCode(), pending.payload()));
+                segment.put(pending.payload());
+                segmentMaxSequence = Math.max(segmentMaxSequence, pending.sequence());
+            }
+            forceSegment();
+            batch.forEach(pending -> pending.committed().complete(null));
+        } catch (Exception e) {
+            failure = e;
+            logger.error("Failed to write {} journal records, rejecting further changes: {}",
+                    batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.committed().completeExceptionally(e));
+            return;
+        }
+
+        recordsSinceSnapshot += batch.size();
+        if (recordsSinceSnapshot >= properties.getSnapshotEveryRecords()
+                && snapshotInProgress.compareAndSet(false, true)) {
+            recordsSinceSnapshot = 0;
+            snapshotExecutor.execute(this::writeSnapshot);
+        }
+    }
+
+    private void rollSegment(long firstSequence, int minimumSize) throws IOException {
+        closeSegment();
+
+        int size = Math.max(properties.getSegmentSizeMb() * 1024 * 1024, minimumSize);
+        segmentPath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        segmentChannel = FileChannel.open(segmentPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        segmentMaxSequence = 0;
+        forcedPosition = 0;
+        logger.debug("Opened journal segment {}", segmentPath.getFileName());
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment == null) {
+            return;
+        }
+        forceSegment();
+        segmentChannel.close();
+        closedSegments.put(segmentPath, segmentMaxSequence);
+        segment = null;
+        segmentChannel = null;
+    }
+
+    private void forceSegment() {
+        int position = segment.position();
+        if (position > forcedPosition) {
+            segment.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    // Snapshots
+
+    private void writeSnapshot() {
+        try {
+            long snapshotSequence;
+            List<Transaction> transactions;
+            List<AccountBalance> balances;
+
+            // Short exclusive section: no mutation is half-applied while the state is copied
+            Lock lock = snapshotBarrier.writeLock();
+            lock.lock();
+            try {
+                snapshotSequence = sequence.get();
+                transactions = stateHandler.snapshotTransactions();
+                balances = stateHandler.snapshotBalances();
+            } finally {
+                lock.unlock();
+            }
+
+            Path target = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, snapshotSequence, SNAPSHOT_SUFFIX));
+            Path temp = directory.resolve(target.getFileName() + ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                objectMapper.writeValue(out, new JournalSnapshot(snapshotSequence, transactions, balances));
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            deleteCoveredFiles(snapshotSequence, target);
+            logger.info("Wrote journal snapshot {} ({} transactions, {} balances)",
+                    target.getFileName(), transactions.size(), balances.size());
+        } catch (Exception e) {
+            logger.error("Failed to write journal snapshot: {}", e.getMessage());
+        } finally {
+            snapshotInProgress.set(false);
+        }
+    }
+
+    private void deleteCoveredFiles(long snapshotSequence, Path currentSnapshot) throws IOException {
+        for (Map.Entry<Path, Long> closed : closedSegments.entrySet()) {
+            if (closed.getValue() <= snapshotSequence && deleteQuietly(closed.getKey())) {
+                closedSegments.remove(closed.getKey());
+            }
+        }
+        for (Path snapshot : listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (!snapshot.equals(currentSnapshot)) {
+                deleteQuietly(snapshot);
+            }
+        }
+    }
+
+    private boolean deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            return true;
+        } catch (IOException e) {
+            // Still mapped on some platforms, retried after the next snapshot
+            logger.debug("Could not delete {}: {}", file.getFileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    // Helpers
+
+    private List<Path> listFiles(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(suffix);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static int checksum(long sequence, byte type, byte[] payload) {
+        CRC32C crc = new CRC32C();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (sequence >>> shift));
+        }
+        crc.update(type);
+        crc.update(payload, 0, payload.length);
+        return (int) crc.getValue();
+    }
+
+    private record PendingRecord(long sequence, JournalRecordType type, byte[] payload,
+                                 CompletableFuture<Void> committed) {
+    }
+}
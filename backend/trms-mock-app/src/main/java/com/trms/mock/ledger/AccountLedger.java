@@ -0,0 +1,102 @@
+package com.trms.mock.ledger;
+
+import com.trms.mock.model.AccountBalance;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hot-path ledger of current and available balances held as scaled longs in each
+ * account's minor units. Applying a booking leg allocates nothing; {@link AccountBalance}
+ * objects with {@link BigDecimal} amounts are only built when a balance is read.
+ */
+public class AccountLedger {
+
+    private final Map<String, Position> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Replace the ledger position of an account with the amounts of {@code balance}
+     */
+    public void load(AccountBalance balance) {
+        positions.put(balance.getAccountId(), new Position(balance));
+    }
+
+    /**
+     * Scale of the account's minor units, or -1 if the account has no position
+     */
+    public int scaleOf(String accountId) {
+        Position position = positions.get(accountId);
+        return position != null ? position.scale : -1;
+    }
+
+    /**
+     * Add {@code deltaMinor}, expressed with {@code scale} digits, to the current and
+     * available balance. Returns false if the account has no position.
+     */
+    public boolean apply(String accountId, long deltaMinor, int scale) {
+        Position position = positions.get(accountId);
+        if (position == null) {
+            return false;
+        }
+        position.add(MinorUnits.rescale(deltaMinor, scale, position.scale), System.currentTimeMillis());
+        return true;
+    }
+
+    /**
+     * Return {@code stored} with the ledger's current and available balance, or
+     * {@code stored} itself if the account has no position.
+     */
+    public AccountBalance materialize(AccountBalance stored) {
+        Position position = positions.get(stored.getAccountId());
+        if (position == null) {
+            return stored;
+        }
+        long current;
+        long available;
+        long updatedMillis;
+        synchronized (position) {
+            current = position.current;
+            available = position.available;
+            updatedMillis = position.updatedMillis;
+        }
+        return stored.toBuilder()
+                .currentBalance(MinorUnits.toDecimal(current, position.scale))
+                .availableBalance(MinorUnits.toDecimal(available, position.scale))
+                .lastUpdated(updatedMillis != 0
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(updatedMillis), ZoneId.systemDefault())
+                        : stored.getLastUpdated())
+                .build();
+    }
+
+    public void clear() {
+        positions.clear();
+    }
+
+    private static final class Position {
+
+        private final int scale;
+        // Guarded by this, so readers always see a matching current/available pair
+        private long current;
+        private long available;
+        /** 0 until the first leg is applied, then the time of the latest leg */
+        private long updatedMillis;
+
+        Position(AccountBalance balance) {
+            this.scale = MinorUnits.scaleOf(balance.getCurrency());
+            this.current = balance.getCurrentBalance() != null
+                    ? MinorUnits.toMinor(balance.getCurrentBalance(), scale) : 0L;
+            this.available = balance.getAvailableBalance() != null
+                    ? MinorUnits.toMinor(balance.getAvailableBalance(), scale) : 0L;
+        }
+
+        synchronized void add(long deltaMinor, long nowMillis) {
+            current = Math.addExact(current, deltaMinor);
+            available = Math.addExact(available, deltaMinor);
+            updatedMillis = nowMillis;
+        }
+    }
+}
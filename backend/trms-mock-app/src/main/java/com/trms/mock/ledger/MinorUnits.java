@@ -0,0 +1,77 @@
+package com.trms.mock.ledger;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conversions between decimal amounts and scaled longs in a currency's minor units,
+ * e.g. 12.34 USD = 1234 and 1500 JPY = 1500.
+ */
+public final class MinorUnits {
+
+    /** Used for codes unknown to {@link Currency} and for pseudo-currencies without minor units */
+    static final int DEFAULT_SCALE = 2;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    private static final Map<String, Integer> SCALES = new ConcurrentHashMap<>();
+
+    private MinorUnits() {
+    }
+
+    /**
+     * Number of minor-unit digits for an ISO 4217 currency code
+     */
+    public static int scaleOf(String currency) {
+        if (currency == null) {
+            return DEFAULT_SCALE;
+        }
+        return SCALES.computeIfAbsent(currency.toUpperCase(Locale.ROOT), code -> {
+            try {
+                int digits = Currency.getInstance(code).getDefaultFractionDigits();
+                return digits >= 0 ? digits : DEFAULT_SCALE;
+            } catch (IllegalArgumentException e) {
+                return DEFAULT_SCALE;
+            }
+        });
+    }
+
+    /**
+     * Whether {@code amount} can be represented exactly in the currency's minor units
+     */
+    public static boolean fits(BigDecimal amount, String currency) {
+        return amount.stripTrailingZeros().scale() <= scaleOf(currency);
+    }
+
+    /**
+     * Convert to minor units, rounding half-even any digits beyond the scale
+     *
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    public static long toMinor(BigDecimal amount, int scale) {
+        return amount.setScale(scale, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor, int scale) {
+        return BigDecimal.valueOf(minor, scale);
+    }
+
+    /**
+     * Convert a minor-unit amount between scales, rounding half-even when the target is coarser
+     */
+    public static long rescale(long minor, int fromScale, int toScale) {
+        if (fromScale == toScale) {
+            return minor;
+        }
+        if (toScale > fromScale) {
+            return Math.multiplyExact(minor, POWERS_OF_TEN[toScale - fromScale]);
+        }
+        return toMinor(BigDecimal.valueOf(minor, fromScale), toScale);
+    }
+}
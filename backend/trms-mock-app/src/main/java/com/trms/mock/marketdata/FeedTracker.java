@@ -0,0 +1,149 @@
+package com.trms.mock.marketdata;
+
+import com.trms.mock.model.MarketDataStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Completeness of one feed against its expected instrument universe. Each instrument
+ * has a fixed ordinal and one bit in a lock-free bitset; the received counter only moves
+ * when a bit flips, so duplicate ticks cost a map lookup and a read.
+ */
+final class FeedTracker {
+
+    enum Outcome {
+        NEW,
+        DUPLICATE,
+        UNKNOWN
+    }
+
+    private final String feedType;
+    private final String provider;
+    private final LocalDateTime cutoffTime;
+    private final LocalDateTime registeredAt = LocalDateTime.now();
+
+    // Immutable after construction
+    private final String[] instruments;
+    private final Map<String, Integer> ordinals;
+
+    private final AtomicLongArray received;
+    private final AtomicInteger receivedCount = new AtomicInteger();
+    private final LongAdder ticks = new LongAdder();
+    private volatile LocalDateTime lastTick;
+
+    /** Tick count and cutoff state at the last publish; only touched by the publishing thread */
+    private long publishedTicks = -1;
+    private boolean publishedPastCutoff;
+
+    FeedTracker(String feedType, String provider, Collection<String> instrumentIds, LocalDateTime cutoffTime) {
+        this.feedType = feedType;
+        this.provider = provider;
+        this.cutoffTime = cutoffTime;
+        this.instruments = new LinkedHashSet<>(instrumentIds).toArray(new String[0]);
+        this.ordinals = new HashMap<>(instruments.length * 2);
+        for (int i = 0; i < instruments.length; i++) {
+            ordinals.put(instruments[i], i);
+        }
+        this.received = new AtomicLongArray((instruments.length + 63) >>> 6);
+    }
+
+    /**
+     * A tracker for a new session of the same feed, with nothing received yet. Without a
+     * new cutoff, the session keeps the registered cutoff's time of day on today's date.
+     */
+    FeedTracker reset(LocalDateTime newCutoffTime) {
+        LocalDateTime sessionCutoff = newCutoffTime != null ? newCutoffTime
+                : cutoffTime != null ? LocalDate.now().atTime(cutoffTime.toLocalTime())
+                : null;
+        return new FeedTracker(feedType, provider, Arrays.asList(instruments), sessionCutoff);
+    }
+
+    Outcome record(String instrumentId, LocalDateTime tickTime) {
+        Integer ordinal = ordinals.get(instrumentId);
+        if (ordinal == null) {
+            return Outcome.UNKNOWN;
+        }
+        ticks.increment();
+        lastTick = tickTime;
+
+        int word = ordinal >>> 6;
+        long bit = 1L << ordinal;
+        while (true) {
+            long current = received.get(word);
+            if ((current & bit) != 0) {
+                return Outcome.DUPLICATE;
+            }
+            if (received.compareAndSet(word, current, current | bit)) {
+                receivedCount.incrementAndGet();
+                return Outcome.NEW;
+            }
+        }
+    }
+
+    String getFeedType() {
+        return feedType;
+    }
+
+    /**
+     * Whether ticks arrived or the cutoff passed since the last call, so a feed that
+     * stops before its cutoff still turns from DELAYED to INCOMPLETE. Called by the
+     * publishing thread only.
+     */
+    boolean changedSincePublish() {
+        long current = ticks.sum();
+        boolean pastCutoff = cutoffTime != null && LocalDateTime.now().isAfter(cutoffTime);
+        if (current == publishedTicks && pastCutoff == publishedPastCutoff) {
+            return false;
+        }
+        publishedTicks = current;
+        publishedPastCutoff = pastCutoff;
+        return true;
+    }
+
+    /**
+     * Current status, listing at most {@code maxMissingItems} missing instruments in universe order
+     */
+    MarketDataStatus snapshot(int maxMissingItems) {
+        int expected = instruments.length;
+        int receivedNow = Math.min(receivedCount.get(), expected);
+        int missing = expected - receivedNow;
+
+        List<String> missingItems = new ArrayList<>(Math.min(missing, maxMissingItems));
+        for (int word = 0; word < received.length() && missingItems.size() < maxMissingItems; word++) {
+            long missingBits = ~received.get(word);
+            while (missingBits != 0 && missingItems.size() < maxMissingItems) {
+                int ordinal = (word << 6) + Long.numberOfTrailingZeros(missingBits);
+                if (ordinal >= expected) {
+                    break;
+                }
+                missingItems.add(instruments[ordinal]);
+                missingBits &= missingBits - 1;
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean complete = missing == 0;
+        MarketDataStatus.FeedStatus status = complete ? MarketDataStatus.FeedStatus.HEALTHY
+                : cutoffTime != null && now.isAfter(cutoffTime) ? MarketDataStatus.FeedStatus.INCOMPLETE
+                : MarketDataStatus.FeedStatus.DELAYED;
+        LocalDateTime latest = lastTick;
+
+        return MarketDataStatus.builder()
+                .feedType(feedType)
+                .expected(expected)
+                .received(receivedNow)
+                .missing(missing)
+                .complete(complete)
+                .lastUpdate(latest != null ? latest : registeredAt)
+                .cutoffTime(cutoffTime)
+                .missingItems(missingItems)
+                .provider(provider)
+                .status(status)
+                .build();
+    }
+}
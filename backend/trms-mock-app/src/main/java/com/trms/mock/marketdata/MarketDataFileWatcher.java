@@ -0,0 +1,182 @@
+package com.trms.mock.marketdata;
+
+import com.trms.mock.dto.MarketDataTick;
+import com.trms.mock.dto.TickIngestResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Ingests tick files dropped into the configured directory. Each {@code .csv} line is
+ * {@code feedType,instrumentId,value[,timestamp]}; a header line and {@code #} comments
+ * are skipped. Files are streamed line by line and then moved to {@code processed/},
+ * or to {@code failed/} if they could not be read. Producers should write under another
+ * name and rename the finished file into the directory, so a file is never read half-written.
+ */
+@Component
+@Slf4j
+public class MarketDataFileWatcher {
+
+    private static final String TICK_FILE_SUFFIX = ".csv";
+
+    private final MarketDataIngestionService ingestionService;
+    private final Path directory;
+    private final WatchService watchService;
+    private final Thread watcher;
+
+    public MarketDataFileWatcher(MarketDataIngestionService ingestionService, MarketDataProperties properties) {
+        this.ingestionService = ingestionService;
+        this.directory = Paths.get(properties.getDropDirectory());
+        if (!properties.isWatchEnabled()) {
+            this.watchService = null;
+            this.watcher = null;
+            return;
+        }
+
+        WatchService service = null;
+        try {
+            Files.createDirectories(directory.resolve("processed"));
+            Files.createDirectories(directory.resolve("failed"));
+            service = directory.getFileSystem().newWatchService();
+            directory.register(service, StandardWatchEventKinds.ENTRY_CREATE);
+        } catch (IOException e) {
+            log.error("Market data drop directory {} cannot be watched: {}", directory, e.getMessage());
+            closeQuietly(service);
+            service = null;
+        }
+        this.watchService = service;
+        if (service == null) {
+            this.watcher = null;
+            return;
+        }
+
+        this.watcher = new Thread(this::watch, "trms-market-data-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for market data tick files", directory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (watcher != null) {
+            watcher.interrupt();
+            closeQuietly(watchService);
+        }
+    }
+
+    private void watch() {
+        // Files dropped while the application was down
+        rescan();
+
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    log.warn("Market data watch events were lost; rescanning {}", directory);
+                    rescan();
+                    continue;
+                }
+                Path file = directory.resolve((Path) event.context());
+                if (isTickFile(file)) {
+                    ingestFile(file);
+                }
+            }
+            if (!key.reset()) {
+                log.error("Market data drop directory {} is no longer accessible", directory);
+                return;
+            }
+        }
+    }
+
+    private void rescan() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(MarketDataFileWatcher::isTickFile).sorted().forEach(this::ingestFile);
+        } catch (IOException e) {
+            log.warn("Could not list market data drop directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private void ingestFile(Path file) {
+        if (!Files.exists(file)) {
+            // Already handled for an earlier event of the same file
+            return;
+        }
+        long started = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             Stream<MarketDataTick> ticks = reader.lines()
+                     .map(String::trim)
+                     .filter(line -> !line.isEmpty() && !line.startsWith("#")
+                             && !line.toLowerCase(Locale.ROOT).startsWith("feedtype"))
+                     .map(MarketDataFileWatcher::parseLine)) {
+            TickIngestResult result = ingestionService.ingest(ticks.iterator());
+            log.info("Ingested market data file {}: {} ticks, {} new, {} duplicate, {} unknown, {} rejected in {} ms",
+                    file.getFileName(), result.getTicks(), result.getNewItems(), result.getDuplicates(),
+                    result.getUnknown(), result.getRejected(), (System.nanoTime() - started) / 1_000_000);
+            moveTo(file, Boolean.TRUE.equals(result.getComplete()) ? "processed" : "failed");
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to ingest market data file {}: {}", file.getFileName(), e.getMessage());
+            moveTo(file, "failed");
+        }
+    }
+
+    /**
+     * Malformed lines become ticks without a value, which ingestion counts as rejected
+     */
+    private static MarketDataTick parseLine(String line) {
+        String[] parts = line.split(",", -1);
+        MarketDataTick.MarketDataTickBuilder tick = MarketDataTick.builder()
+                .feedType(parts[0].trim())
+                .instrumentId(parts.length > 1 ? parts[1].trim() : null);
+        try {
+            if (parts.length > 2) {
+                tick.value(new BigDecimal(parts[2].trim()));
+            }
+            if (parts.length > 3 && !parts[3].isBlank()) {
+                tick.timestamp(LocalDateTime.parse(parts[3].trim()));
+            }
+        } catch (RuntimeException e) {
+            return tick.value(null).build();
+        }
+        return tick.build();
+    }
+
+    private void moveTo(Path file, String subdirectory) {
+        try {
+            Files.move(file, directory.resolve(subdirectory).resolve(file.getFileName()),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Could not move market data file {} to {}: {}", file.getFileName(), subdirectory, e.getMessage());
+        }
+    }
+
+    private static boolean isTickFile(Path file) {
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(TICK_FILE_SUFFIX)
+                && Files.isRegularFile(file);
+    }
+
+    private static void closeQuietly(WatchService service) {
+        if (service == null) {
+            return;
+        }
+        try {
+            service.close();
+        } catch (IOException e) {
+            log.debug("Closing market data watch service failed: {}", e.getMessage());
+        }
+    }
+}
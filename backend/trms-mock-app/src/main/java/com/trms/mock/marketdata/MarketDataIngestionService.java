@@ -0,0 +1,186 @@
+package com.trms.mock.marketdata;
+
+import com.trms.mock.dto.FeedRegistrationRequest;
+import com.trms.mock.dto.MarketDataTick;
+import com.trms.mock.dto.TickIngestResult;
+import com.trms.mock.model.MarketDataStatus;
+import com.trms.mock.service.MockDataService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingests market data ticks into per-feed {@link FeedTracker}s. Ticks only touch the
+ * lock-free trackers; a publisher thread writes the status of feeds that received ticks
+ * into {@link MockDataService} at a fixed interval, so the EOD readiness check sees live
+ * completeness without recounting and is invalidated at most once per interval.
+ */
+@Service
+@Slf4j
+public class MarketDataIngestionService {
+
+    private final MockDataService mockDataService;
+    private final int maxMissingItems;
+    private final Map<String, FeedTracker> feeds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trms-market-data-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter newTicks;
+    private final Counter duplicateTicks;
+    private final Counter unknownTicks;
+    private final Counter rejectedTicks;
+
+    public MarketDataIngestionService(MockDataService mockDataService, MarketDataProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.mockDataService = mockDataService;
+        this.maxMissingItems = properties.getMaxMissingItems();
+        this.newTicks = tickCounter(meterRegistry, "new");
+        this.duplicateTicks = tickCounter(meterRegistry, "duplicate");
+        this.unknownTicks = tickCounter(meterRegistry, "unknown");
+        this.rejectedTicks = tickCounter(meterRegistry, "rejected");
+
+        long intervalMillis = properties.getPublishInterval().toMillis();
+        publisher.scheduleAtFixedRate(this::publishChangedFeeds, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdownNow();
+    }
+
+    /**
+     * Start tracking a feed against its expected instruments, replacing any earlier
+     * universe of the feed. Nothing counts as received until ticks arrive.
+     */
+    public MarketDataStatus registerFeed(String feedType, FeedRegistrationRequest request) {
+        FeedTracker tracker = new FeedTracker(feedType, request.getProvider(), request.getInstruments(),
+                request.getCutoffTime());
+        feeds.put(feedType, tracker);
+        log.info("Registered market data feed {} with {} instruments", feedType, request.getInstruments().size());
+        return publish(tracker);
+    }
+
+    /**
+     * Clear what a tracked feed has received, e.g. at the start of a new business day.
+     * The new session fixes at {@code cutoffTime}, or by default at the registered
+     * cutoff's time of day today.
+     */
+    public Optional<MarketDataStatus> resetFeed(String feedType, LocalDateTime cutoffTime) {
+        FeedTracker reset = feeds.computeIfPresent(feedType, (type, tracker) -> tracker.reset(cutoffTime));
+        if (reset == null) {
+            return Optional.empty();
+        }
+        log.info("Reset market data feed {}", feedType);
+        return Optional.of(publish(reset));
+    }
+
+    public Set<String> getTrackedFeeds() {
+        return Collections.unmodifiableSet(new TreeSet<>(feeds.keySet()));
+    }
+
+    /**
+     * Ingest ticks as they are read from {@code ticks}. Reading stops at the first
+     * malformed item; ticks before it are kept.
+     */
+    public TickIngestResult ingest(Iterator<MarketDataTick> ticks) {
+        long started = System.nanoTime();
+        long count = 0;
+        long newItems = 0;
+        long duplicates = 0;
+        long unknown = 0;
+        long rejected = 0;
+        String error = null;
+
+        try {
+            while (ticks.hasNext()) {
+                MarketDataTick tick = ticks.next();
+                count++;
+                if (tick == null || isBlank(tick.getFeedType()) || isBlank(tick.getInstrumentId())
+                        || tick.getValue() == null) {
+                    rejected++;
+                    continue;
+                }
+                FeedTracker tracker = feeds.get(tick.getFeedType());
+                FeedTracker.Outcome outcome = tracker != null
+                        ? tracker.record(tick.getInstrumentId(),
+                                tick.getTimestamp() != null ? tick.getTimestamp() : LocalDateTime.now())
+                        : FeedTracker.Outcome.UNKNOWN;
+                switch (outcome) {
+                    case NEW -> newItems++;
+                    case DUPLICATE -> duplicates++;
+                    case UNKNOWN -> unknown++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Tick ingestion stopped after {} ticks: {}", count, e.getMessage());
+            error = "Malformed tick after " + count + " ticks: " + e.getMessage();
+        }
+
+        newTicks.increment(newItems);
+        duplicateTicks.increment(duplicates);
+        unknownTicks.increment(unknown);
+        rejectedTicks.increment(rejected);
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.debug("Ingested {} ticks in {} ms: {} new, {} duplicate, {} unknown, {} rejected",
+                count, elapsedMillis, newItems, duplicates, unknown, rejected);
+
+        return TickIngestResult.builder()
+                .ticks(count)
+                .newItems(newItems)
+                .duplicates(duplicates)
+                .unknown(unknown)
+                .rejected(rejected)
+                .complete(error == null)
+                .error(error)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private void publishChangedFeeds() {
+        try {
+            for (FeedTracker tracker : feeds.values()) {
+                if (tracker.changedSincePublish()) {
+                    publish(tracker);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep the scheduled publisher alive
+            log.warn("Failed to publish market data feed status: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Serialized, so a snapshot of a replaced tracker never overwrites its successor's
+     */
+    private synchronized MarketDataStatus publish(FeedTracker tracker) {
+        MarketDataStatus status = tracker.snapshot(maxMissingItems);
+        if (feeds.get(tracker.getFeedType()) == tracker) {
+            mockDataService.updateMarketDataStatus(status);
+        }
+        return status;
+    }
+
+    private static Counter tickCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("trms.marketdata.ticks")
+                .tag("result", result)
+                .description("Market data ticks ingested")
+                .register(meterRegistry);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
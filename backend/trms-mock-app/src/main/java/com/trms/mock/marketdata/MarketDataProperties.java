@@ -0,0 +1,58 @@
+package com.trms.mock.marketdata;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for market data tick ingestion
+ */
+@Component
+@ConfigurationProperties(prefix = "trms.market-data")
+public class MarketDataProperties {
+
+    /** How often changed feed statuses are published to the market data store */
+    private Duration publishInterval = Duration.ofMillis(500);
+
+    /** Missing instruments listed per feed status; the missing count is always exact */
+    private int maxMissingItems = 100;
+
+    /** Watch the drop directory for tick files */
+    private boolean watchEnabled = true;
+
+    /** Tick files dropped here are ingested, then moved to processed/ or failed/ */
+    private String dropDirectory = "./data/market-data";
+
+    public Duration getPublishInterval() {
+        return publishInterval;
+    }
+
+    public void setPublishInterval(Duration publishInterval) {
+        this.publishInterval = publishInterval;
+    }
+
+    public int getMaxMissingItems() {
+        return maxMissingItems;
+    }
+
+    public void setMaxMissingItems(int maxMissingItems) {
+        this.maxMissingItems = maxMissingItems;
+    }
+
+    public boolean isWatchEnabled() {
+        return watchEnabled;
+    }
+
+    public void setWatchEnabled(boolean watchEnabled) {
+        this.watchEnabled = watchEnabled;
+    }
+
+    public String getDropDirectory() {
+        return dropDirectory;
+    }
+
+    public void setDropDirectory(String dropDirectory) {
+        this.dropDirectory = dropDirectory;
+    }
+}
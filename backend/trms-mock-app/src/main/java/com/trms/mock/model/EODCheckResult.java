@@ -37,6 +37,10 @@ public class EODCheckResult {
     private SwiftReconciliationStatus swiftReconciliation;
     private Integer unreconciledSwiftMessages;
     private List<String> swiftIssues;
+
+    // Sub-checks that failed or exceeded their timeout; their parts of the result are placeholders
+    private Boolean degraded;
+    private List<String> degradedChecks;
     
     public enum EODStatus {
         READY,
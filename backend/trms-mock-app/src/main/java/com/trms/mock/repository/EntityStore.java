@@ -0,0 +1,56 @@
+package com.trms.mock.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Keyed store for one entity type of the TRMS data set.
+ * Implementations must run {@link #compute} atomically per key and invoke the
+ * remapping function exactly once, because callers update indexes and append
+ * journal records from inside it.
+ */
+public interface EntityStore<V> {
+
+    /**
+     * Return the value stored under {@code id}, or null
+     */
+    V get(String id);
+
+    /**
+     * Store {@code value} and return the value previously stored under {@code id}, or null
+     */
+    V put(String id, V value);
+
+    /**
+     * Atomically replace the value stored under {@code id}. A null result removes the entry.
+     */
+    V compute(String id, BiFunction<String, V, V> remapping);
+
+    V remove(String id);
+
+    int size();
+
+    /**
+     * Lazily stream all values without copying them first
+     */
+    Stream<V> stream();
+
+    void clear();
+
+    default Optional<V> findById(String id) {
+        return Optional.ofNullable(get(id));
+    }
+
+    default V computeIfPresent(String id, BiFunction<String, V, V> remapping) {
+        return compute(id, (key, existing) -> existing != null ? remapping.apply(key, existing) : null);
+    }
+
+    default List<V> findAll() {
+        List<V> values = new ArrayList<>(size());
+        stream().forEach(values::add);
+        return values;
+    }
+}
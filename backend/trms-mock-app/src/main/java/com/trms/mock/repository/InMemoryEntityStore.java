@@ -0,0 +1,54 @@
+package com.trms.mock.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Heap store backed by a ConcurrentHashMap
+ */
+public class InMemoryEntityStore<V> implements EntityStore<V> {
+
+    private final Map<String, V> values = new ConcurrentHashMap<>();
+
+    @Override
+    public V get(String id) {
+        return values.get(id);
+    }
+
+    @Override
+    public V put(String id, V value) {
+        return values.put(id, value);
+    }
+
+    @Override
+    public V compute(String id, BiFunction<String, V, V> remapping) {
+        return values.compute(id, remapping);
+    }
+
+    @Override
+    public V computeIfPresent(String id, BiFunction<String, V, V> remapping) {
+        return values.computeIfPresent(id, remapping);
+    }
+
+    @Override
+    public V remove(String id) {
+        return values.remove(id);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Stream<V> stream() {
+        return values.values().stream();
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,58 @@
+package com.trms.mock.repository;
+
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.MarketDataStatus;
+import com.trms.mock.model.RateReset;
+import com.trms.mock.model.Transaction;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default storage: everything lives in heap maps
+ */
+@Component
+@ConditionalOnProperty(name = "trms.storage.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTrmsStorage implements TrmsStorage {
+
+    private final EntityStore<Account> accounts = new InMemoryEntityStore<>();
+    private final EntityStore<AccountBalance> balances = new InMemoryEntityStore<>();
+    private final EntityStore<Transaction> transactions = new InMemoryEntityStore<>();
+    private final EntityStore<RateReset> rateResets = new InMemoryEntityStore<>();
+    private final EntityStore<MarketDataStatus> marketData = new InMemoryEntityStore<>();
+
+    @Override
+    public EntityStore<Account> accounts() {
+        return accounts;
+    }
+
+    @Override
+    public EntityStore<AccountBalance> balances() {
+        return balances;
+    }
+
+    @Override
+    public EntityStore<Transaction> transactions() {
+        return transactions;
+    }
+
+    @Override
+    public EntityStore<RateReset> rateResets() {
+        return rateResets;
+    }
+
+    @Override
+    public EntityStore<MarketDataStatus> marketData() {
+        return marketData;
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+}
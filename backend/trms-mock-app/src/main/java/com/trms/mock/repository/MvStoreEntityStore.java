@@ -0,0 +1,103 @@
+package com.trms.mock.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.h2.mvstore.MVMap;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * On-disk store backed by an H2 MVStore map of JSON documents.
+ * Writes take a striped lock so {@link #compute} runs its function exactly once
+ * per call, unlike the CAS retry loop of {@code ConcurrentMap.compute}.
+ */
+public class MvStoreEntityStore<V> implements EntityStore<V> {
+
+    private static final int LOCK_STRIPES = 256;
+
+    private final MVMap<String, String> map;
+    private final ObjectMapper objectMapper;
+    private final Class<V> type;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    public MvStoreEntityStore(MVMap<String, String> map, ObjectMapper objectMapper, Class<V> type) {
+        this.map = map;
+        this.objectMapper = objectMapper;
+        this.type = type;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public V get(String id) {
+        return read(map.get(id));
+    }
+
+    @Override
+    public V put(String id, V value) {
+        synchronized (lockFor(id)) {
+            return read(map.put(id, write(value)));
+        }
+    }
+
+    @Override
+    public V compute(String id, BiFunction<String, V, V> remapping) {
+        synchronized (lockFor(id)) {
+            V existing = read(map.get(id));
+            V updated = remapping.apply(id, existing);
+            if (updated != null) {
+                map.put(id, write(updated));
+            } else if (existing != null) {
+                map.remove(id);
+            }
+            return updated;
+        }
+    }
+
+    @Override
+    public V remove(String id) {
+        synchronized (lockFor(id)) {
+            return read(map.remove(id));
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public Stream<V> stream() {
+        return map.entrySet().stream().map(entry -> read(entry.getValue()));
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    private Object lockFor(String id) {
+        return locks[(id.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    private V read(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt " + type.getSimpleName() + " in " + map.getName(), e);
+        }
+    }
+
+    private String write(V value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + type.getSimpleName(), e);
+        }
+    }
+}
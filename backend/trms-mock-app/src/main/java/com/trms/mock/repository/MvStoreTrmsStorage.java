@@ -0,0 +1,106 @@
+package com.trms.mock.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.MarketDataStatus;
+import com.trms.mock.model.RateReset;
+import com.trms.mock.model.Transaction;
+import jakarta.annotation.PreDestroy;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Embedded file storage using an H2 MVStore, for data sets larger than the heap
+ */
+@Component
+@ConditionalOnProperty(name = "trms.storage.type", havingValue = "mvstore")
+public class MvStoreTrmsStorage implements TrmsStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(MvStoreTrmsStorage.class);
+
+    private final MVStore store;
+    private final EntityStore<Account> accounts;
+    private final EntityStore<AccountBalance> balances;
+    private final EntityStore<Transaction> transactions;
+    private final EntityStore<RateReset> rateResets;
+    private final EntityStore<MarketDataStatus> marketData;
+
+    public MvStoreTrmsStorage(@Value("${trms.storage.mvstore.file:./data/trms-store.mv.db}") String fileName,
+                              @Value("${trms.storage.mvstore.cache-size-mb:64}") int cacheSizeMb,
+                              ObjectMapper objectMapper) {
+        Path file = Paths.get(fileName).toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create storage directory for " + file, e);
+        }
+
+        this.store = new MVStore.Builder()
+                .fileName(file.toString())
+                .cacheSize(cacheSizeMb)
+                .compress()
+                .open();
+
+        ObjectMapper mapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.accounts = new MvStoreEntityStore<>(store.openMap("accounts"), mapper, Account.class);
+        this.balances = new MvStoreEntityStore<>(store.openMap("balances"), mapper, AccountBalance.class);
+        this.transactions = new MvStoreEntityStore<>(store.openMap("transactions"), mapper, Transaction.class);
+        this.rateResets = new MvStoreEntityStore<>(store.openMap("rateResets"), mapper, RateReset.class);
+        this.marketData = new MvStoreEntityStore<>(store.openMap("marketData"), mapper, MarketDataStatus.class);
+
+        logger.info("Opened MVStore storage {} ({} transactions)", file, transactions.size());
+    }
+
+    @Override
+    public EntityStore<Account> accounts() {
+        return accounts;
+    }
+
+    @Override
+    public EntityStore<AccountBalance> balances() {
+        return balances;
+    }
+
+    @Override
+    public EntityStore<Transaction> transactions() {
+        return transactions;
+    }
+
+    @Override
+    public EntityStore<RateReset> rateResets() {
+        return rateResets;
+    }
+
+    @Override
+    public EntityStore<MarketDataStatus> marketData() {
+        return marketData;
+    }
+
+    @Override
+    public String getName() {
+        return "mvstore";
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return true;
+    }
+
+    @PreDestroy
+    public void close() {
+        store.close();
+        logger.info("Closed MVStore storage");
+    }
+}
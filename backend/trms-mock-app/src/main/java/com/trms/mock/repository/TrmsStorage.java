@@ -0,0 +1,46 @@
+package com.trms.mock.repository;
+
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.MarketDataStatus;
+import com.trms.mock.model.RateReset;
+import com.trms.mock.model.Transaction;
+
+/**
+ * Storage SPI behind MockDataService.
+ * The active implementation is selected with {@code trms.storage.type}.
+ */
+public interface TrmsStorage {
+
+    /**
+     * Accounts keyed by account ID
+     */
+    EntityStore<Account> accounts();
+
+    /**
+     * Balances keyed by account ID
+     */
+    EntityStore<AccountBalance> balances();
+
+    /**
+     * Transactions keyed by transaction ID
+     */
+    EntityStore<Transaction> transactions();
+
+    /**
+     * Rate resets keyed by instrument ID
+     */
+    EntityStore<RateReset> rateResets();
+
+    /**
+     * Market data feed status keyed by feed type
+     */
+    EntityStore<MarketDataStatus> marketData();
+
+    String getName();
+
+    /**
+     * Whether the data survives a restart on its own
+     */
+    boolean isPersistent();
+}
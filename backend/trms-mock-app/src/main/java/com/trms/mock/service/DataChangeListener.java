@@ -0,0 +1,18 @@
+package com.trms.mock.service;
+
+/**
+ * Notified by {@link MockDataService} after data in one of its domains has changed.
+ * Called on the writing thread, so implementations must be cheap and non-blocking.
+ */
+@FunctionalInterface
+public interface DataChangeListener {
+
+    enum Domain {
+        TRANSACTIONS,
+        BALANCES,
+        RATE_RESETS,
+        MARKET_DATA
+    }
+
+    void dataChanged(Domain domain);
+}
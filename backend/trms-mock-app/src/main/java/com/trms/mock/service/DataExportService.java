@@ -0,0 +1,196 @@
+package com.trms.mock.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes transactions and balances straight from the store iterators to an output stream.
+ * Only one record is serialized at a time, so memory use does not grow with the data set.
+ * The export is weakly consistent: changes made while it runs may or may not be included.
+ */
+@Service
+public class DataExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataExportService.class);
+
+    private static final List<CsvColumn<Transaction>> TRANSACTION_COLUMNS = List.of(
+            new CsvColumn<>("TransactionID", Transaction::getTransactionId),
+            new CsvColumn<>("FromAccount", Transaction::getFromAccount),
+            new CsvColumn<>("ToAccount", Transaction::getToAccount),
+            new CsvColumn<>("Amount", Transaction::getAmount),
+            new CsvColumn<>("Currency", Transaction::getCurrency),
+            new CsvColumn<>("Status", Transaction::getStatus),
+            new CsvColumn<>("Type", Transaction::getType),
+            new CsvColumn<>("CreatedAt", Transaction::getCreatedAt),
+            new CsvColumn<>("ValueDate", Transaction::getValueDate),
+            new CsvColumn<>("SettledAt", Transaction::getSettledAt),
+            new CsvColumn<>("Reference", Transaction::getReference),
+            new CsvColumn<>("SettlementMethod", Transaction::getSettlementMethod),
+            new CsvColumn<>("Description", Transaction::getDescription));
+
+    private static final List<CsvColumn<AccountBalance>> BALANCE_COLUMNS = List.of(
+            new CsvColumn<>("AccountID", AccountBalance::getAccountId),
+            new CsvColumn<>("Currency", AccountBalance::getCurrency),
+            new CsvColumn<>("CurrentBalance", AccountBalance::getCurrentBalance),
+            new CsvColumn<>("AvailableBalance", AccountBalance::getAvailableBalance),
+            new CsvColumn<>("ReservedBalance", AccountBalance::getReservedBalance),
+            new CsvColumn<>("PendingCredits", AccountBalance::getPendingCredits),
+            new CsvColumn<>("PendingDebits", AccountBalance::getPendingDebits),
+            new CsvColumn<>("OverdraftLimit", AccountBalance::getOverdraftLimit),
+            new CsvColumn<>("ValueDate", AccountBalance::getValueDate),
+            new CsvColumn<>("LastUpdated", AccountBalance::getLastUpdated));
+
+    private final MockDataService mockDataService;
+    private final ObjectWriter lineWriter;
+
+    public DataExportService(MockDataService mockDataService, ObjectMapper objectMapper) {
+        this.mockDataService = mockDataService;
+        // One compact record per line; flushing is left to the generator's buffer
+        this.lineWriter = objectMapper.writer()
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Write all transactions and return the number of records written
+     */
+    public long exportTransactions(ExportFormat format, OutputStream out) throws IOException {
+        return exportTransactions(format, null, null, out);
+    }
+
+    /**
+     * Write the transactions whose value date is within {@code [valueDateFrom, valueDateTo]},
+     * either bound optional, and return the number of records written
+     */
+    public long exportTransactions(ExportFormat format, LocalDate valueDateFrom, LocalDate valueDateTo,
+                                   OutputStream out) throws IOException {
+        try (Stream<Transaction> transactions = mockDataService.streamTransactions()) {
+            Stream<Transaction> selected = valueDateFrom == null && valueDateTo == null
+                    ? transactions
+                    : transactions.filter(txn -> isValueDateWithin(txn, valueDateFrom, valueDateTo));
+            return export("transactions", format, selected.iterator(), TRANSACTION_COLUMNS, out);
+        }
+    }
+
+    /**
+     * Write all account balances and return the number of records written
+     */
+    public long exportBalances(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AccountBalance> balances = mockDataService.streamBalances()) {
+            return export("balances", format, balances.iterator(), BALANCE_COLUMNS, out);
+        }
+    }
+
+    private <T> long export(String name, ExportFormat format, Iterator<T> records,
+                            List<CsvColumn<T>> columns, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long count = format == ExportFormat.CSV
+                ? writeCsv(records, columns, out)
+                : writeNdjson(records, out);
+        logger.info("Exported {} {} as {} in {} ms",
+                count, name, format, (System.nanoTime() - started) / 1_000_000);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<?> records, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = lineWriter.createGenerator(out)) {
+            // The response stream is owned by the caller
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (records.hasNext()) {
+                lineWriter.writeValue(generator, records.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> records, List<CsvColumn<T>> columns, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).header());
+        }
+        writer.write('\n');
+
+        while (records.hasNext()) {
+            T record = records.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).getter().apply(record);
+                if (value != null) {
+                    writeCsvValue(writer, value.toString());
+                }
+            }
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static boolean isValueDateWithin(Transaction txn, LocalDate from, LocalDate to) {
+        if (txn.getValueDate() == null) {
+            return false;
+        }
+        LocalDate valueDate = txn.getValueDate().toLocalDate();
+        return (from == null || !valueDate.isBefore(from)) && (to == null || !valueDate.isAfter(to));
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private record CsvColumn<T>(String header, Function<T, Object> getter) {
+    }
+}
@@ -0,0 +1,323 @@
+package com.trms.mock.service;
+
+import com.trms.mock.dto.EODJobStatus;
+import com.trms.mock.dto.EODRunRequest;
+import com.trms.mock.dto.EODRunResult;
+import com.trms.mock.dto.EODStepResult;
+import com.trms.mock.eod.EODProgressListener;
+import com.trms.mock.eod.EODStep;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs EOD batches as background jobs. Callers get a job ID immediately and follow
+ * progress by polling {@link #getJob} or through a server-sent event stream.
+ * Progress events are pushed by a single publisher thread at a fixed interval,
+ * so slow event subscribers never hold up the batch workers.
+ */
+@Service
+@Slf4j
+public class EODJobService {
+
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final long PUBLISH_INTERVAL_MILLIS = 250;
+    private static final Duration EMITTER_TIMEOUT = Duration.ofMinutes(30);
+
+    private final EODService eodService;
+    private final ExecutorService jobExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trms-eod-progress");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final Deque<String> jobOrder = new ConcurrentLinkedDeque<>();
+
+    public EODJobService(EODService eodService) {
+        this.eodService = eodService;
+        publisher.scheduleAtFixedRate(this::publishProgress,
+                PUBLISH_INTERVAL_MILLIS, PUBLISH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdownNow();
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * Queue an EOD run and return its job without waiting for it
+     */
+    public EODJobStatus submit(EODRunRequest request) {
+        LocalDate businessDate = request.getBusinessDate() != null ? request.getBusinessDate() : LocalDate.now();
+        String jobId = "EODJOB-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        Job job = new Job(jobId, businessDate,
+                request.getInitiatedBy() != null ? request.getInitiatedBy() : "system");
+        jobs.put(jobId, job);
+        jobOrder.addLast(jobId);
+        evictOldJobs();
+
+        // The job reports the resolved date, so the run uses the same one even across midnight
+        EODRunRequest resolved = EODRunRequest.builder()
+                .businessDate(businessDate)
+                .forceRun(request.getForceRun())
+                .skipValidation(request.getSkipValidation())
+                .initiatedBy(job.initiatedBy)
+                .restart(request.getRestart())
+                .build();
+        jobExecutor.submit(() -> execute(job, resolved));
+        log.info("EOD job {} queued for business date {}", jobId, businessDate);
+        return job.status();
+    }
+
+    public Optional<EODJobStatus> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::status);
+    }
+
+    /**
+     * Retained jobs, most recent first
+     */
+    public List<EODJobStatus> getJobs() {
+        List<EODJobStatus> result = new ArrayList<>();
+        Iterator<String> ids = jobOrder.descendingIterator();
+        while (ids.hasNext()) {
+            Job job = jobs.get(ids.next());
+            if (job != null) {
+                result.add(job.status());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Subscribe to a job's progress. The stream starts with the current status, carries
+     * "progress" events while the job runs and ends with a "complete" event.
+     */
+    public Optional<SseEmitter> subscribe(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT.toMillis());
+        emitter.onCompletion(() -> job.emitters.remove(emitter));
+        emitter.onTimeout(() -> job.emitters.remove(emitter));
+        emitter.onError(error -> job.emitters.remove(emitter));
+        job.emitters.add(emitter);
+
+        EODJobStatus status = job.status();
+        boolean finished = status.getFinishedAt() != null;
+        if (send(job, emitter, finished ? "complete" : "progress", status) && finished) {
+            // The job ended before the subscription; the final event has just been sent
+            job.emitters.remove(emitter);
+            emitter.complete();
+        }
+        return Optional.of(emitter);
+    }
+
+    private void execute(Job job, EODRunRequest request) {
+        job.start();
+        try {
+            job.finish(eodService.runEOD(request, job));
+        } catch (RuntimeException e) {
+            log.error("EOD job {} failed: {}", job.jobId, e.getMessage(), e);
+            job.fail(e);
+        }
+
+        EODJobStatus status = job.status();
+        log.info("EOD job {} finished: {}", job.jobId, status.getState());
+        for (SseEmitter emitter : job.emitters) {
+            if (send(job, emitter, "complete", status)) {
+                emitter.complete();
+            }
+        }
+        job.emitters.clear();
+    }
+
+    private void publishProgress() {
+        try {
+            for (Job job : jobs.values()) {
+                if (job.emitters.isEmpty() || !job.hasUnpublishedProgress()) {
+                    continue;
+                }
+                EODJobStatus status = job.status();
+                if (status.getFinishedAt() != null) {
+                    // The job thread sends the final event
+                    continue;
+                }
+                for (SseEmitter emitter : job.emitters) {
+                    send(job, emitter, "progress", status);
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep the scheduled publisher alive
+            log.warn("Failed to publish EOD job progress: {}", e.getMessage());
+        }
+    }
+
+    private static boolean send(Job job, SseEmitter emitter, String eventName, EODJobStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).id(job.jobId).data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; drop the subscription
+            job.emitters.remove(emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void evictOldJobs() {
+        while (jobOrder.size() > MAX_RETAINED_JOBS) {
+            String oldest = jobOrder.peekFirst();
+            Job job = oldest != null ? jobs.get(oldest) : null;
+            if (job != null && job.finishedAt == null) {
+                // Never drop a job that is still queued or running
+                break;
+            }
+            jobOrder.pollFirst();
+            if (oldest != null) {
+                jobs.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * State of one job; progress fields are written by the batch threads and read by the publisher
+     */
+    private static final class Job implements EODProgressListener {
+
+        private final String jobId;
+        private final LocalDate businessDate;
+        private final String initiatedBy;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final List<EODStepResult> completedSteps = new CopyOnWriteArrayList<>();
+
+        private final AtomicLong version = new AtomicLong();
+        private volatile long publishedVersion = -1;
+
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile EODStep currentStep;
+        private volatile long stepItemsTotal;
+        private final AtomicLong stepItemsProcessed = new AtomicLong();
+        private volatile long stepStartedNanos;
+        private volatile EODRunResult result;
+        private volatile RuntimeException failure;
+
+        Job(String jobId, LocalDate businessDate, String initiatedBy) {
+            this.jobId = jobId;
+            this.businessDate = businessDate;
+            this.initiatedBy = initiatedBy;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            version.incrementAndGet();
+        }
+
+        void finish(EODRunResult runResult) {
+            finishedAt = LocalDateTime.now();
+            result = runResult;
+            currentStep = null;
+            version.incrementAndGet();
+        }
+
+        void fail(RuntimeException e) {
+            finishedAt = LocalDateTime.now();
+            failure = e;
+            currentStep = null;
+            version.incrementAndGet();
+        }
+
+        @Override
+        public void stepStarted(EODStep step, long totalItems) {
+            stepItemsProcessed.set(0);
+            stepItemsTotal = totalItems;
+            stepStartedNanos = System.nanoTime();
+            currentStep = step;
+            version.incrementAndGet();
+        }
+
+        @Override
+        public void chunkCommitted(EODStep step, long itemsHandled) {
+            stepItemsProcessed.accumulateAndGet(itemsHandled, Math::max);
+            version.incrementAndGet();
+        }
+
+        @Override
+        public void stepFinished(EODStepResult stepResult) {
+            completedSteps.add(stepResult);
+            currentStep = null;
+            version.incrementAndGet();
+        }
+
+        boolean hasUnpublishedProgress() {
+            long current = version.get();
+            if (current == publishedVersion) {
+                return false;
+            }
+            publishedVersion = current;
+            return true;
+        }
+
+        EODJobStatus status() {
+            EODStep step = currentStep;
+            long processed = stepItemsProcessed.get();
+            long total = stepItemsTotal;
+            long elapsedNanos = System.nanoTime() - stepStartedNanos;
+            EODRunResult runResult = result;
+
+            // Each step is an equal share of the run
+            int stepCount = EODStep.values().length;
+            double stepFraction = step != null && total > 0 ? (double) processed / total : 0.0;
+            double progress = runResult != null && isSuccess(runResult) ? 100.0
+                    : Math.min(100.0, (completedSteps.size() + stepFraction) * 100.0 / stepCount);
+
+            return EODJobStatus.builder()
+                    .jobId(jobId)
+                    .businessDate(businessDate)
+                    .initiatedBy(initiatedBy)
+                    .state(state(runResult))
+                    .currentStep(step)
+                    .stepItemsProcessed(step != null ? processed : 0)
+                    .stepItemsTotal(step != null ? total : 0)
+                    .itemsPerSecond(step != null && elapsedNanos > 0 ? processed * 1_000_000_000.0 / elapsedNanos : 0.0)
+                    .progressPercent(progress)
+                    .completedSteps(new ArrayList<>(completedSteps))
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .message(runResult != null ? runResult.getMessage()
+                            : failure != null ? "EOD job failed: " + failure.getMessage() : null)
+                    .result(runResult)
+                    .build();
+        }
+
+        private EODJobStatus.JobState state(EODRunResult runResult) {
+            if (failure != null) {
+                return EODJobStatus.JobState.FAILED;
+            }
+            if (runResult != null) {
+                return isSuccess(runResult) ? EODJobStatus.JobState.SUCCEEDED : EODJobStatus.JobState.FAILED;
+            }
+            return startedAt != null ? EODJobStatus.JobState.RUNNING : EODJobStatus.JobState.QUEUED;
+        }
+
+        private static boolean isSuccess(EODRunResult runResult) {
+            return runResult.getOutcome() == EODRunResult.RunOutcome.COMPLETED
+                    || runResult.getOutcome() == EODRunResult.RunOutcome.ALREADY_COMPLETED;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.trms.mock.service;
+
+import com.trms.mock.dto.ReadinessCacheStats;
+import com.trms.mock.eod.EODProperties;
+import com.trms.mock.model.EODCheckResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Holds the last EOD readiness result. The snapshot is invalidated by change events
+ * from {@link MockDataService}; the SWIFT reconciliation status is fetched remotely,
+ * so it is cached separately and expires after a TTL instead.
+ */
+@Component
+public class EODReadinessCache implements DataChangeListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(EODReadinessCache.class);
+
+    /** Failed SWIFT calls are retried sooner than the regular TTL */
+    private static final Duration UNAVAILABLE_TTL = Duration.ofSeconds(5);
+
+    private final Duration swiftTtl;
+
+    // Bumped on every relevant change; a snapshot is valid only for the generation it was computed at
+    private final AtomicLong generation = new AtomicLong();
+    private final Object computeLock = new Object();
+    private final Object swiftLock = new Object();
+    private volatile Snapshot snapshot;
+    private volatile SwiftEntry swift;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong swiftRefreshCount = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer computeTimer;
+
+    public EODReadinessCache(MockDataService mockDataService, MeterRegistry meterRegistry,
+                             EODProperties properties) {
+        this.swiftTtl = properties.getReadiness().getSwiftTtl();
+        this.hits = Counter.builder("trms.eod.readiness.cache")
+                .tag("result", "hit")
+                .description("EOD readiness checks served from the cached snapshot")
+                .register(meterRegistry);
+        this.misses = Counter.builder("trms.eod.readiness.cache")
+                .tag("result", "miss")
+                .description("EOD readiness checks that recomputed the snapshot")
+                .register(meterRegistry);
+        this.computeTimer = Timer.builder("trms.eod.readiness.compute")
+                .description("Time to recompute the EOD readiness snapshot")
+                .register(meterRegistry);
+        mockDataService.addChangeListener(this);
+    }
+
+    @Override
+    public void dataChanged(Domain domain) {
+        // Balances are not part of the readiness check
+        if (domain != Domain.BALANCES) {
+            generation.incrementAndGet();
+            invalidationCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Return the cached readiness result, recomputing it with {@code compute} when data
+     * has changed or the SWIFT status has expired. Concurrent misses compute only once.
+     */
+    public EODCheckResult get(Supplier<EODCheckResult> compute) {
+        Snapshot current = snapshot;
+        if (isValid(current)) {
+            hitCount.incrementAndGet();
+            hits.increment();
+            return current.result();
+        }
+
+        synchronized (computeLock) {
+            current = snapshot;
+            if (isValid(current)) {
+                hitCount.incrementAndGet();
+                hits.increment();
+                return current.result();
+            }
+            missCount.incrementAndGet();
+            misses.increment();
+
+            // Read the generation first: a change during the computation leaves the snapshot stale
+            long computedAt = generation.get();
+            long started = System.nanoTime();
+            EODCheckResult result = compute.get();
+            long elapsedNanos = System.nanoTime() - started;
+            computeTimer.record(Duration.ofNanos(elapsedNanos));
+
+            // Degraded results are returned but not kept, so the next check retries the slow component
+            snapshot = Boolean.TRUE.equals(result.getDegraded()) ? null
+                    : new Snapshot(computedAt, swift, result, LocalDateTime.now(), elapsedNanos / 1_000_000);
+            logger.debug("EOD readiness snapshot recomputed in {} ms", elapsedNanos / 1_000_000);
+            return result;
+        }
+    }
+
+    /**
+     * SWIFT reconciliation status, fetched with {@code fetch} only when the cached one has expired
+     */
+    public EODCheckResult.SwiftReconciliationStatus swiftStatus(
+            Supplier<EODCheckResult.SwiftReconciliationStatus> fetch) {
+        SwiftEntry entry = swift;
+        if (entry != null && !entry.isExpired()) {
+            return entry.status();
+        }
+        synchronized (swiftLock) {
+            entry = swift;
+            if (entry == null || entry.isExpired()) {
+                EODCheckResult.SwiftReconciliationStatus status = fetch.get();
+                Duration ttl = swiftTtl;
+                if (!Boolean.TRUE.equals(status.getSwiftServiceAvailable()) && UNAVAILABLE_TTL.compareTo(ttl) < 0) {
+                    ttl = UNAVAILABLE_TTL;
+                }
+                entry = new SwiftEntry(status, System.nanoTime() + ttl.toNanos());
+                swift = entry;
+                swiftRefreshCount.incrementAndGet();
+            }
+            return entry.status();
+        }
+    }
+
+    /**
+     * Drop the snapshot and the SWIFT status so the next check recomputes both
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        invalidationCount.incrementAndGet();
+        swift = null;
+    }
+
+    public ReadinessCacheStats getStats() {
+        long hitTotal = hitCount.get();
+        long missTotal = missCount.get();
+        long lookups = hitTotal + missTotal;
+        Snapshot current = snapshot;
+        return ReadinessCacheStats.builder()
+                .hits(hitTotal)
+                .misses(missTotal)
+                .hitRatio(lookups == 0 ? 0.0 : (double) hitTotal / lookups)
+                .invalidations(invalidationCount.get())
+                .swiftRefreshes(swiftRefreshCount.get())
+                .swiftTtlSeconds(swiftTtl.toSeconds())
+                .snapshotValid(isValid(current))
+                .snapshotComputedAt(current != null ? current.computedAt() : null)
+                .lastComputeMillis(current != null ? current.computeMillis() : null)
+                .build();
+    }
+
+    private boolean isValid(Snapshot current) {
+        if (current == null || current.generation() != generation.get()) {
+            return false;
+        }
+        // The snapshot must have been built from the SWIFT status that is still cached and fresh
+        SwiftEntry entry = swift;
+        return entry != null && current.swift() == entry && !entry.isExpired();
+    }
+
+    private record Snapshot(long generation, SwiftEntry swift, EODCheckResult result,
+                            LocalDateTime computedAt, long computeMillis) {
+    }
+
+    private record SwiftEntry(EODCheckResult.SwiftReconciliationStatus status, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
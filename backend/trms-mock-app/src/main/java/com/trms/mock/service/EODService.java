@@ -1,9 +1,16 @@
 package com.trms.mock.service;
 
 import com.trms.mock.client.SwiftMockClient;
+import com.trms.mock.dto.BulkFixingProposalResult;
 import com.trms.mock.dto.EODRunRequest;
+import com.trms.mock.dto.EODRunResult;
 import com.trms.mock.dto.ProposeFixingsRequest;
+import com.trms.mock.dto.ReadinessCacheStats;
 import com.trms.mock.model.*;
+import com.trms.mock.eod.EODBatchEngine;
+import com.trms.mock.eod.EODProgressListener;
+import com.trms.mock.eod.EODProperties;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -11,9 +18,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,27 +33,67 @@ public class EODService {
 
     private final MockDataService mockDataService;
     private final SwiftMockClient swiftClient;
-    
-    public EODCheckResult checkEODReadiness() {
-        log.info("Performing comprehensive EOD readiness check including SWIFT reconciliation");
+    private final RateFixingEngine rateFixingEngine;
+    private final EODReadinessCache readinessCache;
+    private final EODProperties properties;
+    private final EODBatchEngine eodBatchEngine;
+
+    // Sub-checks mostly wait (the SWIFT call on I/O), so each gets its own virtual thread
+    private final ExecutorService readinessExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-        // Check market data status
-        MarketDataStatus marketDataStatus = aggregateMarketDataStatus();
+    @PreDestroy
+    void shutdown() {
+        readinessExecutor.shutdownNow();
+    }
+
+    /**
+     * Readiness check served from the cached snapshot while the underlying data is unchanged
+     */
+    public EODCheckResult checkEODReadiness() {
+        return readinessCache.get(this::computeEODReadiness);
+    }
 
-        // Check transaction status
-        TransactionStatusSummary transactionStatus = mockDataService.getTransactionStatusSummary();
+    /**
+     * Readiness check that discards the cached snapshot and SWIFT status first
+     */
+    public EODCheckResult refreshEODReadiness() {
+        readinessCache.invalidate();
+        return checkEODReadiness();
+    }
 
-        // Check missing rate resets
-        List<RateReset> missingResets = mockDataService.getMissingRateResets();
+    public ReadinessCacheStats getReadinessCacheStats() {
+        return readinessCache.getStats();
+    }
 
-        // NEW: Check SWIFT reconciliation status
-        EODCheckResult.SwiftReconciliationStatus swiftStatus = checkSwiftReconciliation();
+    private EODCheckResult computeEODReadiness() {
+        log.info("Performing comprehensive EOD readiness check including SWIFT reconciliation");
 
-        // Determine overall readiness (now includes SWIFT)
+        // The sub-checks are independent: run them concurrently, each within its own time budget
+        Duration checkTimeout = properties.getReadiness().getCheckTimeout();
+        Map<String, String> degradedChecks = new ConcurrentSkipListMap<>();
+
+        CompletableFuture<MarketDataStatus> marketDataCheck = readinessCheck("marketData",
+                this::aggregateMarketDataStatus, checkTimeout, this::unavailableMarketDataStatus, degradedChecks);
+        CompletableFuture<TransactionStatusSummary> transactionCheck = readinessCheck("transactions",
+                mockDataService::getTransactionStatusSummary, checkTimeout, this::unavailableTransactionStatus,
+                degradedChecks);
+        CompletableFuture<List<RateReset>> rateResetCheck = readinessCheck("rateResets",
+                mockDataService::getMissingRateResets, checkTimeout, Collections::emptyList, degradedChecks);
+        CompletableFuture<EODCheckResult.SwiftReconciliationStatus> swiftCheck = readinessCheck("swiftReconciliation",
+                () -> readinessCache.swiftStatus(this::checkSwiftReconciliation),
+                properties.getReadiness().getSwiftTimeout(), this::timedOutSwiftStatus, degradedChecks);
+
+        CompletableFuture.allOf(marketDataCheck, transactionCheck, rateResetCheck, swiftCheck).join();
+        MarketDataStatus marketDataStatus = marketDataCheck.join();
+        TransactionStatusSummary transactionStatus = transactionCheck.join();
+        List<RateReset> missingResets = rateResetCheck.join();
+        EODCheckResult.SwiftReconciliationStatus swiftStatus = swiftCheck.join();
+
+        // Determine overall readiness (now includes SWIFT); a degraded component is never ready
         boolean marketDataReady = marketDataStatus.getComplete();
-        boolean transactionsReady = true; //transactionStatus.getCriticalCount() == 0 &&
+        boolean transactionsReady = !degradedChecks.containsKey("transactions"); //transactionStatus.getCriticalCount() == 0 &&
                                    //transactionStatus.getCompletionPercentage() >= 95.0;
-        boolean rateResetsReady = missingResets.isEmpty();
+        boolean rateResetsReady = !degradedChecks.containsKey("rateResets") && missingResets.isEmpty();
         boolean swiftReady = swiftStatus.getIsComplete();
 
         boolean overallReady = marketDataReady && transactionsReady && rateResetsReady && swiftReady;
@@ -54,6 +104,12 @@ public class EODService {
         // Generate blockers and warnings (now includes SWIFT)
         List<EODCheckResult.BlockerIssue> blockers = generateBlockers(marketDataStatus, transactionStatus, missingResets, swiftStatus);
         List<EODCheckResult.WarningIssue> warnings = generateWarnings(marketDataStatus, transactionStatus, missingResets, swiftStatus);
+        degradedChecks.forEach((check, reason) -> warnings.add(EODCheckResult.WarningIssue.builder()
+                .type("DEGRADED_CHECK")
+                .description("Readiness sub-check '" + check + "' " + reason)
+                .recommendation("Repeat the readiness check; the result for this component is incomplete")
+                .severity(EODCheckResult.IssueSeverity.HIGH)
+                .build()));
 
         // Calculate readiness percentage (now includes SWIFT - 4 components)
         double readinessPercentage = calculateReadinessPercentage(marketDataReady, transactionsReady, rateResetsReady, swiftReady);
@@ -77,6 +133,69 @@ public class EODService {
                 .swiftReconciliation(swiftStatus)
                 .unreconciledSwiftMessages(swiftStatus.getUnreconciledCount())
                 .swiftIssues(swiftStatus.getSwiftServiceAvailable() ? new ArrayList<>() : List.of("SWIFT service unavailable"))
+                .degraded(!degradedChecks.isEmpty())
+                .degradedChecks(degradedChecks.entrySet().stream()
+                        .map(entry -> entry.getKey() + ": " + entry.getValue())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Run one readiness sub-check on its own virtual thread. If it fails or exceeds
+     * {@code timeout}, the fallback value is used and the check is recorded as degraded.
+     * A timed-out check keeps running, so a slow SWIFT call still refreshes the cached status.
+     */
+    private <T> CompletableFuture<T> readinessCheck(String name, Supplier<T> check, Duration timeout,
+                                                    Supplier<T> fallback, Map<String, String> degradedChecks) {
+        return CompletableFuture.supplyAsync(check, readinessExecutor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(failure -> {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure;
+                    String reason = cause instanceof TimeoutException
+                            ? "timed out after " + timeout.toMillis() + " ms"
+                            : "failed: " + cause.getMessage();
+                    log.warn("EOD readiness sub-check {} {}", name, reason);
+                    degradedChecks.put(name, reason);
+                    return fallback.get();
+                });
+    }
+
+    private MarketDataStatus unavailableMarketDataStatus() {
+        return MarketDataStatus.builder()
+                .feedType("AGGREGATE")
+                .expected(0)
+                .received(0)
+                .missing(0)
+                .complete(false)
+                .lastUpdate(LocalDateTime.now())
+                .provider("Multiple")
+                .status(MarketDataStatus.FeedStatus.UNKNOWN)
+                .missingItems(Collections.emptyList())
+                .build();
+    }
+
+    private TransactionStatusSummary unavailableTransactionStatus() {
+        return TransactionStatusSummary.builder()
+                .total(0)
+                .statusCounts(Collections.emptyMap())
+                .pendingTransactions(Collections.emptyList())
+                .failedTransactions(Collections.emptyList())
+                .lastUpdated(LocalDateTime.now())
+                .criticalCount(0)
+                .warningCount(0)
+                .completionPercentage(0.0)
+                .build();
+    }
+
+    private EODCheckResult.SwiftReconciliationStatus timedOutSwiftStatus() {
+        return EODCheckResult.SwiftReconciliationStatus.builder()
+                .totalMessages(0)
+                .reconciledCount(0)
+                .unreconciledCount(0)
+                .isComplete(false)
+                .summary("SWIFT reconciliation check did not complete in time")
+                .swiftServiceAvailable(false)
                 .build();
     }
 
@@ -101,10 +220,12 @@ public class EODService {
                         .build();
             }
 
-            boolean isComplete = result.getUnreconciledCount() == 0 && result.getPendingCount() == 0;
+            int unchecked = result.getUncheckedCount() != null ? result.getUncheckedCount() : 0;
+            boolean isComplete = result.getUnreconciledCount() == 0 && result.getPendingCount() == 0
+                    && unchecked == 0;
 
-            log.info("SWIFT reconciliation status: {} reconciled, {} unreconciled, {} pending",
-                    result.getReconciledCount(), result.getUnreconciledCount(), result.getPendingCount());
+            log.info("SWIFT reconciliation status: {} reconciled, {} unreconciled, {} pending, {} unchecked",
+                    result.getReconciledCount(), result.getUnreconciledCount(), result.getPendingCount(), unchecked);
 
             return EODCheckResult.SwiftReconciliationStatus.builder()
                     .totalMessages(result.getTotalMessages())
@@ -132,26 +253,29 @@ public class EODService {
         
         List<RateReset> proposedFixings = new ArrayList<>();
         LocalDate fixingDate = request.getFixingDate() != null ? request.getFixingDate() : LocalDate.now();
+        String indexName = request.getIndexName() != null ? request.getIndexName() : RateFixingEngine.DEFAULT_INDEX;
         
         for (String instrumentId : request.getInstrumentIds()) {
             // Find existing rate reset or create new one
-            Optional<RateReset> existingReset = mockDataService.getAllRateResets().stream()
-                    .filter(reset -> reset.getInstrumentId().equals(instrumentId))
-                    .findFirst();
+            Optional<RateReset> existingReset = mockDataService.getRateResetById(instrumentId);
             
             RateReset proposedReset;
             if (existingReset.isPresent()) {
-                proposedReset = existingReset.get();
-                proposedReset.setProposedRate(generateProposedRate(proposedReset.getIndexName(), proposedReset.getCurrency()));
-                proposedReset.setStatus(RateReset.RateStatus.PROPOSED);
+                // Work on a copy, the stored instance is replaced atomically by updateRateReset
+                RateReset existing = existingReset.get();
+                proposedReset = existing.toBuilder()
+                        .proposedRate(rateFixingEngine.proposedRate(existing.getIndexName(), existing.getCurrency(),
+                                existing.getFixingDate() != null ? existing.getFixingDate() : fixingDate))
+                        .status(RateReset.RateStatus.PROPOSED)
+                        .build();
             } else {
                 proposedReset = RateReset.builder()
                         .instrumentId(instrumentId)
-                        .indexName(request.getIndexName() != null ? request.getIndexName() : "USD-LIBOR-3M")
+                        .indexName(indexName)
                         .fixingDate(fixingDate)
                         .notional(new BigDecimal("5000000.00"))
                         .currency("USD")
-                        .proposedRate(generateProposedRate(request.getIndexName(), "USD"))
+                        .proposedRate(rateFixingEngine.proposedRate(indexName, "USD", fixingDate))
                         .status(RateReset.RateStatus.PROPOSED)
                         .tenor("3M")
                         .createdAt(LocalDateTime.now())
@@ -173,58 +297,40 @@ public class EODService {
         return proposedFixings;
     }
     
-    public String runEOD(EODRunRequest request) {
+    /**
+     * Bulk mode: partitions instruments by index and currency and proposes them in parallel
+     */
+    public BulkFixingProposalResult proposeRateFixingsBulk(ProposeFixingsRequest request) {
+        log.info("Proposing rate fixings in bulk for {} instruments", request.getInstrumentIds().size());
+        return rateFixingEngine.proposeBulk(request);
+    }
+    
+    /**
+     * Run the EOD batch for the request's business date, resuming a failed run from its checkpoint
+     */
+    public EODRunResult runEOD(EODRunRequest request) {
+        return runEOD(request, EODProgressListener.NONE);
+    }
+
+    public EODRunResult runEOD(EODRunRequest request, EODProgressListener listener) {
         log.info("Initiating EOD run for business date: {}", request.getBusinessDate());
         
         LocalDate businessDate = request.getBusinessDate() != null ? request.getBusinessDate() : LocalDate.now();
+        String initiatedBy = request.getInitiatedBy() != null ? request.getInitiatedBy() : "system";
         
         if (!Boolean.TRUE.equals(request.getForceRun()) && !Boolean.TRUE.equals(request.getSkipValidation())) {
             EODCheckResult readinessCheck = checkEODReadiness();
             if (!readinessCheck.getReady()) {
-                return "EOD run cannot proceed. Readiness check failed. Use forceRun=true to override.";
+                return EODRunResult.builder()
+                        .businessDate(businessDate)
+                        .initiatedBy(initiatedBy)
+                        .outcome(EODRunResult.RunOutcome.REJECTED)
+                        .message("EOD run cannot proceed. Readiness check failed. Use forceRun=true to override.")
+                        .build();
             }
         }
         
-        // Simulate EOD processing steps
-        StringBuilder eodLog = new StringBuilder();
-        eodLog.append("EOD Processing Started for ").append(businessDate).append("\n");
-        eodLog.append("Initiated by: ").append(request.getInitiatedBy() != null ? request.getInitiatedBy() : "system").append("\n\n");
-        
-        // Step 1: Market Data Validation
-        eodLog.append("Step 1: Market Data Validation\n");
-        eodLog.append("- FX Rates: Validated\n");
-        eodLog.append("- Equity Prices: Validated\n");
-        eodLog.append("- Interest Rates: Partially validated (3 missing rates handled)\n\n");
-        
-        // Step 2: Transaction Settlement
-        eodLog.append("Step 2: Transaction Settlement\n");
-        eodLog.append("- Pending transactions: 1 settled\n");
-        eodLog.append("- Failed transactions: 1 investigated and resolved\n\n");
-        
-        // Step 3: Rate Reset Processing
-        eodLog.append("Step 3: Rate Reset Processing\n");
-        eodLog.append("- Applied 3 rate fixings\n");
-        eodLog.append("- Generated 2 rate proposals for approval\n\n");
-        
-        // Step 4: Position Reconciliation
-        eodLog.append("Step 4: Position Reconciliation\n");
-        eodLog.append("- All account balances reconciled\n");
-        eodLog.append("- Cross-currency positions validated\n\n");
-        
-        // Step 5: Risk Calculations
-        eodLog.append("Step 5: Risk Calculations\n");
-        eodLog.append("- VaR calculations completed\n");
-        eodLog.append("- Credit exposure limits checked\n");
-        eodLog.append("- Liquidity ratios calculated\n\n");
-        
-        // Step 6: Regulatory Reporting
-        eodLog.append("Step 6: Regulatory Reporting\n");
-        eodLog.append("- Central bank reporting files generated\n");
-        eodLog.append("- Risk reporting packages created\n\n");
-        
-        eodLog.append("EOD Processing Completed Successfully at ").append(LocalDateTime.now()).append("\n");
-        
-        return eodLog.toString();
+        return eodBatchEngine.run(businessDate, initiatedBy, Boolean.TRUE.equals(request.getRestart()), listener);
     }
     
     private MarketDataStatus aggregateMarketDataStatus() {
@@ -429,25 +535,4 @@ public class EODService {
 
         return summary.toString();
     }
-    
-    private BigDecimal generateProposedRate(String indexName, String currency) {
-        // Simulate intelligent rate proposal based on market conditions
-        Map<String, BigDecimal> baseRates = Map.of(
-            "USD-LIBOR-3M", new BigDecimal("5.25"),
-            "EUR-EURIBOR-6M", new BigDecimal("3.75"),
-            "GBP-SONIA", new BigDecimal("4.95"),
-            "USD", new BigDecimal("5.25"),
-            "EUR", new BigDecimal("3.75"),
-            "GBP", new BigDecimal("4.95")
-        );
-        
-        BigDecimal baseRate = baseRates.getOrDefault(indexName, baseRates.get(currency));
-        if (baseRate == null) {
-            baseRate = new BigDecimal("4.50"); // Default rate
-        }
-        
-        // Add small random variation to simulate market movement
-        double variation = (Math.random() - 0.5) * 0.1; // +/- 5 basis points
-        return baseRate.add(BigDecimal.valueOf(variation));
-    }
-}
\ No newline at end of file
+}
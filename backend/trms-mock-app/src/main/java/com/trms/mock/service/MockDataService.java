@@ -1,8 +1,22 @@
 package com.trms.mock.service;
 
+import com.trms.mock.dto.BulkApproveResult;
+import com.trms.mock.dto.CashLadderEntry;
+import com.trms.mock.dto.PortfolioPositions;
+import com.trms.mock.dto.TransactionPage;
+import com.trms.mock.dto.TransactionQuery;
+import com.trms.mock.generator.SyntheticDataGenerator;
+import com.trms.mock.journal.BalanceDelta;
+import com.trms.mock.journal.JournalRecordType;
+import com.trms.mock.journal.TransactionJournal;
+import com.trms.mock.ledger.AccountLedger;
+import com.trms.mock.ledger.MinorUnits;
 import com.trms.mock.model.*;
+import com.trms.mock.repository.EntityStore;
+import com.trms.mock.repository.TrmsStorage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -10,38 +24,103 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class MockDataService {
 
     private static final Logger logger = LoggerFactory.getLogger(MockDataService.class);
     
-    private final Map<String, Account> accounts = new ConcurrentHashMap<>();
-    private final Map<String, AccountBalance> balances = new ConcurrentHashMap<>();
-    private final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+    private final TrmsStorage storage;
+    private final EntityStore<Account> accounts;
+    private final EntityStore<AccountBalance> balances;
+    private final EntityStore<Transaction> transactions;
     private final Map<String, Report> reports = new ConcurrentHashMap<>();
-    private final List<RateReset> rateResets = new ArrayList<>();
-    private final Map<String, MarketDataStatus> marketDataFeeds = new ConcurrentHashMap<>();
+    private final EntityStore<RateReset> rateResets;
+    private final EntityStore<MarketDataStatus> marketDataFeeds;
+
+    // Secondary indexes kept in sync with the stores above
+    private final Map<String, Set<String>> accountIdsByCurrency = new ConcurrentHashMap<>();
+    private final TransactionStatusTracker transactionStatusTracker = new TransactionStatusTracker();
+    // Source of truth for current/available balances; the balance store holds the other fields
+    private final AccountLedger ledger = new AccountLedger();
+    private final PositionAggregator positions = new PositionAggregator();
+    private final Map<RateReset.RateStatus, Set<String>> rateResetIdsByStatus = new ConcurrentHashMap<>();
+    private final NavigableSet<TransactionCursor> transactionOrder =
+            new ConcurrentSkipListSet<>(TransactionCursor.ORDER);
+
+    private final List<DataChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    private final TransactionJournal journal;
     
-    public MockDataService() {
-        initializeMockData();
+    public MockDataService(TrmsStorage storage, TransactionJournal journal,
+                           ObjectProvider<SyntheticDataGenerator> generator) {
+        this.storage = storage;
+        this.accounts = storage.accounts();
+        this.balances = storage.balances();
+        this.transactions = storage.transactions();
+        this.rateResets = storage.rateResets();
+        this.marketDataFeeds = storage.marketData();
+        this.journal = journal;
+
+        initializeMockData(generator.getIfAvailable());
+
+        if (storage.isPersistent()) {
+            logger.info("Using persistent {} storage, transaction journal not needed", storage.getName());
+        } else {
+            // Journaled transactions and balance changes are replayed on top of the seed data
+            journal.open(new JournalState());
+        }
     }
     
-    private void initializeMockData() {
+    private void initializeMockData(SyntheticDataGenerator generator) {
+        createMockReports();
+
+        if (accounts.size() > 0) {
+            // Persistent storage already holds a data set, only rebuild the derived indexes
+            rebuildIndexes();
+            return;
+        }
+
         createMockAccounts();
         createMockBalances();
         createMockTransactions();
-        createMockReports();
         createMockRateResets();
         createMockMarketDataFeeds();
+
+        if (generator != null) {
+            // large-book profile: add a generated production-sized book to the curated seed data
+            generator.generate(new GeneratorSink());
+        }
+    }
+
+    private void rebuildIndexes() {
+        accounts.stream().forEach(account -> {
+            index(accountIdsByCurrency, currencyKey(account.getCurrency()), account.getAccountId());
+            positions.onAccountStored(account);
+        });
+        balances.stream().forEach(balance -> {
+            ledger.load(balance);
+            positions.onBalanceLoaded(balance);
+        });
+        rateResets.stream().forEach(reset -> indexRateReset(null, reset));
+        transactions.stream().forEach(txn -> {
+            transactionStatusTracker.onStored(null, txn);
+            positions.onTransactionStored(null, txn);
+            transactionOrder.add(TransactionCursor.of(txn));
+        });
+        logger.info("Rebuilt indexes from {} storage: {} accounts, {} transactions",
+                storage.getName(), accounts.size(), transactions.size());
     }
     
     private void createMockAccounts() {
         LocalDateTime now = LocalDateTime.now();
         
         // USD Accounts
-        accounts.put("ACC-001-USD", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-001-USD")
                 .accountName("JP Morgan Chase USD Cash Account")
                 .currency("USD")
@@ -52,7 +131,7 @@ public class MockDataService {
                 .lastUpdated(now)
                 .build());
                 
-        accounts.put("ACC-002-USD", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-002-USD")
                 .accountName("Goldman Sachs USD Trading Account")
                 .currency("USD")
@@ -63,7 +142,7 @@ public class MockDataService {
                 .lastUpdated(now)
                 .build());
                 
-        accounts.put("ACC-003-USD", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-003-USD")
                 .accountName("Citibank USD Nostro Account")
                 .currency("USD")
@@ -75,7 +154,7 @@ public class MockDataService {
                 .build());
         
         // EUR Accounts
-        accounts.put("ACC-004-EUR", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-004-EUR")
                 .accountName("Deutsche Bank EUR Cash Account")
                 .currency("EUR")
@@ -86,7 +165,7 @@ public class MockDataService {
                 .lastUpdated(now)
                 .build());
                 
-        accounts.put("ACC-005-EUR", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-005-EUR")
                 .accountName("BNP Paribas EUR Settlement Account")
                 .currency("EUR")
@@ -98,7 +177,7 @@ public class MockDataService {
                 .build());
         
         // GBP Accounts
-        accounts.put("ACC-006-GBP", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-006-GBP")
                 .accountName("HSBC GBP Cash Account")
                 .currency("GBP")
@@ -109,7 +188,7 @@ public class MockDataService {
                 .lastUpdated(now)
                 .build());
                 
-        accounts.put("ACC-007-GBP", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-007-GBP")
                 .accountName("Barclays GBP Collateral Account")
                 .currency("GBP")
@@ -121,7 +200,7 @@ public class MockDataService {
                 .build());
         
         // JPY Account
-        accounts.put("ACC-008-JPY", Account.builder()
+        storeAccount(Account.builder()
                 .accountId("ACC-008-JPY")
                 .accountName("Sumitomo Mitsui JPY Account")
                 .currency("JPY")
@@ -136,7 +215,7 @@ public class MockDataService {
     private void createMockBalances() {
         LocalDateTime now = LocalDateTime.now();
         
-        balances.put("ACC-001-USD", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-001-USD")
                 .currentBalance(new BigDecimal("15750000.00"))
                 .availableBalance(new BigDecimal("15250000.00"))
@@ -149,7 +228,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-002-USD", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-002-USD")
                 .currentBalance(new BigDecimal("8950000.00"))
                 .availableBalance(new BigDecimal("8450000.00"))
@@ -162,7 +241,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-003-USD", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-003-USD")
                 .currentBalance(new BigDecimal("12300000.00"))
                 .availableBalance(new BigDecimal("12100000.00"))
@@ -175,7 +254,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-004-EUR", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-004-EUR")
                 .currentBalance(new BigDecimal("9850000.00"))
                 .availableBalance(new BigDecimal("9350000.00"))
@@ -188,7 +267,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-005-EUR", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-005-EUR")
                 .currentBalance(new BigDecimal("6750000.00"))
                 .availableBalance(new BigDecimal("6250000.00"))
@@ -201,7 +280,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-006-GBP", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-006-GBP")
                 .currentBalance(new BigDecimal("7250000.00"))
                 .availableBalance(new BigDecimal("6950000.00"))
@@ -214,7 +293,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-007-GBP", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-007-GBP")
                 .currentBalance(new BigDecimal("4500000.00"))
                 .availableBalance(new BigDecimal("4200000.00"))
@@ -227,7 +306,7 @@ public class MockDataService {
                 .valueDate(now.toLocalDate())
                 .build());
                 
-        balances.put("ACC-008-JPY", AccountBalance.builder()
+        storeBalance(AccountBalance.builder()
                 .accountId("ACC-008-JPY")
                 .currentBalance(new BigDecimal("1850000000.00"))
                 .availableBalance(new BigDecimal("1800000000.00"))
@@ -249,7 +328,7 @@ public class MockDataService {
         // 1189 VALIDATED transactions
         for (int i = 1; i <= 1189; i++) {
             String txnId = String.format("TXN-%04d", i);
-            transactions.put(txnId, Transaction.builder()
+            storeTransaction(Transaction.builder()
                     .transactionId(txnId)
                     .fromAccount("ACC-001-USD")
                     .toAccount("ACC-002-USD")
@@ -268,7 +347,7 @@ public class MockDataService {
         // 23 NEW transactions (need validation)
         for (int i = 1190; i <= 1212; i++) {
             String txnId = String.format("TXN-%04d", i);
-            transactions.put(txnId, Transaction.builder()
+            storeTransaction(Transaction.builder()
                     .transactionId(txnId)
                     .fromAccount("ACC-004-EUR")
                     .toAccount("ACC-005-EUR")
@@ -287,7 +366,7 @@ public class MockDataService {
         // 35 PROPOSAL transactions (need review)
         for (int i = 1213; i <= 1247; i++) {
             String txnId = String.format("TXN-%04d", i);
-            transactions.put(txnId, Transaction.builder()
+            storeTransaction(Transaction.builder()
                     .transactionId(txnId)
                     .fromAccount("ACC-006-GBP")
                     .toAccount("ACC-007-GBP")
@@ -337,7 +416,7 @@ public class MockDataService {
         LocalDateTime now = LocalDateTime.now();
         
         // SWAP-2024-0156 as specified in the spec document
-        rateResets.add(RateReset.builder()
+        storeRateReset(RateReset.builder()
                 .instrumentId("SWAP-2024-0156")
                 .indexName("USD-LIBOR-3M")
                 .fixingDate(today)
@@ -351,7 +430,7 @@ public class MockDataService {
                 .build());
                 
         // Additional missing rate resets to simulate real EOD scenario
-        rateResets.add(RateReset.builder()
+        storeRateReset(RateReset.builder()
                 .instrumentId("SWAP-2024-0157")
                 .indexName("USD-LIBOR-3M")
                 .fixingDate(today)
@@ -364,7 +443,7 @@ public class MockDataService {
                 .description("USD LIBOR 3-month fixing for interest rate swap")
                 .build());
                 
-        rateResets.add(RateReset.builder()
+        storeRateReset(RateReset.builder()
                 .instrumentId("SWAP-2024-0158")
                 .indexName("EUR-EURIBOR-6M")
                 .fixingDate(today)
@@ -378,7 +457,7 @@ public class MockDataService {
                 .build());
                 
         // Some completed resets for variety
-        rateResets.add(RateReset.builder()
+        storeRateReset(RateReset.builder()
                 .instrumentId("SWAP-2024-0159")
                 .indexName("GBP-SONIA")
                 .fixingDate(today.minusDays(1))
@@ -400,7 +479,7 @@ public class MockDataService {
         LocalDateTime now = LocalDateTime.now();
         
         // FX_RATES: Complete as per specification
-        marketDataFeeds.put("FX_RATES", MarketDataStatus.builder()
+        storeMarketData(MarketDataStatus.builder()
                 .feedType("FX_RATES")
                 .expected(284)
                 .received(284)
@@ -414,7 +493,7 @@ public class MockDataService {
                 .build());
                 
         // EQUITY_PRICES: Incomplete as per specification
-        marketDataFeeds.put("EQUITY_PRICES", MarketDataStatus.builder()
+        storeMarketData(MarketDataStatus.builder()
                 .feedType("EQUITY_PRICES")
                 .expected(205)
                 .received(205)
@@ -428,7 +507,7 @@ public class MockDataService {
                 .missingItems(Collections.emptyList())
                 .build());
                 
-        marketDataFeeds.put("INTEREST_RATES", MarketDataStatus.builder()
+        storeMarketData(MarketDataStatus.builder()
                 .feedType("INTEREST_RATES")
                 .expected(89)
                 .received(89)
@@ -443,53 +522,299 @@ public class MockDataService {
                 .build());
     }
     
+    /**
+     * Register a listener notified after transactions, balances, rate resets or market data change
+     */
+    public void addChangeListener(DataChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    private void fireChange(DataChangeListener.Domain domain) {
+        for (DataChangeListener listener : changeListeners) {
+            listener.dataChanged(domain);
+        }
+    }
+
+    private void storeAccount(Account account) {
+        Account previous = accounts.put(account.getAccountId(), account);
+        if (previous != null) {
+            unindex(accountIdsByCurrency, currencyKey(previous.getCurrency()), previous.getAccountId());
+        }
+        index(accountIdsByCurrency, currencyKey(account.getCurrency()), account.getAccountId());
+        positions.onAccountStored(account);
+    }
+
+    private Transaction storeTransaction(Transaction transaction) {
+        return storeTransaction(transaction, false);
+    }
+
+    /**
+     * Store a transaction and update the status counters and index.
+     * Durable writes are also appended to the journal.
+     * Returns the transaction previously stored under the same ID, if any.
+     */
+    private Transaction storeTransaction(Transaction transaction, boolean durable) {
+        Transaction previous = journal.atomically(() -> {
+            Transaction[] previous = new Transaction[1];
+            // Track inside compute so concurrent updates of the same ID cannot interleave
+            transactions.compute(transaction.getTransactionId(), (id, existing) -> {
+                previous[0] = existing;
+                transactionStatusTracker.onStored(existing, transaction);
+                positions.onTransactionStored(existing, transaction);
+                if (existing == null || !Objects.equals(existing.getCreatedAt(), transaction.getCreatedAt())) {
+                    if (existing != null) {
+                        transactionOrder.remove(TransactionCursor.of(existing));
+                    }
+                    transactionOrder.add(TransactionCursor.of(transaction));
+                }
+                if (durable) {
+                    journal.append(JournalRecordType.TRANSACTION, transaction);
+                }
+                return transaction;
+            });
+            return previous[0];
+        });
+        fireChange(DataChangeListener.Domain.TRANSACTIONS);
+        return previous;
+    }
+
+    private void storeBalance(AccountBalance balance) {
+        balances.put(balance.getAccountId(), balance);
+        ledger.load(balance);
+        positions.onBalanceLoaded(balance);
+        fireChange(DataChangeListener.Domain.BALANCES);
+    }
+
+    private void storeRateReset(RateReset rateReset) {
+        rateResets.compute(rateReset.getInstrumentId(), (id, existing) -> {
+            indexRateReset(existing, rateReset);
+            return rateReset;
+        });
+        fireChange(DataChangeListener.Domain.RATE_RESETS);
+    }
+
+    private void storeMarketData(MarketDataStatus feed) {
+        marketDataFeeds.put(feed.getFeedType(), feed);
+        fireChange(DataChangeListener.Domain.MARKET_DATA);
+    }
+
+    /**
+     * Move a rate reset between status buckets; called inside the store's per-key compute
+     */
+    private void indexRateReset(RateReset previous, RateReset current) {
+        if (previous != null && previous.getStatus() != null) {
+            Set<String> ids = rateResetIdsByStatus.get(previous.getStatus());
+            if (ids != null) {
+                ids.remove(previous.getInstrumentId());
+            }
+        }
+        if (current.getStatus() != null) {
+            rateResetIdsByStatus.computeIfAbsent(current.getStatus(), status -> ConcurrentHashMap.newKeySet())
+                    .add(current.getInstrumentId());
+        }
+    }
+
+    private static void index(Map<String, Set<String>> index, String key, String id) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private static void unindex(Map<String, Set<String>> index, String key, String id) {
+        if (key != null) {
+            Set<String> ids = index.get(key);
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    private static String currencyKey(String currency) {
+        return currency != null ? currency.toUpperCase(Locale.ROOT) : null;
+    }
+
     // Getter methods for accessing mock data
     
     public List<Account> getAllAccounts() {
-        return new ArrayList<>(accounts.values());
+        return accounts.findAll();
     }
     
     public List<Account> getAccountsByCurrency(String currency) {
-        return accounts.values().stream()
-                .filter(account -> account.getCurrency().equalsIgnoreCase(currency))
-                .collect(Collectors.toList());
+        Set<String> accountIds = accountIdsByCurrency.get(currencyKey(currency));
+        if (accountIds == null) {
+            return new ArrayList<>();
+        }
+        List<Account> result = new ArrayList<>(accountIds.size());
+        for (String accountId : accountIds) {
+            Account account = accounts.get(accountId);
+            if (account != null) {
+                result.add(account);
+            }
+        }
+        return result;
     }
     
     public Optional<Account> getAccountById(String accountId) {
-        return Optional.ofNullable(accounts.get(accountId));
+        return accounts.findById(accountId);
     }
     
     public Optional<AccountBalance> getAccountBalance(String accountId) {
-        return Optional.ofNullable(balances.get(accountId));
+        return balances.findById(accountId).map(ledger::materialize);
     }
     
     public List<Transaction> getAllTransactions() {
-        return new ArrayList<>(transactions.values());
+        return transactions.findAll();
+    }
+    
+    /**
+     * Lazily stream all transactions without copying them, for exports
+     */
+    public Stream<Transaction> streamTransactions() {
+        return transactions.stream();
+    }
+
+    /**
+     * Lazily stream all account balances without copying them, for exports
+     */
+    public Stream<AccountBalance> streamBalances() {
+        return balances.stream().map(ledger::materialize);
     }
     
     public Optional<Transaction> getTransactionById(String transactionId) {
-        return Optional.ofNullable(transactions.get(transactionId));
+        return transactions.findById(transactionId);
+    }
+    
+    /**
+     * Transactions for many IDs in one call, in request order; duplicates are
+     * resolved once and unknown IDs are skipped
+     */
+    public List<Transaction> getTransactionsByIds(Collection<String> transactionIds) {
+        Set<String> distinct = new LinkedHashSet<>(transactionIds);
+        List<Transaction> result = new ArrayList<>(distinct.size());
+        for (String transactionId : distinct) {
+            Transaction txn = transactions.get(transactionId);
+            if (txn != null) {
+                result.add(txn);
+            }
+        }
+        return result;
+    }
+    
+    public List<Transaction> getTransactionsByStatus(Transaction.TransactionStatus status) {
+        Set<String> transactionIds = transactionStatusTracker.getTransactionIds(status);
+        List<Transaction> result = new ArrayList<>(transactionIds.size());
+        for (String transactionId : transactionIds) {
+            Transaction txn = transactions.get(transactionId);
+            if (txn != null && txn.getStatus() == status) {
+                result.add(txn);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * One page of transactions in (createdAt, transactionId) order, walking the ordered
+     * index from the query's cursor and stopping as soon as the page is full.
+     */
+    public TransactionPage<Transaction> findTransactions(TransactionQuery query) {
+        boolean descending = query.isDescending();
+        NavigableSet<TransactionCursor> order = descending ? transactionOrder.descendingSet() : transactionOrder;
+
+        // Start from the range boundary or the cursor, whichever comes later in walk order
+        TransactionCursor rangeStart = descending
+                ? (query.getTo() != null ? TransactionCursor.before(query.getTo()) : null)
+                : (query.getFrom() != null ? TransactionCursor.before(query.getFrom()) : null);
+        TransactionCursor after = query.getAfter();
+        NavigableSet<TransactionCursor> walk;
+        if (after != null && (rangeStart == null || order.comparator().compare(after, rangeStart) >= 0)) {
+            walk = order.tailSet(after, false);
+        } else if (rangeStart != null) {
+            walk = order.tailSet(rangeStart, true);
+        } else {
+            walk = order;
+        }
+
+        int limit = query.getLimit();
+        List<Transaction> page = new ArrayList<>(limit);
+        boolean hasMore = false;
+        for (TransactionCursor key : walk) {
+            if (pastRangeEnd(key.createdAt(), query)) {
+                break;
+            }
+            Transaction txn = transactions.get(key.transactionId());
+            if (txn == null || !matches(txn, query)) {
+                continue;
+            }
+            if (page.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            page.add(txn);
+        }
+
+        String nextCursor = hasMore ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null;
+        return TransactionPage.<Transaction>builder()
+                .transactions(page)
+                .count(page.size())
+                .limit(limit)
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static boolean pastRangeEnd(LocalDateTime createdAt, TransactionQuery query) {
+        if (query.isDescending()) {
+            return query.getFrom() != null && (createdAt == null || createdAt.isBefore(query.getFrom()));
+        }
+        return query.getTo() != null && createdAt != null && !createdAt.isBefore(query.getTo());
+    }
+
+    private static boolean matches(Transaction txn, TransactionQuery query) {
+        if (query.getStatus() != null && txn.getStatus() != query.getStatus()) {
+            return false;
+        }
+        if (query.getCurrency() != null && !query.getCurrency().equalsIgnoreCase(txn.getCurrency())) {
+            return false;
+        }
+        return query.getAccountId() == null
+                || query.getAccountId().equals(txn.getFromAccount())
+                || query.getAccountId().equals(txn.getToAccount());
     }
     
     public String createTransaction(Transaction transaction) {
-        transactions.put(transaction.getTransactionId(), transaction);
+        bookTransaction(transaction);
+        journal.awaitCommit();
+        return transaction.getTransactionId();
+    }
+
+    /**
+     * Book several transactions, waiting for the journal only once for the whole batch
+     */
+    public void createTransactions(List<Transaction> batch) {
+        for (Transaction transaction : batch) {
+            bookTransaction(transaction);
+        }
+        journal.awaitCommit();
+    }
+
+    private void bookTransaction(Transaction transaction) {
+        storeTransaction(transaction, true);
 
         // Only update account balances if transaction is VALIDATED (not PENDING)
         if (transaction.getStatus() == Transaction.TransactionStatus.VALIDATED) {
             updateAccountBalancesForTransaction(transaction);
         }
-
-        return transaction.getTransactionId();
     }
 
     public void updateTransaction(Transaction transaction) {
-        Transaction oldTransaction = transactions.get(transaction.getTransactionId());
-        transactions.put(transaction.getTransactionId(), transaction);
+        Transaction oldTransaction = storeTransaction(transaction, true);
 
         logger.info("Transaction updated: {} - new status: {}",
                    transaction.getTransactionId(), transaction.getStatus());
 
-        // Update balances when transaction status changes from PENDING to VALIDATED
+        // Update balances when transaction status changes from PENDING to VALIDATED.
+        // oldTransaction comes from the atomic store, so only one of several concurrent
+        // approvals of the same transaction observes the PENDING state.
         if (oldTransaction != null &&
             oldTransaction.getStatus() == Transaction.TransactionStatus.PENDING &&
             transaction.getStatus() == Transaction.TransactionStatus.VALIDATED) {
@@ -497,6 +822,124 @@ public class MockDataService {
                        transaction.getTransactionId());
             updateAccountBalancesForTransaction(transaction);
         }
+
+        journal.awaitCommit();
+    }
+
+    /**
+     * Pending transactions matching all given criteria; null criteria are ignored.
+     * The account matches either side of the transfer.
+     */
+    public List<Transaction> findPendingTransactions(String accountId, String currency, LocalDate valueDate) {
+        return getTransactionsByStatus(Transaction.TransactionStatus.PENDING).stream()
+                .filter(txn -> accountId == null
+                        || accountId.equals(txn.getFromAccount()) || accountId.equals(txn.getToAccount()))
+                .filter(txn -> currency == null || currency.equalsIgnoreCase(txn.getCurrency()))
+                .filter(txn -> valueDate == null
+                        || (txn.getValueDate() != null && valueDate.equals(txn.getValueDate().toLocalDate())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Approve PENDING transactions in one pass. Each PENDING -> VALIDATED transition is
+     * atomic per transaction; the balance legs of all approved transactions are netted
+     * per account and applied once per account, with a single journal commit wait.
+     */
+    public BulkApproveResult approveTransactions(Collection<String> transactionIds) {
+        long started = System.nanoTime();
+        Set<String> requested = new LinkedHashSet<>(transactionIds);
+        List<String> approved = new ArrayList<>();
+        Map<String, String> skipped = new LinkedHashMap<>();
+        Map<String, BigDecimal> netChanges = new TreeMap<>();
+
+        for (String transactionId : requested) {
+            // [0] = state before, [1] = approved state if the transition happened
+            Transaction[] outcome = new Transaction[2];
+            journal.atomically(() -> transactions.computeIfPresent(transactionId, (id, existing) -> {
+                outcome[0] = existing;
+                if (existing.getStatus() != Transaction.TransactionStatus.PENDING) {
+                    return existing;
+                }
+                Transaction validated = existing.toBuilder()
+                        .status(Transaction.TransactionStatus.VALIDATED)
+                        .build();
+                transactionStatusTracker.onStored(existing, validated);
+                positions.onTransactionStored(existing, validated);
+                journal.append(JournalRecordType.TRANSACTION, validated);
+                outcome[1] = validated;
+                return validated;
+            }));
+
+            if (outcome[0] == null) {
+                skipped.put(transactionId, "Transaction not found");
+            } else if (outcome[1] == null) {
+                skipped.put(transactionId, "Transaction is not in PENDING status. Current status: "
+                        + outcome[0].getStatus());
+            } else {
+                Transaction validated = outcome[1];
+                approved.add(transactionId);
+                netChanges.merge(validated.getFromAccount(), validated.getAmount().negate(), BigDecimal::add);
+                netChanges.merge(validated.getToAccount(), validated.getAmount(), BigDecimal::add);
+            }
+        }
+
+        if (!approved.isEmpty()) {
+            fireChange(DataChangeListener.Domain.TRANSACTIONS);
+        }
+        netChanges.forEach((accountId, delta) -> {
+            if (delta.signum() != 0) {
+                applyBalanceDelta(accountId, delta, true);
+            }
+        });
+        journal.awaitCommit();
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        logger.info("Bulk approval: {} requested, {} approved, {} skipped, {} accounts updated in {} ms",
+                requested.size(), approved.size(), skipped.size(), netChanges.size(), elapsedMillis);
+
+        return BulkApproveResult.builder()
+                .requested(requested.size())
+                .approved(approved.size())
+                .skipped(skipped.size())
+                .approvedTransactionIds(approved)
+                .skippedTransactions(skipped)
+                .netBalanceChanges(netChanges)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * Move VALIDATED transactions to SETTLED, each atomically, with a single journal commit
+     * wait. Balances moved when the transactions were validated, so only the status changes.
+     * Returns the number of transactions settled; others are left untouched.
+     */
+    public int settleTransactions(Collection<String> transactionIds, LocalDateTime settledAt) {
+        int settled = 0;
+        for (String transactionId : transactionIds) {
+            boolean[] changed = new boolean[1];
+            journal.atomically(() -> transactions.computeIfPresent(transactionId, (id, existing) -> {
+                if (existing.getStatus() != Transaction.TransactionStatus.VALIDATED) {
+                    return existing;
+                }
+                Transaction settledTxn = existing.toBuilder()
+                        .status(Transaction.TransactionStatus.SETTLED)
+                        .settledAt(settledAt)
+                        .build();
+                transactionStatusTracker.onStored(existing, settledTxn);
+                positions.onTransactionStored(existing, settledTxn);
+                journal.append(JournalRecordType.TRANSACTION, settledTxn);
+                changed[0] = true;
+                return settledTxn;
+            }));
+            if (changed[0]) {
+                settled++;
+            }
+        }
+        if (settled > 0) {
+            fireChange(DataChangeListener.Domain.TRANSACTIONS);
+        }
+        journal.awaitCommit();
+        return settled;
     }
 
     /**
@@ -504,60 +947,43 @@ public class MockDataService {
      * Debits from the fromAccount and credits to the toAccount
      */
     private void updateAccountBalancesForTransaction(Transaction transaction) {
-        // Get fromAccount balance
-        AccountBalance fromBalance = balances.get(transaction.getFromAccount());
-        if (fromBalance != null) {
-            // Debit from source account
-            BigDecimal newCurrentBalance = fromBalance.getCurrentBalance().subtract(transaction.getAmount());
-            BigDecimal newAvailableBalance = fromBalance.getAvailableBalance().subtract(transaction.getAmount());
-
-            AccountBalance updatedFromBalance = AccountBalance.builder()
-                    .accountId(fromBalance.getAccountId())
-                    .currentBalance(newCurrentBalance)
-                    .availableBalance(newAvailableBalance)
-                    .reservedBalance(fromBalance.getReservedBalance())
-                    .currency(fromBalance.getCurrency())
-                    .pendingCredits(fromBalance.getPendingCredits())
-                    .pendingDebits(fromBalance.getPendingDebits())
-                    .overdraftLimit(fromBalance.getOverdraftLimit())
-                    .valueDate(fromBalance.getValueDate())
-                    .lastUpdated(LocalDateTime.now())
-                    .build();
-
-            balances.put(transaction.getFromAccount(), updatedFromBalance);
-
-            logger.info("Updated balance for {}: {} -> {}",
-                    transaction.getFromAccount(),
-                    fromBalance.getCurrentBalance(),
-                    newCurrentBalance);
-        }
-
-        // Get toAccount balance
-        AccountBalance toBalance = balances.get(transaction.getToAccount());
-        if (toBalance != null) {
-            // Credit to destination account
-            BigDecimal newCurrentBalance = toBalance.getCurrentBalance().add(transaction.getAmount());
-            BigDecimal newAvailableBalance = toBalance.getAvailableBalance().add(transaction.getAmount());
-
-            AccountBalance updatedToBalance = AccountBalance.builder()
-                    .accountId(toBalance.getAccountId())
-                    .currentBalance(newCurrentBalance)
-                    .availableBalance(newAvailableBalance)
-                    .reservedBalance(toBalance.getReservedBalance())
-                    .currency(toBalance.getCurrency())
-                    .pendingCredits(toBalance.getPendingCredits())
-                    .pendingDebits(toBalance.getPendingDebits())
-                    .overdraftLimit(toBalance.getOverdraftLimit())
-                    .valueDate(toBalance.getValueDate())
-                    .lastUpdated(LocalDateTime.now())
-                    .build();
-
-            balances.put(transaction.getToAccount(), updatedToBalance);
-
-            logger.info("Updated balance for {}: {} -> {}",
-                    transaction.getToAccount(),
-                    toBalance.getCurrentBalance(),
-                    newCurrentBalance);
+        // Both legs share the amount in the transaction currency's minor units; each leg
+        // is applied atomically per account without allocating new balance objects
+        int scale = MinorUnits.scaleOf(transaction.getCurrency());
+        long amountMinor = MinorUnits.toMinor(transaction.getAmount(), scale);
+        applyBalanceDelta(transaction.getFromAccount(), -amountMinor, scale, true);
+        applyBalanceDelta(transaction.getToAccount(), amountMinor, scale, true);
+    }
+
+    private void applyBalanceDelta(String accountId, BigDecimal delta, boolean durable) {
+        int scale = ledger.scaleOf(accountId);
+        if (scale >= 0) {
+            applyBalanceDelta(accountId, MinorUnits.toMinor(delta, scale), scale, durable);
+        }
+    }
+
+    private void applyBalanceDelta(String accountId, long deltaMinor, int scale, boolean durable) {
+        boolean applied = journal.atomically(() -> {
+            if (!ledger.apply(accountId, deltaMinor, scale)) {
+                return false;
+            }
+            positions.onBalanceDelta(accountId, deltaMinor, scale);
+            if (durable) {
+                journal.append(JournalRecordType.BALANCE_DELTA,
+                        new BalanceDelta(accountId, MinorUnits.toDecimal(deltaMinor, scale)));
+            }
+            return true;
+        });
+
+        if (applied && storage.isPersistent()) {
+            // Write the ledger position through; compute runs per key, so the last writer stores the latest amounts
+            balances.computeIfPresent(accountId, (id, stored) -> ledger.materialize(stored));
+        }
+        if (applied) {
+            fireChange(DataChangeListener.Domain.BALANCES);
+        }
+        if (applied && durable && logger.isDebugEnabled()) {
+            logger.debug("Updated balance for {} by {}", accountId, MinorUnits.toDecimal(deltaMinor, scale));
         }
     }
     
@@ -566,59 +992,165 @@ public class MockDataService {
     }
     
     public List<RateReset> getMissingRateResets() {
-        return rateResets.stream()
-                .filter(reset -> reset.getStatus() == RateReset.RateStatus.MISSING)
-                .collect(Collectors.toList());
+        return getRateResetsByStatus(RateReset.RateStatus.MISSING);
+    }
+
+    public List<RateReset> getRateResetsByStatus(RateReset.RateStatus status) {
+        Set<String> instrumentIds = rateResetIdsByStatus.getOrDefault(status, Collections.emptySet());
+        List<RateReset> result = new ArrayList<>(instrumentIds.size());
+        for (String instrumentId : instrumentIds) {
+            RateReset reset = rateResets.get(instrumentId);
+            if (reset != null && reset.getStatus() == status) {
+                result.add(reset);
+            }
+        }
+        return result;
+    }
+
+    public Optional<RateReset> getRateResetById(String instrumentId) {
+        return rateResets.findById(instrumentId);
     }
     
     public List<RateReset> getAllRateResets() {
-        return new ArrayList<>(rateResets);
+        return rateResets.findAll();
     }
     
     public void updateRateReset(RateReset rateReset) {
-        for (int i = 0; i < rateResets.size(); i++) {
-            if (rateResets.get(i).getInstrumentId().equals(rateReset.getInstrumentId())) {
-                rateResets.set(i, rateReset);
-                break;
+        // Only known instruments are updated
+        rateResets.computeIfPresent(rateReset.getInstrumentId(), (id, existing) -> {
+            indexRateReset(existing, rateReset);
+            return rateReset;
+        });
+        fireChange(DataChangeListener.Domain.RATE_RESETS);
+    }
+    
+    /**
+     * Move APPROVED rate resets to APPLIED, making the proposed rate the current rate.
+     * Returns the number of resets applied; resets in any other status are left untouched.
+     */
+    public int applyRateResets(Collection<String> instrumentIds) {
+        int applied = 0;
+        for (String instrumentId : instrumentIds) {
+            boolean[] changed = new boolean[1];
+            rateResets.computeIfPresent(instrumentId, (id, existing) -> {
+                if (existing.getStatus() != RateReset.RateStatus.APPROVED) {
+                    return existing;
+                }
+                RateReset appliedReset = existing.toBuilder()
+                        .currentRate(existing.getProposedRate())
+                        .status(RateReset.RateStatus.APPLIED)
+                        .build();
+                indexRateReset(existing, appliedReset);
+                changed[0] = true;
+                return appliedReset;
+            });
+            if (changed[0]) {
+                applied++;
             }
         }
+        if (applied > 0) {
+            fireChange(DataChangeListener.Domain.RATE_RESETS);
+        }
+        return applied;
     }
-    
+
     public MarketDataStatus getMarketDataStatus(String feedType) {
         return marketDataFeeds.get(feedType);
     }
     
     public List<MarketDataStatus> getAllMarketDataStatus() {
-        return new ArrayList<>(marketDataFeeds.values());
+        return marketDataFeeds.findAll();
+    }
+
+    /**
+     * Replace the stored status of a feed, e.g. with live completeness from tick ingestion
+     */
+    public void updateMarketDataStatus(MarketDataStatus feed) {
+        storeMarketData(feed);
     }
     
     public TransactionStatusSummary getTransactionStatusSummary() {
-        Map<Transaction.TransactionStatus, Integer> statusCounts = new HashMap<>();
-        List<Transaction> pendingTxns = new ArrayList<>();
-        List<Transaction> failedTxns = new ArrayList<>();
-        
-        for (Transaction txn : transactions.values()) {
-            statusCounts.merge(txn.getStatus(), 1, Integer::sum);
-            if (txn.getStatus() == Transaction.TransactionStatus.PENDING) {
-                pendingTxns.add(txn);
-            } else if (txn.getStatus() == Transaction.TransactionStatus.FAILED) {
-                failedTxns.add(txn);
-            }
-        }
-        
-        int total = transactions.size();
-        int completed = statusCounts.getOrDefault(Transaction.TransactionStatus.SETTLED, 0);
-        double completionPercentage = total > 0 ? (completed * 100.0 / total) : 0.0;
-        
-        return TransactionStatusSummary.builder()
-                .total(total)
-                .statusCounts(statusCounts)
-                .pendingTransactions(pendingTxns)
-                .failedTransactions(failedTxns)
-                .lastUpdated(LocalDateTime.now())
-                .criticalCount(failedTxns.size())
-                .warningCount(pendingTxns.size())
-                .completionPercentage(completionPercentage)
+        return transactionStatusTracker.snapshot();
+    }
+
+    /**
+     * Balance totals per currency and account type plus the value-date cash ladder,
+     * read from the incrementally maintained aggregates. Null filters are ignored.
+     */
+    public PortfolioPositions getPortfolioPositions(String currency, LocalDate from, LocalDate to) {
+        String key = currencyKey(currency);
+        return PortfolioPositions.builder()
+                .generatedAt(LocalDateTime.now())
+                .currencies(positions.currencyTotals(key))
+                .accountTypes(positions.accountTypeTotals(key))
+                .cashLadder(positions.cashLadder(key, from, to))
                 .build();
     }
-}
\ No newline at end of file
+
+    public List<CashLadderEntry> getCashLadder(String currency, LocalDate from, LocalDate to) {
+        return positions.cashLadder(currencyKey(currency), from, to);
+    }
+
+    /**
+     * Stores generated entities through the same helpers as the seed data, keeping the indexes in sync
+     */
+    private class GeneratorSink implements SyntheticDataGenerator.Sink {
+
+        @Override
+        public void account(Account account) {
+            storeAccount(account);
+        }
+
+        @Override
+        public void balance(AccountBalance balance) {
+            storeBalance(balance);
+        }
+
+        @Override
+        public void transaction(Transaction transaction) {
+            storeTransaction(transaction);
+        }
+
+        @Override
+        public void rateReset(RateReset rateReset) {
+            storeRateReset(rateReset);
+        }
+
+        @Override
+        public void marketData(MarketDataStatus feed) {
+            storeMarketData(feed);
+        }
+    }
+
+    /**
+     * Bridges the journal to the maps above. Replayed changes are applied
+     * without being journaled again.
+     */
+    private class JournalState implements TransactionJournal.StateHandler {
+
+        @Override
+        public List<Transaction> snapshotTransactions() {
+            return transactions.findAll();
+        }
+
+        @Override
+        public List<AccountBalance> snapshotBalances() {
+            return streamBalances().collect(Collectors.toList());
+        }
+
+        @Override
+        public void restoreTransaction(Transaction transaction) {
+            storeTransaction(transaction, false);
+        }
+
+        @Override
+        public void restoreBalance(AccountBalance balance) {
+            storeBalance(balance);
+        }
+
+        @Override
+        public void replayBalanceDelta(String accountId, BigDecimal amount) {
+            applyBalanceDelta(accountId, amount, false);
+        }
+    }
+}
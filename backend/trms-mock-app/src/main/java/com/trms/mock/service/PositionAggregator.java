@@ -0,0 +1,331 @@
+package com.trms.mock.service;
+
+import com.trms.mock.dto.CashLadderEntry;
+import com.trms.mock.dto.PositionTotals;
+import com.trms.mock.ledger.MinorUnits;
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Incrementally maintained portfolio view: balance totals per currency and account type,
+ * and a cash ladder of transaction amounts per currency and value date. Every store and
+ * booking leg applies its delta here, so reading the view never scans accounts or
+ * transactions. Like the status counters, totals of different buckets are read without
+ * a common lock and are only weakly consistent with each other.
+ */
+public class PositionAggregator {
+
+    // Cash ladder stages; other transaction statuses carry no expected cash flow
+    private static final int PENDING = 0;
+    private static final int VALIDATED = 1;
+    private static final int SETTLED = 2;
+
+    private final Map<String, AccountEntry> accounts = new ConcurrentHashMap<>();
+    private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<LadderKey, LadderCell> ladder = new ConcurrentHashMap<>();
+
+    /**
+     * Record the account's type, moving an already loaded balance to the matching bucket
+     */
+    public void onAccountStored(Account account) {
+        AccountEntry entry = entry(account.getAccountId());
+        synchronized (entry) {
+            if (entry.accountType == account.getAccountType()) {
+                return;
+            }
+            if (entry.loaded) {
+                addToBucket(entry, -1);
+            }
+            entry.accountType = account.getAccountType();
+            if (entry.loaded) {
+                addToBucket(entry, 1);
+            }
+        }
+    }
+
+    /**
+     * Replace the account's contribution with the amounts of {@code balance}
+     */
+    public void onBalanceLoaded(AccountBalance balance) {
+        AccountEntry entry = entry(balance.getAccountId());
+        synchronized (entry) {
+            if (entry.loaded) {
+                addToBucket(entry, -1);
+            }
+            entry.load(balance);
+            addToBucket(entry, 1);
+        }
+    }
+
+    /**
+     * Add a booking leg, expressed with {@code scale} digits, to the current and available totals
+     */
+    public void onBalanceDelta(String accountId, long deltaMinor, int scale) {
+        AccountEntry entry = accounts.get(accountId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            if (!entry.loaded) {
+                return;
+            }
+            long delta = MinorUnits.rescale(deltaMinor, scale, entry.scale);
+            entry.current = Math.addExact(entry.current, delta);
+            entry.available = Math.addExact(entry.available, delta);
+            Bucket bucket = bucket(entry);
+            bucket.current.add(delta);
+            bucket.available.add(delta);
+        }
+    }
+
+    /**
+     * Record that {@code current} replaced {@code previous} (null for a new transaction).
+     * Callers must serialize calls per transaction ID.
+     */
+    public void onTransactionStored(Transaction previous, Transaction current) {
+        if (previous != null && sameLadderSlot(previous, current)) {
+            return;
+        }
+        if (previous != null) {
+            addToLadder(previous, -1);
+        }
+        addToLadder(current, 1);
+    }
+
+    /**
+     * Currency-wide totals, optionally for a single currency, ordered by currency
+     */
+    public List<PositionTotals> currencyTotals(String currency) {
+        Map<String, long[]> sums = new TreeMap<>();
+        Map<String, Integer> accountCounts = new HashMap<>();
+        buckets.forEach((key, bucket) -> {
+            if (currency == null || key.currency().equals(currency)) {
+                long[] values = bucket.values();
+                long[] sum = sums.computeIfAbsent(key.currency(), c -> new long[values.length]);
+                for (int i = 0; i < values.length; i++) {
+                    sum[i] += values[i];
+                }
+                accountCounts.merge(key.currency(), bucket.accounts.intValue(), Integer::sum);
+            }
+        });
+
+        List<PositionTotals> result = new ArrayList<>(sums.size());
+        sums.forEach((code, values) -> {
+            int accountCount = accountCounts.get(code);
+            if (accountCount > 0) {
+                result.add(toTotals(code, null, accountCount, values));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Totals per account type within each currency, ordered by currency and account type
+     */
+    public List<PositionTotals> accountTypeTotals(String currency) {
+        List<PositionTotals> result = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            int accountCount = bucket.accounts.intValue();
+            if ((currency == null || key.currency().equals(currency)) && accountCount > 0) {
+                result.add(toTotals(key.currency(), key.accountType(), accountCount, bucket.values()));
+            }
+        });
+        result.sort(Comparator.comparing(PositionTotals::getCurrency)
+                .thenComparing(PositionTotals::getAccountType, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    /**
+     * Cash ladder entries ordered by currency and value date. Null filters are ignored; the
+     * cumulative amount also counts value dates before {@code from}.
+     */
+    public List<CashLadderEntry> cashLadder(String currency, LocalDate from, LocalDate to) {
+        NavigableMap<LadderKey, long[]> cells = new TreeMap<>();
+        ladder.forEach((key, cell) -> {
+            if ((currency == null || key.currency().equals(currency))
+                    && (to == null || !key.valueDate().isAfter(to))) {
+                long[] values = cell.values();
+                if (values[0] + values[1] + values[2] > 0) {
+                    cells.put(key, values);
+                }
+            }
+        });
+
+        List<CashLadderEntry> result = new ArrayList<>();
+        String runningCurrency = null;
+        long cumulative = 0;
+        for (Map.Entry<LadderKey, long[]> cell : cells.entrySet()) {
+            LadderKey key = cell.getKey();
+            long[] values = cell.getValue();
+            if (!key.currency().equals(runningCurrency)) {
+                runningCurrency = key.currency();
+                cumulative = 0;
+            }
+            cumulative += values[3 + PENDING] + values[3 + VALIDATED];
+            if (from != null && key.valueDate().isBefore(from)) {
+                continue;
+            }
+            int scale = MinorUnits.scaleOf(key.currency());
+            result.add(CashLadderEntry.builder()
+                    .currency(key.currency())
+                    .valueDate(key.valueDate())
+                    .pendingCount((int) values[PENDING])
+                    .pendingAmount(MinorUnits.toDecimal(values[3 + PENDING], scale))
+                    .validatedCount((int) values[VALIDATED])
+                    .validatedAmount(MinorUnits.toDecimal(values[3 + VALIDATED], scale))
+                    .settledCount((int) values[SETTLED])
+                    .settledAmount(MinorUnits.toDecimal(values[3 + SETTLED], scale))
+                    .cumulativeUnsettledAmount(MinorUnits.toDecimal(cumulative, scale))
+                    .build());
+        }
+        return result;
+    }
+
+    private AccountEntry entry(String accountId) {
+        return accounts.computeIfAbsent(accountId, id -> new AccountEntry());
+    }
+
+    private Bucket bucket(AccountEntry entry) {
+        return buckets.computeIfAbsent(new BucketKey(entry.currency, entry.accountType), key -> new Bucket());
+    }
+
+    /** Called with the entry's lock held */
+    private void addToBucket(AccountEntry entry, int sign) {
+        Bucket bucket = bucket(entry);
+        bucket.accounts.add(sign);
+        bucket.current.add(sign * entry.current);
+        bucket.available.add(sign * entry.available);
+        bucket.reserved.add(sign * entry.reserved);
+        bucket.pendingCredits.add(sign * entry.pendingCredits);
+        bucket.pendingDebits.add(sign * entry.pendingDebits);
+    }
+
+    private void addToLadder(Transaction txn, int sign) {
+        int stage = stageOf(txn.getStatus());
+        if (stage < 0 || txn.getValueDate() == null || txn.getAmount() == null || txn.getCurrency() == null) {
+            return;
+        }
+        String currency = txn.getCurrency().toUpperCase(Locale.ROOT);
+        long amountMinor = MinorUnits.toMinor(txn.getAmount(), MinorUnits.scaleOf(currency));
+        ladder.computeIfAbsent(new LadderKey(currency, txn.getValueDate().toLocalDate()), key -> new LadderCell())
+                .add(stage, sign, sign * amountMinor);
+    }
+
+    private static boolean sameLadderSlot(Transaction previous, Transaction current) {
+        return stageOf(previous.getStatus()) == stageOf(current.getStatus())
+                && Objects.equals(previous.getCurrency(), current.getCurrency())
+                && Objects.equals(previous.getValueDate(), current.getValueDate())
+                && Objects.equals(previous.getAmount(), current.getAmount());
+    }
+
+    private static int stageOf(Transaction.TransactionStatus status) {
+        if (status == null) {
+            return -1;
+        }
+        return switch (status) {
+            case NEW, PENDING -> PENDING;
+            case VALIDATED -> VALIDATED;
+            case SETTLED -> SETTLED;
+            default -> -1;
+        };
+    }
+
+    private static PositionTotals toTotals(String currency, Account.AccountType accountType,
+                                           int accountCount, long[] values) {
+        int scale = MinorUnits.scaleOf(currency);
+        return PositionTotals.builder()
+                .currency(currency)
+                .accountType(accountType)
+                .accounts(accountCount)
+                .currentBalance(MinorUnits.toDecimal(values[0], scale))
+                .availableBalance(MinorUnits.toDecimal(values[1], scale))
+                .reservedBalance(MinorUnits.toDecimal(values[2], scale))
+                .pendingCredits(MinorUnits.toDecimal(values[3], scale))
+                .pendingDebits(MinorUnits.toDecimal(values[4], scale))
+                .build();
+    }
+
+    private static long toMinor(BigDecimal amount, int scale) {
+        return amount != null ? MinorUnits.toMinor(amount, scale) : 0L;
+    }
+
+    private record BucketKey(String currency, Account.AccountType accountType) {
+    }
+
+    private record LadderKey(String currency, LocalDate valueDate) implements Comparable<LadderKey> {
+
+        @Override
+        public int compareTo(LadderKey other) {
+            int byCurrency = currency.compareTo(other.currency);
+            return byCurrency != 0 ? byCurrency : valueDate.compareTo(other.valueDate);
+        }
+    }
+
+    /**
+     * Latest amounts an account contributes to its bucket, in the account currency's minor units
+     */
+    private static final class AccountEntry {
+
+        // All fields guarded by this
+        private boolean loaded;
+        private Account.AccountType accountType;
+        private String currency;
+        private int scale;
+        private long current;
+        private long available;
+        private long reserved;
+        private long pendingCredits;
+        private long pendingDebits;
+
+        void load(AccountBalance balance) {
+            currency = balance.getCurrency() != null ? balance.getCurrency().toUpperCase(Locale.ROOT) : "";
+            scale = MinorUnits.scaleOf(currency);
+            current = toMinor(balance.getCurrentBalance(), scale);
+            available = toMinor(balance.getAvailableBalance(), scale);
+            reserved = toMinor(balance.getReservedBalance(), scale);
+            pendingCredits = toMinor(balance.getPendingCredits(), scale);
+            pendingDebits = toMinor(balance.getPendingDebits(), scale);
+            loaded = true;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final LongAdder accounts = new LongAdder();
+        private final LongAdder current = new LongAdder();
+        private final LongAdder available = new LongAdder();
+        private final LongAdder reserved = new LongAdder();
+        private final LongAdder pendingCredits = new LongAdder();
+        private final LongAdder pendingDebits = new LongAdder();
+
+        long[] values() {
+            return new long[] {
+                    current.sum(), available.sum(), reserved.sum(), pendingCredits.sum(), pendingDebits.sum()
+            };
+        }
+    }
+
+    /**
+     * Counts and minor-unit amounts per stage; [0..2] are counts and [3..5] amounts
+     */
+    private static final class LadderCell {
+
+        private final long[] values = new long[6];
+
+        synchronized void add(int stage, int countDelta, long amountDelta) {
+            values[stage] += countDelta;
+            values[3 + stage] += amountDelta;
+        }
+
+        synchronized long[] values() {
+            return values.clone();
+        }
+    }
+}
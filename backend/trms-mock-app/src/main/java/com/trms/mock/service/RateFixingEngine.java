@@ -0,0 +1,215 @@
+package com.trms.mock.service;
+
+import com.trms.mock.dto.BulkFixingProposalResult;
+import com.trms.mock.dto.FixingProposal;
+import com.trms.mock.dto.ProposeFixingsRequest;
+import com.trms.mock.model.RateReset;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Computes rate fixing proposals from index curves. A curve is computed once per
+ * (indexName, currency, fixingDate) and shared by every instrument fixing on it,
+ * so all instruments on the same index and date get the same proposed rate.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateFixingEngine {
+
+    private static final Map<String, BigDecimal> BASE_RATES = Map.of(
+            "USD-LIBOR-3M", new BigDecimal("5.25"),
+            "EUR-EURIBOR-6M", new BigDecimal("3.75"),
+            "GBP-SONIA", new BigDecimal("4.95"),
+            "USD", new BigDecimal("5.25"),
+            "EUR", new BigDecimal("3.75"),
+            "GBP", new BigDecimal("4.95"));
+
+    private static final BigDecimal DEFAULT_BASE_RATE = new BigDecimal("4.50");
+    static final String DEFAULT_INDEX = "USD-LIBOR-3M";
+    private static final String DEFAULT_CURRENCY = "USD";
+
+    /** Curves for fixing dates this far before the latest requested date are dropped */
+    private static final int CURVE_RETENTION_DAYS = 7;
+
+    private final MockDataService mockDataService;
+
+    private final Map<CurveKey, IndexCurve> curves = new ConcurrentHashMap<>();
+    private final AtomicReference<LocalDate> evictedBefore = new AtomicReference<>(LocalDate.MIN);
+
+    /**
+     * Proposed rate for an index fixing, from the cached curve
+     */
+    public BigDecimal proposedRate(String indexName, String currency, LocalDate fixingDate) {
+        evictCurvesBefore(fixingDate.minusDays(CURVE_RETENTION_DAYS));
+        return curve(new CurveKey(indexName, currency, fixingDate), null).rate();
+    }
+
+    /**
+     * Propose fixings for many instruments at once. Instruments are partitioned by
+     * (index, currency) and the partitions are processed in parallel on the common
+     * fork-join pool. Results are returned in request order.
+     */
+    public BulkFixingProposalResult proposeBulk(ProposeFixingsRequest request) {
+        long started = System.nanoTime();
+        LocalDate requestDate = request.getFixingDate() != null ? request.getFixingDate() : LocalDate.now();
+        evictCurvesBefore(requestDate.minusDays(CURVE_RETENTION_DAYS));
+
+        List<String> instrumentIds = new ArrayList<>(new LinkedHashSet<>(request.getInstrumentIds()));
+
+        // Resolve instruments and group them by the curve partition they fix on
+        Map<PartitionKey, List<Instrument>> partitions = instrumentIds.parallelStream()
+                .map(id -> new Instrument(id, mockDataService.getRateResetById(id).orElse(null)))
+                .collect(Collectors.groupingByConcurrent(instrument -> instrument.partition(request)));
+        long lookedUp = System.nanoTime();
+
+        AtomicInteger curvesComputed = new AtomicInteger();
+        Map<String, FixingProposal> proposals = new ConcurrentHashMap<>();
+        partitions.entrySet().parallelStream().forEach(partition ->
+                proposePartition(partition.getKey(), partition.getValue(), request, requestDate,
+                        curvesComputed, proposals));
+        long proposed = System.nanoTime();
+
+        List<FixingProposal> ordered = instrumentIds.stream()
+                .map(proposals::get)
+                .collect(Collectors.toList());
+
+        BulkFixingProposalResult.Metrics metrics = BulkFixingProposalResult.Metrics.builder()
+                .instruments(ordered.size())
+                .partitions(partitions.size())
+                .curvesComputed(curvesComputed.get())
+                .curveCacheHits(ordered.size() - curvesComputed.get())
+                .parallelism(ForkJoinPool.getCommonPoolParallelism())
+                .lookupMillis((lookedUp - started) / 1_000_000)
+                .proposeMillis((proposed - lookedUp) / 1_000_000)
+                .totalMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+
+        log.info("Bulk fixing proposal: {} instruments in {} partitions, {} curves computed, {} ms",
+                metrics.getInstruments(), metrics.getPartitions(), metrics.getCurvesComputed(),
+                metrics.getTotalMillis());
+
+        return BulkFixingProposalResult.builder()
+                .proposals(ordered)
+                .metrics(metrics)
+                .build();
+    }
+
+    private void proposePartition(PartitionKey partition, List<Instrument> instruments,
+                                  ProposeFixingsRequest request, LocalDate requestDate,
+                                  AtomicInteger curvesComputed, Map<String, FixingProposal> proposals) {
+        boolean autoApprove = Boolean.TRUE.equals(request.getAutoApprove());
+        for (Instrument instrument : instruments) {
+            long began = System.nanoTime();
+            RateReset existing = instrument.existing();
+            LocalDate fixingDate = existing != null && existing.getFixingDate() != null
+                    ? existing.getFixingDate() : requestDate;
+            BigDecimal rate = curve(new CurveKey(partition.indexName(), partition.currency(), fixingDate),
+                    curvesComputed).rate();
+
+            RateReset proposal = existing != null
+                    ? existing.toBuilder()
+                            .proposedRate(rate)
+                            .status(RateReset.RateStatus.PROPOSED)
+                            .build()
+                    : RateReset.builder()
+                            .instrumentId(instrument.instrumentId())
+                            .indexName(partition.indexName())
+                            .fixingDate(fixingDate)
+                            .notional(new BigDecimal("5000000.00"))
+                            .currency(partition.currency())
+                            .proposedRate(rate)
+                            .status(RateReset.RateStatus.PROPOSED)
+                            .tenor("3M")
+                            .createdAt(LocalDateTime.now())
+                            .source(request.getSource() != null ? request.getSource() : "Bloomberg")
+                            .description("AI-generated rate fixing proposal")
+                            .build();
+
+            if (autoApprove) {
+                proposal.setStatus(RateReset.RateStatus.APPROVED);
+                proposal.setApprovedAt(LocalDateTime.now());
+                proposal.setApprovedBy("ai-system");
+            }
+
+            mockDataService.updateRateReset(proposal);
+            proposals.put(instrument.instrumentId(), FixingProposal.builder()
+                    .instrumentId(instrument.instrumentId())
+                    .existingInstrument(existing != null)
+                    .previousStatus(existing != null ? existing.getStatus() : null)
+                    .rateReset(proposal)
+                    .computeMicros((System.nanoTime() - began) / 1_000)
+                    .build());
+        }
+    }
+
+    private IndexCurve curve(CurveKey key, AtomicInteger computedCounter) {
+        return curves.computeIfAbsent(key, k -> {
+            if (computedCounter != null) {
+                computedCounter.incrementAndGet();
+            }
+            return computeCurve(k);
+        });
+    }
+
+    /**
+     * Simulate a curve build from market conditions: base rate plus a small market move
+     */
+    private static IndexCurve computeCurve(CurveKey key) {
+        BigDecimal baseRate = key.indexName() != null ? BASE_RATES.get(key.indexName()) : null;
+        if (baseRate == null && key.currency() != null) {
+            baseRate = BASE_RATES.get(key.currency());
+        }
+        if (baseRate == null) {
+            baseRate = DEFAULT_BASE_RATE;
+        }
+
+        double variation = (ThreadLocalRandom.current().nextDouble() - 0.5) * 0.1; // +/- 5 basis points
+        BigDecimal rate = baseRate.add(BigDecimal.valueOf(variation)).setScale(6, RoundingMode.HALF_EVEN);
+        return new IndexCurve(key, rate, LocalDateTime.now());
+    }
+
+    /**
+     * Drop curves fixing before {@code cutoff}. Only a cutoff later than the last one
+     * scans the cache, so single proposals pay for it once per day at most.
+     */
+    private void evictCurvesBefore(LocalDate cutoff) {
+        LocalDate previous = evictedBefore.getAndAccumulate(cutoff, (last, next) -> next.isAfter(last) ? next : last);
+        if (cutoff.isAfter(previous)) {
+            curves.keySet().removeIf(key -> key.fixingDate() != null && key.fixingDate().isBefore(cutoff));
+        }
+    }
+
+    private record CurveKey(String indexName, String currency, LocalDate fixingDate) {
+    }
+
+    private record IndexCurve(CurveKey key, BigDecimal rate, LocalDateTime computedAt) {
+    }
+
+    private record PartitionKey(String indexName, String currency) {
+    }
+
+    private record Instrument(String instrumentId, RateReset existing) {
+
+        PartitionKey partition(ProposeFixingsRequest request) {
+            if (existing != null) {
+                return new PartitionKey(existing.getIndexName(), existing.getCurrency());
+            }
+            return new PartitionKey(request.getIndexName() != null ? request.getIndexName() : DEFAULT_INDEX,
+                    DEFAULT_CURRENCY);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.trms.mock.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.trms.mock.dto.BatchBookingResult;
+import com.trms.mock.dto.BookingResult;
+import com.trms.mock.dto.CreateTransactionRequest;
+import com.trms.mock.ledger.MinorUnits;
+import com.trms.mock.model.Account;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Validates and books transfer requests, one at a time or as a batch.
+ * A batch looks up each distinct account and balance once and checks funds
+ * against a running projected available balance, so every item of the batch
+ * sees the effect of the items accepted before it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionBookingService {
+
+    /** Accepted transactions are handed to the data service in chunks of this size */
+    private static final int BOOKING_CHUNK_SIZE = 1000;
+
+    private final MockDataService mockDataService;
+    private final Validator validator;
+
+    /**
+     * Validate and book a single request. The request is expected to be bean-validated already.
+     */
+    public BookingResult book(CreateTransactionRequest request) {
+        BookingContext context = new BookingContext();
+        BookingResult result = validate(null, request, context);
+        if (result != null) {
+            return result;
+        }
+        Transaction transaction = context.accept(request);
+        mockDataService.createTransaction(transaction);
+        return created(null, transaction);
+    }
+
+    /**
+     * Validate and book every request produced by {@code requests}, which is read lazily
+     * so large NDJSON or JSON-array bodies are never fully materialized as requests.
+     * Items before a malformed element are kept; processing stops at the malformed element.
+     * If a chunk cannot be stored, processing stops and its items that were not stored
+     * are reported as rejected.
+     */
+    public BatchBookingResult bookBatch(MappingIterator<CreateTransactionRequest> requests) {
+        long started = System.nanoTime();
+        BookingContext context = new BookingContext();
+        List<BookingResult> results = new ArrayList<>();
+        List<Transaction> chunk = new ArrayList<>(BOOKING_CHUNK_SIZE);
+        int chunkStart = 0;
+        String error = null;
+        String storageError = null;
+
+        int index = 0;
+        try {
+            while (storageError == null && requests.hasNextValue()) {
+                CreateTransactionRequest request = requests.nextValue();
+                BookingResult rejection = validateBean(index, request);
+                if (rejection == null) {
+                    rejection = validate(index, request, context);
+                }
+                if (rejection != null) {
+                    results.add(rejection);
+                } else {
+                    Transaction transaction = context.accept(request);
+                    chunk.add(transaction);
+                    results.add(created(index, transaction));
+                    if (chunk.size() == BOOKING_CHUNK_SIZE) {
+                        // Swap first, so a chunk that failed to store is never submitted again
+                        List<Transaction> full = chunk;
+                        chunk = new ArrayList<>(BOOKING_CHUNK_SIZE);
+                        storageError = store(full, results, chunkStart);
+                        chunkStart = results.size();
+                    }
+                }
+                index++;
+            }
+        } catch (IOException e) {
+            log.warn("Batch booking stopped at item {}: {}", index, e.getMessage());
+            error = "Malformed item at index " + index + ": " + e.getMessage();
+        }
+        if (!chunk.isEmpty()) {
+            storageError = store(chunk, results, chunkStart);
+        }
+        if (storageError != null) {
+            error = storageError;
+        }
+
+        int created = (int) results.stream().filter(BookingResult::isCreated).count();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        log.info("Batch booking finished: {} items, {} created, {} rejected, {} distinct accounts in {} ms",
+                results.size(), created, results.size() - created, context.accounts.size(), elapsedMillis);
+
+        return BatchBookingResult.builder()
+                .total(results.size())
+                .created(created)
+                .rejected(results.size() - created)
+                .distinctAccounts(context.accounts.size())
+                .elapsedMillis(elapsedMillis)
+                .complete(error == null)
+                .error(error)
+                .storageFailure(storageError != null)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Store a chunk of accepted transactions. Returns null on success. On a storage failure
+     * the results from {@code from} on whose transaction was not stored become rejections,
+     * and the error is returned.
+     */
+    private String store(List<Transaction> chunk, List<BookingResult> results, int from) {
+        try {
+            mockDataService.createTransactions(chunk);
+            return null;
+        } catch (RuntimeException e) {
+            log.error("Batch booking failed to store {} transactions: {}", chunk.size(), e.getMessage());
+            for (int i = from; i < results.size(); i++) {
+                BookingResult result = results.get(i);
+                if (result.isCreated() && mockDataService.getTransactionById(result.getTransactionId()).isEmpty()) {
+                    results.set(i, rejected(result.getIndex(), HttpStatus.INTERNAL_SERVER_ERROR,
+                            "Not booked, storage failed: " + e.getMessage()));
+                }
+            }
+            return "Storage failed, booking stopped: " + e.getMessage();
+        }
+    }
+
+    private BookingResult validateBean(int index, CreateTransactionRequest request) {
+        if (request == null) {
+            return rejected(index, HttpStatus.BAD_REQUEST, "Empty transaction request");
+        }
+        Set<ConstraintViolation<CreateTransactionRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        String message = violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return rejected(index, HttpStatus.BAD_REQUEST, message);
+    }
+
+    /**
+     * Business validation, in the same order and with the same outcomes as the single-item endpoint
+     */
+    private BookingResult validate(Integer index, CreateTransactionRequest request, BookingContext context) {
+        Optional<Account> fromAccount = context.account(request.getFromAccount());
+        if (fromAccount.isEmpty()) {
+            log.warn("From account not found: {}", request.getFromAccount());
+            return rejected(index, HttpStatus.NOT_FOUND, "From account not found: " + request.getFromAccount());
+        }
+
+        Optional<Account> toAccount = context.account(request.getToAccount());
+        if (toAccount.isEmpty()) {
+            log.warn("To account not found: {}", request.getToAccount());
+            return rejected(index, HttpStatus.NOT_FOUND, "To account not found: " + request.getToAccount());
+        }
+
+        if (!fromAccount.get().getCurrency().equalsIgnoreCase(request.getCurrency())) {
+            log.warn("Currency mismatch: account {} has currency {}, but transaction currency is {}",
+                    request.getFromAccount(), fromAccount.get().getCurrency(), request.getCurrency());
+            return rejected(index, HttpStatus.UNPROCESSABLE_ENTITY, "Currency mismatch with from account");
+        }
+
+        if (!toAccount.get().getCurrency().equalsIgnoreCase(request.getCurrency())) {
+            log.warn("Currency mismatch: account {} has currency {}, but transaction currency is {}",
+                    request.getToAccount(), toAccount.get().getCurrency(), request.getCurrency());
+            return rejected(index, HttpStatus.UNPROCESSABLE_ENTITY, "Currency mismatch with to account");
+        }
+
+        if (!MinorUnits.fits(request.getAmount(), request.getCurrency())) {
+            log.warn("Amount {} has more decimal places than {} allows", request.getAmount(), request.getCurrency());
+            return rejected(index, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Amount has more decimal places than " + request.getCurrency().toUpperCase() + " allows");
+        }
+
+        BigDecimal available = context.available(request.getFromAccount());
+        if (available != null && available.compareTo(request.getAmount()) < 0) {
+            log.warn("Insufficient funds in account {}: available {}, requested {}",
+                    request.getFromAccount(), available, request.getAmount());
+            return rejected(index, HttpStatus.UNPROCESSABLE_ENTITY, "Insufficient available funds");
+        }
+        return null;
+    }
+
+    private static BookingResult created(Integer index, Transaction transaction) {
+        return BookingResult.builder()
+                .index(index)
+                .status(BookingResult.BookingStatus.CREATED)
+                .httpStatus(HttpStatus.CREATED.value())
+                .transactionId(transaction.getTransactionId())
+                .transaction(transaction)
+                .build();
+    }
+
+    private static BookingResult rejected(Integer index, HttpStatus status, String message) {
+        return BookingResult.builder()
+                .index(index)
+                .status(BookingResult.BookingStatus.REJECTED)
+                .httpStatus(status.value())
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Account and balance view shared by all items of one booking call
+     */
+    private final class BookingContext {
+
+        private final Map<String, Optional<Account>> accounts = new HashMap<>();
+        private final Map<String, BigDecimal> projectedAvailable = new HashMap<>();
+        private final Set<String> issuedIds = new HashSet<>();
+        private final LocalDateTime now = LocalDateTime.now();
+
+        Optional<Account> account(String accountId) {
+            return accounts.computeIfAbsent(accountId, mockDataService::getAccountById);
+        }
+
+        /** Available balance minus the requests already accepted in this batch, or null if unknown */
+        BigDecimal available(String accountId) {
+            return projectedAvailable.computeIfAbsent(accountId, id -> mockDataService.getAccountBalance(id)
+                    .map(AccountBalance::getAvailableBalance)
+                    .orElse(null));
+        }
+
+        Transaction accept(CreateTransactionRequest request) {
+            projectedAvailable.computeIfPresent(request.getFromAccount(),
+                    (id, available) -> available.subtract(request.getAmount()));
+
+            return Transaction.builder()
+                    .transactionId(nextTransactionId())
+                    .fromAccount(request.getFromAccount())
+                    .toAccount(request.getToAccount())
+                    .amount(request.getAmount())
+                    .currency(request.getCurrency().toUpperCase())
+                    .status(Transaction.TransactionStatus.PENDING)
+                    .type(Transaction.TransactionType.TRANSFER)
+                    .description(request.getDescription())
+                    .reference(request.getReference())
+                    .settlementMethod(request.getSettlementMethod() != null ? request.getSettlementMethod() : "RTGS")
+                    .createdAt(now)
+                    .valueDate(now.toLocalDate().atStartOfDay())
+                    .build();
+        }
+
+        /** Short IDs collide within large batches, so skip any already used */
+        private String nextTransactionId() {
+            String transactionId;
+            do {
+                transactionId = "TXN-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+            } while (!issuedIds.add(transactionId) || mockDataService.getTransactionById(transactionId).isPresent());
+            return transactionId;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.trms.mock.service;
+
+import com.trms.mock.model.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Position of a transaction in the (createdAt, transactionId) order used for keyset pagination.
+ * Encoded as an opaque URL-safe token for clients.
+ */
+public record TransactionCursor(LocalDateTime createdAt, String transactionId) {
+
+    /** Transactions without a creation time sort first */
+    public static final Comparator<TransactionCursor> ORDER = Comparator
+            .comparing(TransactionCursor::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TransactionCursor::transactionId);
+
+    private static final char SEPARATOR = '|';
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getCreatedAt(), transaction.getTransactionId());
+    }
+
+    /** Sorts before every transaction created at {@code createdAt} */
+    public static TransactionCursor before(LocalDateTime createdAt) {
+        return new TransactionCursor(createdAt, "");
+    }
+
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + SEPARATOR + transactionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            String createdAt = raw.substring(0, separator);
+            return new TransactionCursor(createdAt.isEmpty() ? null : LocalDateTime.parse(createdAt),
+                    raw.substring(separator + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
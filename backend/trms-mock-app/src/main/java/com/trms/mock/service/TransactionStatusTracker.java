@@ -0,0 +1,138 @@
+package com.trms.mock.service;
+
+import com.trms.mock.model.Transaction;
+import com.trms.mock.model.TransactionStatusSummary;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Incrementally maintained view of transaction statuses.
+ * Keeps per-status counters, a status -> transaction IDs index and the
+ * pending/failed sets up to date on every state change, so the EOD
+ * summary can be served from a cached snapshot instead of a full scan.
+ */
+public class TransactionStatusTracker {
+
+    private final Map<Transaction.TransactionStatus, AtomicInteger> counts =
+            new EnumMap<>(Transaction.TransactionStatus.class);
+    private final Map<Transaction.TransactionStatus, Set<String>> idsByStatus =
+            new EnumMap<>(Transaction.TransactionStatus.class);
+    private final Map<String, Transaction> pending = new ConcurrentHashMap<>();
+    private final Map<String, Transaction> failed = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile LocalDateTime lastChange = LocalDateTime.now();
+    private volatile Snapshot snapshot;
+
+    public TransactionStatusTracker() {
+        // Both maps are fully populated up front and never structurally modified afterwards
+        for (Transaction.TransactionStatus status : Transaction.TransactionStatus.values()) {
+            counts.put(status, new AtomicInteger());
+            idsByStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Record that {@code current} replaced {@code previous} (null for a new transaction).
+     * Callers must serialize calls per transaction ID.
+     */
+    public void onStored(Transaction previous, Transaction current) {
+        String id = current.getTransactionId();
+        if (previous == null) {
+            total.incrementAndGet();
+        } else if (previous.getStatus() != current.getStatus()) {
+            leave(previous.getStatus(), id);
+        }
+        if (previous == null || previous.getStatus() != current.getStatus()) {
+            enter(current.getStatus(), id);
+        }
+
+        // The sets hold the latest object, even when only non-status fields changed
+        if (current.getStatus() == Transaction.TransactionStatus.PENDING) {
+            pending.put(id, current);
+        } else if (current.getStatus() == Transaction.TransactionStatus.FAILED) {
+            failed.put(id, current);
+        }
+
+        lastChange = LocalDateTime.now();
+        // Bump the version only after the state above is visible, see snapshot()
+        version.incrementAndGet();
+    }
+
+    public Set<String> getTransactionIds(Transaction.TransactionStatus status) {
+        return Collections.unmodifiableSet(idsByStatus.get(status));
+    }
+
+    public int getCount(Transaction.TransactionStatus status) {
+        return counts.get(status).get();
+    }
+
+    /**
+     * Return the current summary. Rebuilt only when a transaction changed since the
+     * previous call, so repeated polling between changes is O(1).
+     */
+    public TransactionStatusSummary snapshot() {
+        long currentVersion = version.get();
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version == currentVersion) {
+            return cached.summary;
+        }
+
+        // State read below is at least as new as currentVersion
+        Map<Transaction.TransactionStatus, Integer> statusCounts =
+                new EnumMap<>(Transaction.TransactionStatus.class);
+        counts.forEach((status, count) -> {
+            int value = count.get();
+            if (value > 0) {
+                statusCounts.put(status, value);
+            }
+        });
+        List<Transaction> pendingTxns = List.copyOf(pending.values());
+        List<Transaction> failedTxns = List.copyOf(failed.values());
+
+        int totalCount = total.get();
+        int completed = statusCounts.getOrDefault(Transaction.TransactionStatus.SETTLED, 0);
+        double completionPercentage = totalCount > 0 ? (completed * 100.0 / totalCount) : 0.0;
+
+        TransactionStatusSummary summary = TransactionStatusSummary.builder()
+                .total(totalCount)
+                .statusCounts(Collections.unmodifiableMap(statusCounts))
+                .pendingTransactions(pendingTxns)
+                .failedTransactions(failedTxns)
+                .lastUpdated(lastChange)
+                .criticalCount(failedTxns.size())
+                .warningCount(pendingTxns.size())
+                .completionPercentage(completionPercentage)
+                .build();
+
+        snapshot = new Snapshot(currentVersion, summary);
+        return summary;
+    }
+
+    private void enter(Transaction.TransactionStatus status, String id) {
+        if (status != null) {
+            counts.get(status).incrementAndGet();
+            idsByStatus.get(status).add(id);
+        }
+    }
+
+    private void leave(Transaction.TransactionStatus status, String id) {
+        if (status != null) {
+            counts.get(status).decrementAndGet();
+            idsByStatus.get(status).remove(id);
+        }
+        if (status == Transaction.TransactionStatus.PENDING) {
+            pending.remove(id);
+        } else if (status == Transaction.TransactionStatus.FAILED) {
+            failed.remove(id);
+        }
+    }
+
+    private record Snapshot(long version, TransactionStatusSummary summary) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.trms.mock.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round trips through the journal files: append, close, reopen and replay
+ */
+class TransactionJournalTest {
+
+    private static final int HEADER_BYTES = 4 + 8 + 1 + 4;
+
+    @TempDir
+    Path directory;
+
+    private ObjectMapper objectMapper;
+    private JournalProperties properties;
+    private final List<TransactionJournal> opened = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        properties = new JournalProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSizeMb(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(TransactionJournal::close);
+    }
+
+    @Test
+    void replaysAppendedRecordsAfterReopen() {
+        TransactionJournal journal = open(new State());
+        for (int i = 0; i < 5; i++) {
+            book(journal, null, i);
+        }
+        journal.close();
+
+        State replayed = new State();
+        open(replayed);
+
+        assertThat(replayed.transactions).hasSize(5);
+        assertThat(replayed.transactions.get(transactionId(3)).getAmount()).isEqualByComparingTo(amount(3));
+        assertThat(replayed.balance()).isEqualByComparingTo(sumOfAmounts(0, 5));
+        assertThat(replayed.deltasReplayed).isEqualTo(5);
+    }
+
+    @Test
+    void ignoresTruncatedTail() throws IOException {
+        TransactionJournal journal = open(new State());
+        for (int i = 0; i < 3; i++) {
+            book(journal, null, i);
+        }
+        journal.close();
+
+        // Cut the last record (the balance delta of the third booking) in half, as a crash mid-write would
+        Path segment = files("journal-", ".seg").get(0);
+        long lastRecordStart = lastRecordStart(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(lastRecordStart + HEADER_BYTES + 2);
+        }
+
+        State replayed = new State();
+        open(replayed);
+
+        assertThat(replayed.transactions).hasSize(3);
+        assertThat(replayed.deltasReplayed).isEqualTo(2);
+        assertThat(replayed.balance()).isEqualByComparingTo(sumOfAmounts(0, 2));
+    }
+
+    @Test
+    void replaysRecordsWrittenAfterSnapshotOnTopOfIt() throws Exception {
+        properties.setSnapshotEveryRecords(10);
+        State state = new State();
+        TransactionJournal journal = open(state);
+        // Five bookings are ten records, which triggers a snapshot
+        for (int i = 0; i < 5; i++) {
+            book(journal, state, i);
+        }
+        awaitSnapshot();
+        // Fewer records than the snapshot interval, so they stay in the segment only
+        for (int i = 5; i < 9; i++) {
+            book(journal, state, i);
+        }
+        journal.close();
+
+        State replayed = new State();
+        open(replayed);
+
+        assertThat(replayed.balancesRestored).isEqualTo(1);
+        assertThat(replayed.transactions).hasSize(9);
+        assertThat(replayed.deltasReplayed).isEqualTo(4);
+        // Records covered by the snapshot must not be applied a second time
+        assertThat(replayed.balance()).isEqualByComparingTo(sumOfAmounts(0, 9));
+    }
+
+    // Helpers
+
+    private TransactionJournal open(State state) {
+        TransactionJournal journal = new TransactionJournal(properties, objectMapper);
+        journal.open(state);
+        opened.add(journal);
+        return journal;
+    }
+
+    /**
+     * Book a transaction and credit its amount, like the data service does
+     */
+    private static void book(TransactionJournal journal, State state, int i) {
+        Transaction transaction = Transaction.builder()
+                .transactionId(transactionId(i))
+                .fromAccount("ACC-001-USD")
+                .toAccount(State.ACCOUNT)
+                .amount(amount(i))
+                .currency("USD")
+                .status(Transaction.TransactionStatus.VALIDATED)
+                .type(Transaction.TransactionType.TRANSFER)
+                .createdAt(LocalDateTime.now())
+                .build();
+        journal.atomically(() -> {
+            if (state != null) {
+                state.restoreTransaction(transaction);
+                state.replayBalanceDelta(State.ACCOUNT, transaction.getAmount());
+            }
+            journal.append(JournalRecordType.TRANSACTION, transaction);
+            journal.append(JournalRecordType.BALANCE_DELTA, new BalanceDelta(State.ACCOUNT, transaction.getAmount()));
+            return null;
+        });
+        journal.awaitCommit();
+    }
+
+    private static String transactionId(int i) {
+        return String.format("TXN-JRNL-%03d", i);
+    }
+
+    private static BigDecimal amount(int i) {
+        return BigDecimal.valueOf(100 + i, 2);
+    }
+
+    private static BigDecimal sumOfAmounts(int from, int to) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = from; i < to; i++) {
+            sum = sum.add(amount(i));
+        }
+        return sum;
+    }
+
+    private void awaitSnapshot() throws Exception {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (files("snapshot-", ".json").isEmpty()) {
+            assertThat(System.nanoTime()).as("snapshot written in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private List<Path> files(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)
+                            && file.getFileName().toString().endsWith(suffix))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long lastRecordStart(Path segment) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        long lastStart = -1;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length <= 0) {
+                break;
+            }
+            lastStart = start;
+            buffer.position(start + HEADER_BYTES + length);
+        }
+        return lastStart;
+    }
+
+    /**
+     * Journaled state of a single credited account
+     */
+    private static class State implements TransactionJournal.StateHandler {
+
+        static final String ACCOUNT = "ACC-002-USD";
+
+        final Map<String, Transaction> transactions = new ConcurrentHashMap<>();
+        volatile BigDecimal balance = BigDecimal.ZERO;
+        int deltasReplayed;
+        int balancesRestored;
+
+        BigDecimal balance() {
+            return balance;
+        }
+
+        @Override
+        public List<Transaction> snapshotTransactions() {
+            return new ArrayList<>(transactions.values());
+        }
+
+        @Override
+        public List<AccountBalance> snapshotBalances() {
+            return List.of(AccountBalance.builder()
+                    .accountId(ACCOUNT)
+                    .currentBalance(balance)
+                    .availableBalance(balance)
+                    .currency("USD")
+                    .build());
+        }
+
+        @Override
+        public void restoreTransaction(Transaction transaction) {
+            transactions.put(transaction.getTransactionId(), transaction);
+        }
+
+        @Override
+        public void restoreBalance(AccountBalance balance) {
+            this.balance = balance.getCurrentBalance();
+            balancesRestored++;
+        }
+
+        @Override
+        public synchronized void replayBalanceDelta(String accountId, BigDecimal amount) {
+            balance = balance.add(amount);
+            deltasReplayed++;
+        }
+    }
+}
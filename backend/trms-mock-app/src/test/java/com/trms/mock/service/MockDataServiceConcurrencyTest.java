@@ -0,0 +1,183 @@
+package com.trms.mock.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trms.mock.generator.SyntheticDataGenerator;
+import com.trms.mock.journal.JournalProperties;
+import com.trms.mock.journal.TransactionJournal;
+import com.trms.mock.model.AccountBalance;
+import com.trms.mock.model.Transaction;
+import com.trms.mock.repository.InMemoryTrmsStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent approvals on a few shared accounts must move each balance by exactly
+ * the sum of its legs, with every transaction applied once.
+ */
+class MockDataServiceConcurrencyTest {
+
+    private static final List<String> ACCOUNTS = List.of("ACC-001-USD", "ACC-002-USD", "ACC-003-USD");
+    private static final int TRANSACTIONS = 2_000;
+    private static final int APPROVALS_PER_TRANSACTION = 3;
+    private static final int THREADS = 16;
+
+    @TempDir
+    Path journalDirectory;
+
+    private ObjectMapper objectMapper;
+    private JournalProperties journalProperties;
+    private TransactionJournal journal;
+    private MockDataService service;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        journalProperties = new JournalProperties();
+        journalProperties.setDirectory(journalDirectory.toString());
+        journal = new TransactionJournal(journalProperties, objectMapper);
+        service = new MockDataService(new InMemoryTrmsStorage(), journal,
+                new StaticListableBeanFactory().getBeanProvider(SyntheticDataGenerator.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    @Test
+    void concurrentApprovalsApplyEachTransactionExactlyOnce() throws Exception {
+        Map<String, AccountBalance> seeded = new HashMap<>();
+        ACCOUNTS.forEach(id -> seeded.put(id, service.getAccountBalance(id).orElseThrow()));
+
+        Random random = new Random(42);
+        List<Transaction> pending = new ArrayList<>();
+        Map<String, BigDecimal> expectedChange = new HashMap<>();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            int from = random.nextInt(ACCOUNTS.size());
+            int to = (from + 1 + random.nextInt(ACCOUNTS.size() - 1)) % ACCOUNTS.size();
+            BigDecimal amount = BigDecimal.valueOf(1 + random.nextInt(1_000_000), 2);
+            Transaction txn = Transaction.builder()
+                    .transactionId(String.format("TXN-STRESS-%05d", i))
+                    .fromAccount(ACCOUNTS.get(from))
+                    .toAccount(ACCOUNTS.get(to))
+                    .amount(amount)
+                    .currency("USD")
+                    .status(Transaction.TransactionStatus.PENDING)
+                    .type(Transaction.TransactionType.TRANSFER)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            service.createTransaction(txn);
+            pending.add(txn);
+            expectedChange.merge(txn.getFromAccount(), amount.negate(), BigDecimal::add);
+            expectedChange.merge(txn.getToAccount(), amount, BigDecimal::add);
+        }
+
+        // Every transaction is approved several times, by different threads in random order
+        List<Transaction> approvals = new ArrayList<>();
+        for (Transaction txn : pending) {
+            for (int n = 0; n < APPROVALS_PER_TRANSACTION; n++) {
+                approvals.add(txn.toBuilder().status(Transaction.TransactionStatus.VALIDATED).build());
+            }
+        }
+        Collections.shuffle(approvals, random);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Transaction approval : approvals) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    service.updateTransaction(approval);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (String accountId : ACCOUNTS) {
+            AccountBalance before = seeded.get(accountId);
+            AccountBalance after = service.getAccountBalance(accountId).orElseThrow();
+            BigDecimal change = expectedChange.getOrDefault(accountId, BigDecimal.ZERO);
+            assertThat(after.getCurrentBalance())
+                    .as("current balance of %s", accountId)
+                    .isEqualByComparingTo(before.getCurrentBalance().add(change));
+            assertThat(after.getAvailableBalance())
+                    .as("available balance of %s", accountId)
+                    .isEqualByComparingTo(before.getAvailableBalance().add(change));
+        }
+        for (Transaction txn : pending) {
+            assertThat(service.getTransactionById(txn.getTransactionId()).orElseThrow().getStatus())
+                    .isEqualTo(Transaction.TransactionStatus.VALIDATED);
+        }
+
+        // The journal holds one debit and one credit per transaction: duplicate approvals left no trace
+        journal.close();
+        CountingState replayed = new CountingState();
+        TransactionJournal reopened = new TransactionJournal(journalProperties, objectMapper);
+        reopened.open(replayed);
+        reopened.close();
+
+        assertThat(replayed.balanceDeltas.get()).isEqualTo(2 * TRANSACTIONS);
+        ACCOUNTS.forEach(accountId -> assertThat(replayed.netChange.getOrDefault(accountId, BigDecimal.ZERO))
+                .as("journaled change of %s", accountId)
+                .isEqualByComparingTo(expectedChange.getOrDefault(accountId, BigDecimal.ZERO)));
+    }
+
+    private static class CountingState implements TransactionJournal.StateHandler {
+
+        private final AtomicInteger balanceDeltas = new AtomicInteger();
+        private final Map<String, BigDecimal> netChange = new ConcurrentHashMap<>();
+
+        @Override
+        public List<Transaction> snapshotTransactions() {
+            return List.of();
+        }
+
+        @Override
+        public List<AccountBalance> snapshotBalances() {
+            return List.of();
+        }
+
+        @Override
+        public void restoreTransaction(Transaction transaction) {
+        }
+
+        @Override
+        public void restoreBalance(AccountBalance balance) {
+        }
+
+        @Override
+        public void replayBalanceDelta(String accountId, BigDecimal amount) {
+            balanceDeltas.incrementAndGet();
+            netChange.merge(accountId, amount, BigDecimal::add);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+import React, { useState, useEffect, useRef } from 'react';
+
+const TRMS_EOD_URL = 'http://localhost:8090/api/v1/eod';
+const FALLBACK_POLL_INTERVAL = 2000;
+
+const STEP_LABELS = {
+  SETTLE_TRANSACTIONS: 'Settle transactions',
+  APPLY_RATE_RESETS: 'Apply rate resets',
+  RECONCILE_BALANCES: 'Reconcile balances',
+  POSITION_SNAPSHOTS: 'Position snapshots',
+  GENERATE_REPORTS: 'Generate reports'
+};
+
+/**
+ * EOD Run Panel Component
+ *
+ * Starts an asynchronous EOD run and shows its live progress from the
+ * job's server-sent event stream, falling back to polling the job status
+ */
+const EODRunPanel = () => {
+  const [job, setJob] = useState(null);
+  const [starting, setStarting] = useState(false);
+  const [forceRun, setForceRun] = useState(false);
+  const [error, setError] = useState(null);
+  const eventSourceRef = useRef(null);
+  const pollRef = useRef(null);
+
+  const stopTracking = () => {
+    if (eventSourceRef.current) {
+      eventSourceRef.current.close();
+      eventSourceRef.current = null;
+    }
+    if (pollRef.current) {
+      clearInterval(pollRef.current);
+      pollRef.current = null;
+    }
+  };
+
+  useEffect(() => stopTracking, []);
+
+  const pollJob = (jobId) => {
+    pollRef.current = setInterval(async () => {
+      try {
+        const response = await fetch(`${TRMS_EOD_URL}/jobs/${jobId}`);
+        if (!response.ok) throw new Error('Failed to fetch EOD job status');
+        const status = await response.json();
+        setJob(status);
+        if (status.finishedAt) stopTracking();
+      } catch (err) {
+        console.error('Error polling EOD job:', err);
+      }
+    }, FALLBACK_POLL_INTERVAL);
+  };
+
+  const trackJob = (jobId) => {
+    stopTracking();
+    const source = new EventSource(`${TRMS_EOD_URL}/jobs/${jobId}/events`);
+    eventSourceRef.current = source;
+
+    source.addEventListener('progress', (event) => setJob(JSON.parse(event.data)));
+    source.addEventListener('complete', (event) => {
+      setJob(JSON.parse(event.data));
+      stopTracking();
+    });
+    source.onerror = () => {
+      // Stream dropped before completion; keep following the job by polling
+      if (eventSourceRef.current) {
+        stopTracking();
+        pollJob(jobId);
+      }
+    };
+  };
+
+  const handleRun = async () => {
+    setStarting(true);
+    setError(null);
+    try {
+      const response = await fetch(`${TRMS_EOD_URL}/run`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ forceRun, initiatedBy: 'dashboard' })
+      });
+      if (!response.ok) throw new Error('Failed to start EOD run');
+      const status = await response.json();
+      setJob(status);
+      trackJob(status.jobId);
+    } catch (err) {
+      console.error('Error starting EOD run:', err);
+      setError(err.message);
+    } finally {
+      setStarting(false);
+    }
+  };
+
+  const running = job && !job.finishedAt;
+  const progress = job ? Math.round(job.progressPercent || 0) : 0;
+  const stateColor = {
+    SUCCEEDED: 'text-green-700 dark:text-green-400',
+    FAILED: 'text-red-700 dark:text-red-400'
+  }[job?.state] || 'text-blue-700 dark:text-blue-400';
+
+  return (
+    <div className="bg-white dark:bg-gray-800 rounded-lg shadow-sm border border-gray-200 dark:border-gray-700 p-4">
+      <div className="flex items-center justify-between mb-4">
+        <h2 className="text-base font-semibold text-gray-900 dark:text-white">
+          EOD Run
+        </h2>
+        <div className="flex items-center space-x-3">
+          <label className="flex items-center text-xs text-gray-600 dark:text-gray-400">
+            <input
+              type="checkbox"
+              className="mr-1"
+              checked={forceRun}
+              onChange={(e) => setForceRun(e.target.checked)}
+              disabled={running}
+            />
+            Force
+          </label>
+          <button
+            onClick={handleRun}
+            disabled={starting || running}
+            className="px-3 py-1 text-xs font-medium text-white bg-blue-600 rounded hover:bg-blue-700 disabled:opacity-50 disabled:cursor-not-allowed"
+          >
+            {running ? 'Running...' : starting ? 'Starting...' : 'Run EOD'}
+          </button>
+        </div>
+      </div>
+
+      {error && (
+        <div className="mb-3 p-2 text-xs text-red-700 dark:text-red-400 bg-red-50 dark:bg-red-900/20 rounded">
+          {error}
+        </div>
+      )}
+
+      {!job ? (
+        <div className="text-center py-4 text-sm text-gray-500 dark:text-gray-400">
+          No EOD run started from this dashboard
+        </div>
+      ) : (
+        <div className="space-y-3">
+          <div className="flex items-center justify-between text-sm">
+            <span className="font-mono text-xs text-gray-600 dark:text-gray-400">{job.jobId}</span>
+            <span className={`font-semibold ${stateColor}`}>{job.state}</span>
+          </div>
+
+          {/* Overall progress */}
+          <div>
+            <div className="w-full h-2 bg-gray-200 dark:bg-gray-700 rounded">
+              <div
+                className="h-2 bg-blue-600 rounded transition-all duration-300"
+                style={{ width: `${progress}%` }}
+              />
+            </div>
+            <div className="text-xs text-gray-500 dark:text-gray-400 mt-1">{progress}% complete</div>
+          </div>
+
+          {/* Current step */}
+          {job.currentStep && (
+            <div className="p-2 bg-blue-50 dark:bg-blue-900/20 rounded text-xs text-gray-700 dark:text-gray-300">
+              <div className="font-medium">{STEP_LABELS[job.currentStep] || job.currentStep}</div>
+              <div>
+                {job.stepItemsProcessed.toLocaleString()} / {job.stepItemsTotal.toLocaleString()} items
+                {' '}({Math.round(job.itemsPerSecond).toLocaleString()} items/s)
+              </div>
+            </div>
+          )}
+
+          {/* Finished steps */}
+          {(job.completedSteps || []).map((step) => (
+            <div key={step.step} className="flex items-center justify-between text-xs text-gray-700 dark:text-gray-300">
+              <span>{STEP_LABELS[step.step] || step.step}</span>
+              <span className={step.status === 'FAILED' ? 'text-red-600 dark:text-red-400' : 'text-gray-500 dark:text-gray-400'}>
+                {step.resumedCompleted
+                  ? 'done earlier'
+                  : `${step.itemsProcessed.toLocaleString()} items, ${step.elapsedMillis} ms`}
+              </span>
+            </div>
+          ))}
+
+          {job.message && (
+            <div className="pt-2 border-t border-gray-200 dark:border-gray-700 text-xs text-gray-600 dark:text-gray-400">
+              {job.message}
+            </div>
+          )}
+        </div>
+      )}
+    </div>
+  );
+};
+
+export default EODRunPanel;
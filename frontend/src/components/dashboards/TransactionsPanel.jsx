@@ -12,6 +12,7 @@ import React, { useState } from 'react';
  */
 const TransactionsPanel = ({ transactions = [], recentTransactions = [], onApprove }) => {
   const [approvingTx, setApprovingTx] = useState(null);
+  const [approvingAll, setApprovingAll] = useState(false);
 
     document.title = "TRMS";
 
@@ -39,6 +40,35 @@ const TransactionsPanel = ({ transactions = [], recentTransactions = [], onAppro
       setApprovingTx(null);
     }
   };
+
+  // Approve every PENDING transaction in a single bulk request
+  const handleApproveAll = async (pendingTransactions) => {
+    setApprovingAll(true);
+    try {
+      const response = await fetch('http://localhost:8090/api/v1/transactions/approve', {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ transactionIds: pendingTransactions.map(tx => tx.transactionId) })
+      });
+
+      if (response.ok) {
+        const result = await response.json();
+        console.log(`Bulk approval: ${result.approved} approved, ${result.skipped} skipped`);
+        if (onApprove) {
+          pendingTransactions
+            .filter(tx => result.approvedTransactionIds.includes(tx.transactionId))
+            .forEach(tx => onApprove(tx));
+        }
+      } else {
+        console.error('Failed to approve pending transactions');
+      }
+    } catch (error) {
+      console.error('Error approving pending transactions:', error);
+    } finally {
+      setApprovingAll(false);
+    }
+  };
+
   // Format currency value
   const formatCurrency = (amount, currency) => {
     return new Intl.NumberFormat('en-US', {
@@ -94,19 +124,32 @@ const TransactionsPanel = ({ transactions = [], recentTransactions = [], onAppro
     })
     .slice(0, 20);
 
+  const pendingTransactions = transactions.filter(tx => tx.status === 'PENDING');
+
   return (
     <div className="bg-white dark:bg-gray-800 rounded-lg shadow-sm border border-gray-200 dark:border-gray-700 p-4">
       <div className="flex items-center justify-between mb-4">
         <h2 className="text-base font-semibold text-gray-900 dark:text-white">
           Recent Transactions
         </h2>
-        <span className="text-xs text-gray-500 dark:text-gray-400">
-          {transactions.length} total {recentTransactions.length > 0 && (
-            <span className="ml-2 px-2 py-0.5 bg-green-100 text-green-800 dark:bg-green-900/30 dark:text-green-400 rounded-full text-xs font-medium">
-              {recentTransactions.length} new
-            </span>
+        <div className="flex items-center gap-3">
+          {pendingTransactions.length > 1 && (
+            <button
+              onClick={() => handleApproveAll(pendingTransactions)}
+              disabled={approvingAll}
+              className="inline-flex items-center px-3 py-1 text-xs font-medium rounded-md text-white bg-green-600 hover:bg-green-700 disabled:bg-gray-400 disabled:cursor-not-allowed transition-colors"
+            >
+              {approvingAll ? 'Approving...' : `Approve all pending (${pendingTransactions.length})`}
+            </button>
           )}
-        </span>
+          <span className="text-xs text-gray-500 dark:text-gray-400">
+            {transactions.length} total {recentTransactions.length > 0 && (
+              <span className="ml-2 px-2 py-0.5 bg-green-100 text-green-800 dark:bg-green-900/30 dark:text-green-400 rounded-full text-xs font-medium">
+                {recentTransactions.length} new
+              </span>
+            )}
+          </span>
+        </div>
       </div>
 
       {sortedTransactions.length === 0 ? (
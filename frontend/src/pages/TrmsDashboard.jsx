@@ -4,6 +4,7 @@ import useTrmsData from '../hooks/useTrmsData';
 import AccountsPanel from '../components/dashboards/AccountsPanel';
 import TransactionsPanel from '../components/dashboards/TransactionsPanel';
 import EODStatusPanel from '../components/dashboards/EODStatusPanel';
+import EODRunPanel from '../components/dashboards/EODRunPanel';
 
 /**
  * TRMS Dashboard Page
@@ -110,8 +111,9 @@ const TrmsDashboard = () => {
             </div>
 
             {/* Right Column - EOD Status */}
-            <div className="lg:col-span-1">
+            <div className="lg:col-span-1 space-y-6">
               <EODStatusPanel eodStatus={eodStatus} />
+              <EODRunPanel />
             </div>
           </div>
         )}